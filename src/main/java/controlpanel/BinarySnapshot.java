@@ -0,0 +1,382 @@
+package controlpanel;
+
+import money.Account;
+import money.BankTracker;
+import money.Expenditure;
+import money.Goal;
+import money.Income;
+import money.Instalment;
+import money.Loan;
+import money.Money;
+import money.StringPool;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This class reads and writes the binary snapshot of an Account.
+ * The snapshot starts with a header (magic number, version, first journal segment not contained,
+ * INIT and BS), followed by a table of the distinct strings and one section per record type.
+ * Each section holds its record count and then one fixed-width column per field: amounts are
+ * stored as long cents, dates as int epoch days and strings as int ids into the string table.
+ * The file is read through a memory mapping, so no line has to be split or parsed on load.
+ */
+public class BinarySnapshot {
+
+    private static final int MAGIC = 0x46474231;
+    private static final int VERSION = 1;
+    private static final int NO_DATE = Integer.MIN_VALUE;
+
+    private String filePath;
+    private DateTimeFormatter dateTimeFormatter;
+
+    /**
+     * Constructor for the binary snapshot of a data file.
+     * @param filePath FilePath of the binary snapshot
+     */
+    public BinarySnapshot(String filePath) {
+        this.filePath = filePath;
+        dateTimeFormatter = DateTimeFormatter.ofPattern("d/M/yyyy");
+    }
+
+    public String getFilePath() {
+        return filePath;
+    }
+
+    public boolean exists() {
+        return new File(filePath).exists();
+    }
+
+    /**
+     * Reads the number of the first journal segment that the snapshot does not contain.
+     * @return the first segment to replay on top of the snapshot
+     * @throws IOException if the snapshot cannot be read or is not a snapshot
+     */
+    public int readFirstSegment() throws IOException {
+        try (FileChannel channel = FileChannel.open(new File(filePath).toPath(), StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, Math.min(channel.size(), 12));
+            checkHeader(buffer);
+            return buffer.getInt(8);
+        }
+    }
+
+    /**
+     * Loads the records of the snapshot into an account.
+     * @param account Account object to add the records to
+     * @return the number of the first journal segment that the snapshot does not contain
+     * @throws IOException if the snapshot cannot be read or is not a snapshot
+     * @throws DukeException if a record in the snapshot is invalid
+     */
+    public int load(Account account) throws IOException, DukeException {
+        try (FileChannel channel = FileChannel.open(new File(filePath).toPath(), StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            checkHeader(buffer);
+            buffer.position(8);
+            final int firstSegment = buffer.getInt();
+            account.setToInitialize(buffer.get() == 1);
+            account.setBaseSavings(Money.ofCents(buffer.getLong()));
+            String[] strings = readStrings(buffer, account.getStringPool());
+            readIncomes(buffer, strings, account.getIncomeListTotal());
+            readExpenditures(buffer, strings, account.getExpListTotal());
+            readGoals(buffer, strings, account.getShortTermGoals());
+            readInstalments(buffer, strings, account.getInstalments());
+            readLoans(buffer, strings, account.getLoans());
+            readBankTrackers(buffer, strings, account.getBankTrackerList());
+            return firstSegment;
+        }
+    }
+
+    /**
+     * Writes the records of an account into a binary snapshot file.
+     * @param file File to write the snapshot to
+     * @param firstSegment Number of the first journal segment that the snapshot does not contain
+     * @param account Account object containing the records to write
+     * @throws IOException if the snapshot cannot be written
+     */
+    public void write(File file, int firstSegment, Account account) throws IOException {
+        FileOutputStream fileOutputStream = new FileOutputStream(file);
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(fileOutputStream, 1 << 16));
+        StringTable strings = new StringTable();
+        collectStrings(account, strings);
+
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(firstSegment);
+        out.writeByte(account.isToInitialize() ? 1 : 0);
+        out.writeLong(account.getBaseSavingsCents());
+        strings.write(out);
+
+        List<Income> incomes = account.getIncomeListTotal();
+        out.writeInt(incomes.size());
+        for (Income i : incomes) {
+            out.writeLong(i.getPriceCents());
+        }
+        for (Income i : incomes) {
+            out.writeInt((int) i.getPayday().toEpochDay());
+        }
+        for (Income i : incomes) {
+            out.writeInt(strings.idOf(i.getDescription()));
+        }
+
+        writeExpenditures(out, strings, account.getExpListTotal());
+        List<Goal> goals = account.getShortTermGoals();
+        writeExpenditures(out, strings, goals);
+        for (Goal g : goals) {
+            out.writeByte(g.getPriority().ordinal());
+        }
+        List<Instalment> instalments = account.getInstalments();
+        writeExpenditures(out, strings, instalments);
+        for (Instalment ins : instalments) {
+            out.writeInt(ins.getNumOfPayments());
+        }
+        for (Instalment ins : instalments) {
+            out.writeDouble(ins.getAnnualInterestRate());
+        }
+
+        List<Loan> loans = account.getLoans();
+        out.writeInt(loans.size());
+        for (Loan l : loans) {
+            out.writeLong(l.getPriceCents());
+        }
+        for (Loan l : loans) {
+            out.writeInt(strings.idOf(l.getDescription()));
+        }
+        for (Loan l : loans) {
+            out.writeInt((int) LocalDate.parse(l.getStartDate(), dateTimeFormatter).toEpochDay());
+        }
+        for (Loan l : loans) {
+            out.writeInt(l.getEndDate().equals("") ? NO_DATE
+                    : (int) LocalDate.parse(l.getEndDate(), dateTimeFormatter).toEpochDay());
+        }
+        for (Loan l : loans) {
+            out.writeByte(l.getType().ordinal());
+        }
+        for (Loan l : loans) {
+            out.writeByte(l.getStatusInt());
+        }
+        for (Loan l : loans) {
+            out.writeLong(l.getOutstandingCents());
+        }
+
+        List<BankTracker> bankTrackers = account.getBankTrackerList();
+        out.writeInt(bankTrackers.size());
+        for (BankTracker b : bankTrackers) {
+            out.writeLong(b.getAmtCents());
+        }
+        for (BankTracker b : bankTrackers) {
+            out.writeInt(strings.idOf(b.getDescription()));
+        }
+        for (BankTracker b : bankTrackers) {
+            out.writeInt((int) b.getLatestDate().toEpochDay());
+        }
+        for (BankTracker b : bankTrackers) {
+            out.writeDouble(b.getRate());
+        }
+        out.flush();
+        fileOutputStream.getFD().sync();
+        out.close();
+    }
+
+    private void writeExpenditures(DataOutputStream out, StringTable strings,
+                                   List<? extends Expenditure> expenditures) throws IOException {
+        out.writeInt(expenditures.size());
+        for (Expenditure exp : expenditures) {
+            out.writeLong(exp.getPriceCents());
+        }
+        for (Expenditure exp : expenditures) {
+            out.writeInt((int) exp.getDateBoughtDate().toEpochDay());
+        }
+        for (Expenditure exp : expenditures) {
+            out.writeInt(strings.idOf(exp.getDescription()));
+        }
+        for (Expenditure exp : expenditures) {
+            out.writeInt(strings.idOf(exp.getCategory()));
+        }
+    }
+
+    private void collectStrings(Account account, StringTable strings) {
+        for (Income i : account.getIncomeListTotal()) {
+            strings.add(i.getDescription());
+        }
+        collectExpenditureStrings(account.getExpListTotal(), strings);
+        collectExpenditureStrings(account.getShortTermGoals(), strings);
+        collectExpenditureStrings(account.getInstalments(), strings);
+        for (Loan l : account.getLoans()) {
+            strings.add(l.getDescription());
+        }
+        for (BankTracker b : account.getBankTrackerList()) {
+            strings.add(b.getDescription());
+        }
+    }
+
+    private void collectExpenditureStrings(List<? extends Expenditure> expenditures, StringTable strings) {
+        for (Expenditure exp : expenditures) {
+            strings.add(exp.getDescription());
+            strings.add(exp.getCategory());
+        }
+    }
+
+    private void checkHeader(MappedByteBuffer buffer) throws IOException {
+        if (buffer.limit() < 12 || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IOException("OOPS!! " + filePath + " is not a Financial Ghost snapshot!");
+        }
+    }
+
+    private String[] readStrings(MappedByteBuffer buffer, StringPool pool) {
+        String[] strings = new String[buffer.getInt()];
+        byte[] bytes = new byte[64];
+        for (int i = 0; i < strings.length; i++) {
+            int length = buffer.getInt();
+            if (length > bytes.length) {
+                bytes = new byte[Math.max(length, bytes.length * 2)];
+            }
+            buffer.get(bytes, 0, length);
+            strings[i] = pool.intern(new String(bytes, 0, length, StandardCharsets.UTF_8));
+        }
+        return strings;
+    }
+
+    private void readIncomes(MappedByteBuffer buffer, String[] strings, List<Income> incomes) {
+        int count = buffer.getInt();
+        int cents = buffer.position();
+        int days = cents + count * Long.BYTES;
+        int descriptions = days + count * Integer.BYTES;
+        for (int i = 0; i < count; i++) {
+            incomes.add(new Income(Money.ofCents(buffer.getLong(cents + i * Long.BYTES)),
+                    strings[buffer.getInt(descriptions + i * Integer.BYTES)],
+                    LocalDate.ofEpochDay(buffer.getInt(days + i * Integer.BYTES))));
+        }
+        buffer.position(descriptions + count * Integer.BYTES);
+    }
+
+    private void readExpenditures(MappedByteBuffer buffer, String[] strings, List<Expenditure> expenditures) {
+        int count = buffer.getInt();
+        int cents = buffer.position();
+        int days = cents + count * Long.BYTES;
+        int descriptions = days + count * Integer.BYTES;
+        int categories = descriptions + count * Integer.BYTES;
+        for (int i = 0; i < count; i++) {
+            expenditures.add(new Expenditure(Money.ofCents(buffer.getLong(cents + i * Long.BYTES)),
+                    strings[buffer.getInt(descriptions + i * Integer.BYTES)],
+                    strings[buffer.getInt(categories + i * Integer.BYTES)],
+                    LocalDate.ofEpochDay(buffer.getInt(days + i * Integer.BYTES))));
+        }
+        buffer.position(categories + count * Integer.BYTES);
+    }
+
+    private void readGoals(MappedByteBuffer buffer, String[] strings, List<Goal> goals) throws DukeException {
+        int count = buffer.getInt();
+        int cents = buffer.position();
+        int days = cents + count * Long.BYTES;
+        int descriptions = days + count * Integer.BYTES;
+        int categories = descriptions + count * Integer.BYTES;
+        int priorities = categories + count * Integer.BYTES;
+        Goal.Priority[] priorityLevels = Goal.Priority.values();
+        for (int i = 0; i < count; i++) {
+            goals.add(new Goal(Money.ofCents(buffer.getLong(cents + i * Long.BYTES)),
+                    strings[buffer.getInt(descriptions + i * Integer.BYTES)],
+                    strings[buffer.getInt(categories + i * Integer.BYTES)],
+                    LocalDate.ofEpochDay(buffer.getInt(days + i * Integer.BYTES)),
+                    priorityLevels[buffer.get(priorities + i)].toString()));
+        }
+        buffer.position(priorities + count);
+    }
+
+    private void readInstalments(MappedByteBuffer buffer, String[] strings, List<Instalment> instalments) {
+        int count = buffer.getInt();
+        int cents = buffer.position();
+        int days = cents + count * Long.BYTES;
+        int descriptions = days + count * Integer.BYTES;
+        int categories = descriptions + count * Integer.BYTES;
+        int payments = categories + count * Integer.BYTES;
+        int rates = payments + count * Integer.BYTES;
+        for (int i = 0; i < count; i++) {
+            instalments.add(new Instalment(Money.ofCents(buffer.getLong(cents + i * Long.BYTES)),
+                    strings[buffer.getInt(descriptions + i * Integer.BYTES)],
+                    strings[buffer.getInt(categories + i * Integer.BYTES)],
+                    LocalDate.ofEpochDay(buffer.getInt(days + i * Integer.BYTES)),
+                    buffer.getInt(payments + i * Integer.BYTES),
+                    (float) buffer.getDouble(rates + i * Double.BYTES) * 100));
+        }
+        buffer.position(rates + count * Double.BYTES);
+    }
+
+    private void readLoans(MappedByteBuffer buffer, String[] strings, List<Loan> loans) {
+        int count = buffer.getInt();
+        int cents = buffer.position();
+        int descriptions = cents + count * Long.BYTES;
+        int startDays = descriptions + count * Integer.BYTES;
+        int endDays = startDays + count * Integer.BYTES;
+        int types = endDays + count * Integer.BYTES;
+        int statuses = types + count;
+        int outstanding = statuses + count;
+        Loan.Type[] loanTypes = Loan.Type.values();
+        for (int i = 0; i < count; i++) {
+            Loan l = new Loan(Money.ofCents(buffer.getLong(cents + i * Long.BYTES)),
+                    strings[buffer.getInt(descriptions + i * Integer.BYTES)],
+                    LocalDate.ofEpochDay(buffer.getInt(startDays + i * Integer.BYTES)), Loan.Type.ALL);
+            int endDay = buffer.getInt(endDays + i * Integer.BYTES);
+            String endDate = endDay == NO_DATE ? "" : LocalDate.ofEpochDay(endDay).format(dateTimeFormatter);
+            l.updateExistingLoan(loanTypes[buffer.get(types + i)].toString(), endDate, buffer.get(statuses + i),
+                    Money.ofCents(buffer.getLong(outstanding + i * Long.BYTES)));
+            loans.add(l);
+        }
+        buffer.position(outstanding + count * Long.BYTES);
+    }
+
+    private void readBankTrackers(MappedByteBuffer buffer, String[] strings, List<BankTracker> bankTrackers) {
+        int count = buffer.getInt();
+        int cents = buffer.position();
+        int descriptions = cents + count * Long.BYTES;
+        int days = descriptions + count * Integer.BYTES;
+        int rates = days + count * Integer.BYTES;
+        for (int i = 0; i < count; i++) {
+            bankTrackers.add(new BankTracker(strings[buffer.getInt(descriptions + i * Integer.BYTES)],
+                    Money.ofCents(buffer.getLong(cents + i * Long.BYTES)),
+                    LocalDate.ofEpochDay(buffer.getInt(days + i * Integer.BYTES)),
+                    buffer.getDouble(rates + i * Double.BYTES)));
+        }
+        buffer.position(rates + count * Double.BYTES);
+    }
+
+    /**
+     * The table of distinct strings in a snapshot, in the order they were first seen.
+     */
+    private static class StringTable {
+        private Map<String, Integer> ids = new HashMap<>();
+        private List<String> strings = new ArrayList<>();
+
+        void add(String string) {
+            if (!ids.containsKey(string)) {
+                ids.put(string, strings.size());
+                strings.add(string);
+            }
+        }
+
+        int idOf(String string) {
+            return ids.get(string);
+        }
+
+        void write(DataOutputStream out) throws IOException {
+            out.writeInt(strings.size());
+            for (String string : strings) {
+                byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+        }
+    }
+}
@@ -4,8 +4,10 @@ import guicontroller.CircleChart;
 import guicontroller.Histogram;
 import javafx.scene.layout.HBox;
 import money.Account;
+import money.CategoryIndex;
 import money.Expenditure;
 import money.Income;
+import money.Money;
 
 import java.io.IOException;
 import java.time.LocalDate;
@@ -57,17 +59,11 @@ public interface DataTransfer {
      * @throws IOException The IOE exception
      */
     static HBox getExpenditureTrend(Account account, String type) throws IOException {
-        ArrayList<Expenditure> expList = account.getExpListTotal();
-        ArrayList<String> dataX = new ArrayList<>();
-        ArrayList<Float> dataY = new ArrayList<>();
-        for (Expenditure e : expList) {
-            if (dataX.contains(e.getCategory())) {
-                int index = dataX.indexOf(e.getCategory());
-                dataY.set(index, dataY.get(index) + e.getPrice());
-            } else {
-                dataX.add(e.getCategory());
-                dataY.add(e.getPrice());
-            }
+        CategoryIndex<Expenditure> categories = account.getExpCategoryIndex();
+        ArrayList<String> dataX = new ArrayList<>(categories.getCategories());
+        ArrayList<Float> dataY = new ArrayList<>(dataX.size());
+        for (String category : dataX) {
+            dataY.add(Money.toFloat(categories.getTotalCents(category)));
         }
 
         if (type.equals("PIE_CHART")) {
@@ -89,17 +85,11 @@ public interface DataTransfer {
      * @throws IOException The IOE exception
      */
     static HBox getIncomeTrend(Account account, String type) throws IOException {
-        ArrayList<Income> incomeList = account.getIncomeListTotal();
-        ArrayList<String> dataX = new ArrayList<>();
-        ArrayList<Float> dataY = new ArrayList<>();
-        for (Income e : incomeList) {
-            if (dataX.contains(e.getDescription())) {
-                int index = dataX.indexOf(e.getDescription());
-                dataY.set(index, dataY.get(index) + e.getPrice());
-            } else {
-                dataX.add(e.getDescription());
-                dataY.add(e.getPrice());
-            }
+        CategoryIndex<Income> sources = account.getIncomeSourceIndex();
+        ArrayList<String> dataX = new ArrayList<>(sources.getCategories());
+        ArrayList<Float> dataY = new ArrayList<>(dataX.size());
+        for (String source : dataX) {
+            dataY.add(Money.toFloat(sources.getTotalCents(source)));
         }
         if (type.equals("PIE_CHART")) {
             return CircleChart.getCircleChart("Overall Income Trend", dataX, dataY);
@@ -114,14 +104,13 @@ public interface DataTransfer {
      * This function helps to get the data about the user's 3-month income and expenditure
      * information until the given date from class Account, then transfer it to the specific getter
      * to get the 2-series histogram. Finally, the getter will returns the histogram.
+     * The records of each month are looked up in the date indexes of the account.
      * @param account The class contains all the user's data
      * @param endDate The given end date for the financial status report
      * @return A histogram with the income and expenditure
      * @throws IOException The IOE exception
      */
     static Histogram getCurrFinance(Account account, LocalDate endDate) throws IOException {
-        ArrayList<Income> incomeList = account.getIncomeListTotal();
-        final ArrayList<Expenditure> expList = account.getExpListTotal();
         ArrayList<String> dataX = new ArrayList<>();
         ArrayList<Float> dataY1 = new ArrayList<>();
         ArrayList<Float> dataY2 = new ArrayList<>();
@@ -136,20 +125,14 @@ public interface DataTransfer {
             dataY2.add((float) 0);
         }
 
-        for (Income e : incomeList) {
-            for (int i = NUMBER_OF_MONTHS - 1; i >= 0; i--) {
-                if (e.getPayday().isBefore(endDate) && e.getPayday().isAfter(dateList[i])) {
-                    dataY1.set(i, dataY1.get(i) + e.getPrice());
-                    break;
-                }
+        for (int i = 0; i < NUMBER_OF_MONTHS; i++) {
+            LocalDate from = dateList[i].plusDays(1);
+            LocalDate to = i == NUMBER_OF_MONTHS - 1 ? endDate.minusDays(1) : dateList[i + 1];
+            for (Income e : account.getIncomeTimeIndex().between(from, to)) {
+                dataY1.set(i, dataY1.get(i) + e.getPrice());
             }
-        }
-        for (Expenditure e : expList) {
-            for (int i = NUMBER_OF_MONTHS - 1; i >= 0; i--) {
-                if (e.getDateBoughtDate().isBefore(endDate) && e.getDateBoughtDate().isAfter(dateList[i])) {
-                    dataY2.set(i, dataY2.get(i) + e.getPrice());
-                    break;
-                }
+            for (Expenditure e : account.getExpTimeIndex().between(from, to)) {
+                dataY2.set(i, dataY2.get(i) + e.getPrice());
             }
         }
         return Histogram.getTwoSeriesHistogram("Current Financial Status", dataX, dataY1, dataY2);
@@ -15,7 +15,7 @@ import java.text.ParseException;
 public class FG {
 
     private Ui ui;
-    private MoneyStorage moneyStorage;
+    private StorageEngine moneyStorage;
     private Account account;
     private UndoCommandHandler undoCommandHandler;
 
@@ -27,7 +27,15 @@ public class FG {
         Path moneyDir = Paths.get("dataFG/moneyAccount.txt");
         String moneyFilePath = moneyDir.toAbsolutePath().toString();
         ui = new Ui();
-        moneyStorage = new MoneyStorage(moneyFilePath);
+        try {
+            moneyStorage = StorageEngine.open(System.getProperty("fg.storage", "journal"), moneyFilePath);
+        } catch (DukeException e) {
+            System.out.println(ui.showError(e.getMessage()));
+            moneyStorage = new MoneyStorage(moneyFilePath, true);
+        }
+        if (moneyStorage instanceof MoneyStorage) {
+            configureStorage((MoneyStorage) moneyStorage);
+        }
         undoCommandHandler = new UndoCommandHandler();
         try {
             account = new Account(moneyStorage.load());//need to load from storage on program init
@@ -35,6 +43,26 @@ public class FG {
             ui.showLoadingError();
             account = new Account();
         }
+        account.buildTextIndexes();
+    }
+
+    /**
+     * Applies the durability, journal threshold and write-behind delay given as system properties.
+     * An unknown durability mode falls back to the default one.
+     * @param storage The storage engine that keeps the account on disk
+     */
+    private void configureStorage(MoneyStorage storage) {
+        try {
+            storage.setDurability(GroupCommit.parseDurability(
+                    System.getProperty("fg.durability", GroupCommit.DEFAULT_DURABILITY.name())));
+        } catch (DukeException e) {
+            System.out.println(ui.showError(e.getMessage()));
+            storage.setDurability(GroupCommit.DEFAULT_DURABILITY);
+        }
+        if (storage.isJournaled()) {
+            storage.getJournal().setThreshold(Long.getLong("fg.journalThreshold", MoneyJournal.DEFAULT_THRESHOLD));
+        }
+        storage.setWriteBehind(Long.getLong("fg.writeBehindDelay", MoneyWriteBehind.DEFAULT_MAX_DELAY));
     }
 
     /**
@@ -42,24 +70,27 @@ public class FG {
      * @return a line that the program will print out in response to a user's commands
      */
     public String[] getResponse(String input) {
+        boolean isExit = false;
         try {
             ui.clearOutputString();
             ui.appendToOutput(ui.showLine());
             ui.clearGraphContainerString();
 
-            boolean isNewUser = account.isToInitialize();
-            MoneyCommand updateCommand = new AutoUpdateInstalmentCommand();
-            updateCommand.execute(account, ui, moneyStorage);
-            MoneyCommand c = Parser.moneyParse(input, isNewUser);
-            if (c.isExit()) {
-                moneyStorage.writeToFile(account);
-                System.exit(0);
-            } else if (!c.getClass().equals(UndoCommand.class)) {
-                c.execute(account, ui, moneyStorage);
-                undoCommandHandler.updateLastIssuedCommands(c);
-            } else {
-                c = undoCommandHandler.getLastIssuedCommand();
-                c.undo(account, ui, moneyStorage);
+            synchronized (account) {
+                boolean isNewUser = account.isToInitialize();
+                MoneyCommand updateCommand = new AutoUpdateInstalmentCommand();
+                updateCommand.execute(account, ui, moneyStorage);
+                MoneyCommand c = Parser.moneyParse(input, isNewUser);
+                if (c.isExit()) {
+                    moneyStorage.writeToFile(account);
+                    isExit = true;
+                } else if (!c.getClass().equals(UndoCommand.class)) {
+                    c.execute(account, ui, moneyStorage);
+                    undoCommandHandler.updateLastIssuedCommands(c);
+                } else {
+                    c = undoCommandHandler.getLastIssuedCommand();
+                    c.undo(account, ui, moneyStorage);
+                }
             }
 
         } catch (ParseException | DukeException e) {
@@ -71,6 +102,10 @@ public class FG {
         } finally {
             ui.appendToOutput(ui.showLine());
         }
+        if (isExit) {
+            moneyStorage.close();
+            System.exit(0);
+        }
         return new String[]{ui.getOutputString(), ui.getGraphContainerString()};
     }
 
@@ -0,0 +1,222 @@
+package controlpanel;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * This class decides when the writes of MoneyStorage are forced to disk.
+ * With NONE durability writes are left to the operating system, with STRICT durability every
+ * commit forces its file before it returns. With BATCHED durability a commit returns at once and
+ * a background thread forces every file committed within a short window with one fsync each,
+ * so a burst of commands costs a few fsyncs and at most one window of changes is at risk.
+ */
+public class GroupCommit {
+
+    /**
+     * How strongly a commit is forced to disk.
+     */
+    public enum Durability {
+        NONE,
+        BATCHED,
+        STRICT
+    }
+
+    public static final long DEFAULT_WINDOW = 10;
+    public static final Durability DEFAULT_DURABILITY = Durability.BATCHED;
+
+    private Durability durability;
+    private long window;
+    private Set<FileChannel> pending;
+    private final Object syncLock = new Object();
+    private Thread syncer;
+    private volatile int commitCount;
+    private volatile int syncCount;
+
+    /**
+     * Returns the durability mode with the given name, ignoring case.
+     * @param name Name of the mode
+     * @return the durability mode
+     * @throws DukeException if there is no mode with the given name
+     */
+    public static Durability parseDurability(String name) throws DukeException {
+        try {
+            return Durability.valueOf(name.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new DukeException("There is no durability mode called " + name + ", try none, batched or strict");
+        }
+    }
+
+    /**
+     * Constructor for the group commit of a storage.
+     * @param durability How strongly commits are forced to disk
+     */
+    public GroupCommit(Durability durability) {
+        this.durability = durability;
+        window = DEFAULT_WINDOW;
+        pending = new LinkedHashSet<>();
+    }
+
+    /**
+     * Commits the data written to a file, forcing it to disk as the durability requires.
+     * @param channel The file that was written
+     * @throws IOException if the file cannot be forced to disk
+     */
+    public void commit(FileChannel channel) throws IOException {
+        commitCount++;
+        switch (durability) {
+        case STRICT:
+            channel.force(false);
+            syncCount++;
+            break;
+        case BATCHED:
+            synchronized (this) {
+                startSyncer();
+                pending.add(channel);
+                notifyAll();
+            }
+            break;
+        default:
+            break;
+        }
+    }
+
+    /**
+     * Forces every file with commits that are not on disk yet, and returns once they are.
+     * @throws IOException if a file cannot be forced to disk
+     */
+    public void sync() throws IOException {
+        synchronized (syncLock) {
+            List<FileChannel> channels;
+            synchronized (this) {
+                channels = new ArrayList<>(pending);
+                pending.clear();
+            }
+            force(channels);
+        }
+    }
+
+    /**
+     * Closes a file that will not be written again, forcing its commits to disk first.
+     * A file that the background thread is forcing at the time is closed under it; its commits
+     * are then only as durable as the operating system makes them.
+     * @param channel The file to close
+     * @throws IOException if the file cannot be forced to disk
+     */
+    public void close(FileChannel channel) throws IOException {
+        boolean isPending;
+        synchronized (this) {
+            isPending = pending.remove(channel);
+        }
+        if (isPending) {
+            channel.force(false);
+            syncCount++;
+        }
+        channel.close();
+    }
+
+    /**
+     * Renames a fully written temporary file over the target file, so that a crash leaves
+     * either the old or the new target and never a partly written one. Unless durability is NONE
+     * the temporary file is forced to disk first, and the rename itself after.
+     * @param tempFile The temporary file, already written and closed
+     * @param target The file to replace
+     * @throws IOException if the temporary file cannot be forced or renamed
+     */
+    public void replace(File tempFile, File target) throws IOException {
+        if (durability != Durability.NONE) {
+            try (FileChannel channel = FileChannel.open(tempFile.toPath(), StandardOpenOption.WRITE)) {
+                channel.force(true);
+            }
+        }
+        try {
+            Files.move(tempFile.toPath(), target.toPath(),
+                    StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+        if (durability != Durability.NONE) {
+            forceDirectory(target.getAbsoluteFile().getParentFile());
+            syncCount++;
+        }
+    }
+
+    public Durability getDurability() {
+        return durability;
+    }
+
+    public void setWindow(long window) {
+        this.window = window;
+    }
+
+    public long getWindow() {
+        return window;
+    }
+
+    public int getCommitCount() {
+        return commitCount;
+    }
+
+    public int getSyncCount() {
+        return syncCount;
+    }
+
+    private void startSyncer() {
+        if (syncer != null) {
+            return;
+        }
+        syncer = new Thread(this::runSyncer, "money-sync");
+        syncer.setDaemon(true);
+        syncer.start();
+    }
+
+    private void runSyncer() {
+        while (true) {
+            try {
+                synchronized (this) {
+                    while (pending.isEmpty()) {
+                        wait();
+                    }
+                }
+                Thread.sleep(window);
+                sync();
+            } catch (InterruptedException e) {
+                return;
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    private void force(List<FileChannel> channels) throws IOException {
+        for (FileChannel channel : channels) {
+            try {
+                channel.force(false);
+                syncCount++;
+            } catch (ClosedChannelException e) {
+                continue;
+            }
+        }
+    }
+
+    /**
+     * Forces the entry of a renamed file in its directory to disk. Not every platform can open a
+     * directory, and there the rename is left to the operating system.
+     */
+    private void forceDirectory(File directory) {
+        try (FileChannel channel = FileChannel.open(directory.toPath(), StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            return;
+        }
+    }
+}
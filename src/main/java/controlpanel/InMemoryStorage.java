@@ -0,0 +1,76 @@
+package controlpanel;
+
+import money.Account;
+import money.BankTracker;
+import money.Item;
+
+/**
+ * This class is a storage engine that keeps the account in memory only and writes nothing,
+ * for benchmarks and tests that should not depend on the disk.
+ */
+public class InMemoryStorage implements StorageEngine {
+
+    private Account account;
+    private UndoStash undoStash;
+    private int writeCount;
+
+    /**
+     * Constructor for an in-memory storage that starts with a new account.
+     */
+    public InMemoryStorage() {
+        this(new Account());
+    }
+
+    /**
+     * Constructor for an in-memory storage that starts with the given account.
+     * @param account The account that load returns
+     */
+    public InMemoryStorage(Account account) {
+        this.account = account;
+        undoStash = new UndoStash();
+    }
+
+    @Override
+    public Account load() {
+        return account;
+    }
+
+    @Override
+    public void writeToFile(Account account) {
+        this.account = account;
+        writeCount++;
+    }
+
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    public long getStoredBytes() {
+        return 0;
+    }
+
+    public int getWriteCount() {
+        return writeCount;
+    }
+
+    @Override
+    public void addDeletedEntry(Item item) {
+        undoStash.addDeletedEntry(item);
+    }
+
+    @Override
+    public Item getDeletedEntry() {
+        return undoStash.getDeletedEntry();
+    }
+
+    @Override
+    public void addDeletedBank(BankTracker bankTracker) {
+        undoStash.addDeletedBank(bankTracker);
+    }
+
+    @Override
+    public BankTracker getDeletedBankTracker() {
+        return undoStash.getDeletedBankTracker();
+    }
+}
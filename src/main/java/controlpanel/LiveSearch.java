@@ -0,0 +1,218 @@
+package controlpanel;
+
+import money.Account;
+import money.Expenditure;
+import money.Goal;
+import money.Income;
+import money.Instalment;
+import money.Item;
+import money.Loan;
+import money.RecordList;
+import moneycommands.FindCommand;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * This class runs the searches of the search bar on a background thread as the user types, so that
+ * typing never waits for a search. A search starts once the search bar has been quiet for a short
+ * while. A keystroke does not stop a search that is running, but its results are then dropped.
+ * The records are found under the lock of the account, which gives the search a snapshot that
+ * commands cannot change halfway, and are formatted after the lock is released. Finding them only
+ * reads the text indexes, which FG builds when the account is loaded, so a command never waits
+ * for an index to be built. When a search extends the one before it, such as "nood" after "noo",
+ * and the account has not changed since, the records found before are narrowed down instead of
+ * searching the whole account again.
+ * Searches do not go through FG.getResponse, so they neither run commands nor touch the Ui.
+ */
+public class LiveSearch {
+
+    public static final long DEFAULT_DELAY = 120;
+    private static final int MOST_REFINED = 5000;
+
+    /**
+     * Receives the results of the searches, on the search thread.
+     */
+    public interface Listener {
+        /**
+         * Receives the results of a search that no keystroke came after.
+         * @param query The words searched for
+         * @param results The records found, formatted as find# formats them
+         */
+        void found(String query, String results);
+    }
+
+    private final Account account;
+    private final Listener listener;
+    private final long delay;
+    private String pendingQuery;
+    private long lastKeystrokeTime;
+    private volatile long generation;
+    private volatile long accountVersion;
+    private Results lastResults;
+    private volatile int searchCount;
+    private volatile int refineCount;
+
+    /**
+     * Constructor for the searches of an account, which starts the search thread.
+     * @param account Account object to search
+     * @param delay Time in milliseconds that the search bar must be quiet before a search starts
+     * @param listener Receives the results of the searches
+     */
+    public LiveSearch(Account account, long delay, Listener listener) {
+        this.account = account;
+        this.delay = delay;
+        this.listener = listener;
+        follow(account.getShortTermGoals());
+        follow(account.getIncomeListTotal());
+        follow(account.getExpListTotal());
+        follow(account.getLoans());
+        follow(account.getInstalments());
+        Thread searcher = new Thread(this::runSearcher, "money-search");
+        searcher.setDaemon(true);
+        searcher.start();
+    }
+
+    /**
+     * Searches for the text of the search bar once it has been quiet for the delay, dropping the
+     * results of the search that is running. Blank text only drops them.
+     * @param query The text of the search bar
+     */
+    public synchronized void submit(String query) {
+        generation++;
+        pendingQuery = query.trim().isEmpty() ? null : query;
+        lastKeystrokeTime = System.currentTimeMillis();
+        notifyAll();
+    }
+
+    public int getSearchCount() {
+        return searchCount;
+    }
+
+    public int getRefineCount() {
+        return refineCount;
+    }
+
+    private <T> void follow(RecordList<T> records) {
+        records.addListener(new RecordList.Listener<T>() {
+            @Override
+            public void added(int index, T record) {
+                accountVersion++;
+            }
+
+            @Override
+            public void removed(int index, T record) {
+                accountVersion++;
+            }
+        });
+    }
+
+    private void runSearcher() {
+        while (true) {
+            String query;
+            long searchGeneration;
+            synchronized (this) {
+                try {
+                    long wait = waitTime();
+                    while (wait != 0) {
+                        wait(Math.max(wait, 0));
+                        wait = waitTime();
+                    }
+                } catch (InterruptedException e) {
+                    return;
+                }
+                query = pendingQuery;
+                pendingQuery = null;
+                searchGeneration = generation;
+            }
+            try {
+                search(query, searchGeneration);
+            } catch (RuntimeException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Returns how long the search thread waits before the next search: -1 if there is nothing to
+     * search for, which waits until a keystroke, and 0 if the search can start.
+     */
+    private long waitTime() {
+        if (pendingQuery == null) {
+            return -1;
+        }
+        return Math.max(lastKeystrokeTime + delay - System.currentTimeMillis(), 0);
+    }
+
+    private void search(String query, long searchGeneration) {
+        Results results;
+        synchronized (account) {
+            if (searchGeneration != generation) {
+                return;
+            }
+            Results previous = lastResults;
+            if (previous != null && previous.version == accountVersion && query.startsWith(previous.query)
+                    && previous.size() <= MOST_REFINED) {
+                results = previous.refine(account, query);
+                refineCount++;
+            } else {
+                results = new Results(account, query, accountVersion);
+                searchCount++;
+            }
+        }
+        if (searchGeneration != generation) {
+            return;
+        }
+        lastResults = results;
+        String formatted = FindCommand.format(results.all());
+        if (searchGeneration == generation) {
+            listener.found(query, formatted);
+        }
+    }
+
+    /**
+     * The records of every kind found for a search, and the version of the account they were found in.
+     */
+    private static class Results {
+        private final String query;
+        private final long version;
+        private final List<Goal> goals;
+        private final List<Income> incomes;
+        private final List<Expenditure> expenditures;
+        private final List<Loan> loans;
+        private final List<Instalment> instalments;
+
+        private Results(Account account, String query, long version) {
+            this(query, version, account.getGoalTextIndex().find(query), account.getIncomeTextIndex().find(query),
+                    account.getExpTextIndex().find(query), account.getLoanTextIndex().find(query),
+                    account.getInstalmentTextIndex().find(query));
+        }
+
+        private Results(String query, long version, List<Goal> goals, List<Income> incomes,
+                        List<Expenditure> expenditures, List<Loan> loans, List<Instalment> instalments) {
+            this.query = query;
+            this.version = version;
+            this.goals = goals;
+            this.incomes = incomes;
+            this.expenditures = expenditures;
+            this.loans = loans;
+            this.instalments = instalments;
+        }
+
+        private Results refine(Account account, String extended) {
+            return new Results(extended, version, account.getGoalTextIndex().findIn(goals, extended),
+                    account.getIncomeTextIndex().findIn(incomes, extended),
+                    account.getExpTextIndex().findIn(expenditures, extended),
+                    account.getLoanTextIndex().findIn(loans, extended),
+                    account.getInstalmentTextIndex().findIn(instalments, extended));
+        }
+
+        private int size() {
+            return goals.size() + incomes.size() + expenditures.size() + loans.size() + instalments.size();
+        }
+
+        private List<List<? extends Item>> all() {
+            return Arrays.asList(goals, incomes, expenditures, loans, instalments);
+        }
+    }
+}
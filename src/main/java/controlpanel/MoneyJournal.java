@@ -0,0 +1,556 @@
+package controlpanel;
+
+import money.Account;
+import money.Expenditure;
+import money.Goal;
+import money.Income;
+import money.Instalment;
+import money.RecordColumns;
+import money.RecordList;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+/**
+ * This class keeps an append-only journal of the changes made to an Account since the
+ * data file was last rewritten. Each change is one line of the journal:
+ * ADD @ index @ record, DEL @ tag @ index or UPD @ index @ record, where record is the
+ * same line that the data file would contain and index is the position of the record
+ * in its list. Header records (INIT and BS) are journaled as they are.
+ * Replaying the journal in order on top of the data file gives back the saved Account.
+ *
+ * <p>The journal is split into numbered segments. Once the current segment grows past the
+ * threshold it is sealed, and a background thread checkpoints the account into a fresh data
+ * file. The data file starts with a SEG record naming the first segment it does not contain,
+ * so sealed segments are only deleted after the new data file has been renamed into place.</p>
+ */
+public class MoneyJournal {
+
+    public static final long DEFAULT_THRESHOLD = 1024 * 1024;
+    private static final Logger LOGGER = Logger.getLogger(MoneyJournal.class.getName());
+    private static final String SEPARATOR = " @ ";
+
+    private String dataPath;
+    private String journalPath;
+    private MoneyStorage storage;
+    private Map<String, List<?>> persistedItems;
+    private Map<String, List<String>> persistedLines;
+    private String persistedInit;
+    private String persistedBaseSavings;
+    private long threshold;
+    private int firstSegment;
+    private int currentSegment;
+    private long segmentBytes;
+    private BinarySnapshot binarySnapshot;
+    private FileChannel segmentChannel;
+    private ExecutorService checkpointer;
+    private volatile int compactionCount;
+    private volatile LocalDateTime lastCompaction;
+
+    /**
+     * Constructor for the journal of a data file.
+     * @param dataPath FilePath of the data file that the journal belongs to
+     * @param storage The storage that owns the data file and knows the record format
+     */
+    public MoneyJournal(String dataPath, MoneyStorage storage) {
+        this.dataPath = dataPath;
+        this.journalPath = dataPath + ".journal.";
+        this.storage = storage;
+        persistedItems = new HashMap<>();
+        persistedLines = new HashMap<>();
+        threshold = DEFAULT_THRESHOLD;
+        checkpointer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "money-checkpoint");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void setThreshold(long threshold) {
+        this.threshold = threshold;
+    }
+
+    /**
+     * Makes checkpoints write a binary snapshot instead of the text data file.
+     * @param binarySnapshot The binary snapshot to write, or null to write the text data file
+     */
+    public void setBinarySnapshot(BinarySnapshot binarySnapshot) {
+        this.binarySnapshot = binarySnapshot;
+    }
+
+    public BinarySnapshot getBinarySnapshot() {
+        return binarySnapshot;
+    }
+
+    public long getThreshold() {
+        return threshold;
+    }
+
+    /**
+     * Sets the first segment that is not contained in the data file, as read from its SEG record.
+     * @param firstSegment Number of the first segment to replay
+     */
+    public void setFirstSegment(int firstSegment) {
+        this.firstSegment = firstSegment;
+    }
+
+    /**
+     * Remembers the current state of the account as the state that is saved on disk.
+     * Later calls to append only write the changes made after this point.
+     * Only the lists that changed since they were last remembered are copied.
+     * @param account Account object containing all financial info of user saved on the programme
+     */
+    public void markPersisted(Account account) {
+        persistedInit = storage.formatInit(account);
+        persistedBaseSavings = storage.formatBaseSavings(account);
+        remember("INC", account.getIncomeListTotal(), null);
+        remember("EXP", account.getExpListTotal(), null);
+        remember("G", account.getShortTermGoals(), null);
+        remember("INS", account.getInstalments(), null);
+        remember("LOA", account.getLoans(), storage::formatLoan);
+        remember("BAN", account.getBankTrackerList(), storage::formatBank);
+    }
+
+    /**
+     * Appends the changes made to the account since it was last persisted to the journal.
+     * Lists that are not dirty are skipped. In a dirty list the records before the first dirty
+     * position are unchanged, and the rest are compared by identity with the persisted records.
+     * Loans and bank trackers can change in place, so their lines are compared too.
+     * @param account Account object containing all financial info of user saved on the programme
+     * @throws IOException if the journal cannot be written
+     */
+    public void append(Account account) throws IOException {
+        StringBuilder changes = new StringBuilder();
+        String init = storage.formatInit(account);
+        if (!init.equals(persistedInit)) {
+            changes.append(init).append("\n");
+        }
+        String baseSavings = storage.formatBaseSavings(account);
+        if (!baseSavings.equals(persistedBaseSavings)) {
+            changes.append(baseSavings).append("\n");
+        }
+        diff("INC", account.getIncomeListTotal(), storage::formatIncome, null, changes);
+        diff("EXP", account.getExpListTotal(), storage::formatExp, null, changes);
+        diff("G", account.getShortTermGoals(), storage::formatGoal, null, changes);
+        diff("INS", account.getInstalments(), storage::formatInstalment, null, changes);
+        diff("LOA", account.getLoans(), storage::formatLoan, storage::formatLoan, changes);
+        diff("BAN", account.getBankTrackerList(), storage::formatBank, storage::formatBank, changes);
+        if (changes.length() == 0) {
+            return;
+        }
+        if (segmentChannel == null) {
+            segmentChannel = FileChannel.open(new File(segmentPath(currentSegment)).toPath(),
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        }
+        ByteBuffer bytes = ByteBuffer.wrap(changes.toString().getBytes(StandardCharsets.UTF_8));
+        while (bytes.hasRemaining()) {
+            segmentChannel.write(bytes);
+        }
+        storage.getGroupCommit().commit(segmentChannel);
+        segmentBytes += bytes.limit();
+        markPersisted(account);
+        if (segmentBytes >= threshold) {
+            checkpoint();
+        }
+    }
+
+    /**
+     * Seals the current segment and folds everything journaled so far into a fresh data file
+     * on the background thread. Writes that come in meanwhile go to the next segment.
+     */
+    public void checkpoint() {
+        final int sealedSegment = currentSegment;
+        final Map<String, List<?>> items = new HashMap<>(persistedItems);
+        final Map<String, List<String>> lines = new HashMap<>(persistedLines);
+        final String init = persistedInit;
+        final String baseSavings = persistedBaseSavings;
+        closeSegment();
+        currentSegment++;
+        segmentBytes = 0;
+        checkpointer.execute(() -> {
+            try {
+                writeCheckpoint(sealedSegment, items, lines, init, baseSavings);
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        });
+    }
+
+    /**
+     * Replays the journal segments that are not in the data file on top of an account that was
+     * loaded from it. Segments that the data file already contains are left over from a checkpoint
+     * that was interrupted after its rename and are deleted. The replay ends at the first damaged line,
+     * and the segment is cut short there, so that what is on disk is what was replayed. A damaged last
+     * line of the newest segment is a write that was cut off and is just dropped. A damaged line anywhere
+     * else may hide changes that the rest of the journal builds on, so a copy of that segment and the
+     * segments after it are kept aside as .damaged files, which no checkpoint folds in or deletes.
+     * New records always go to a fresh segment after every segment found.
+     * @param account Account object loaded from the data file
+     * @return the number of bytes of journal replayed
+     * @throws IOException if the journal cannot be read, cut or moved aside
+     */
+    public long replay(Account account) throws IOException {
+        long replayed = 0;
+        int applied = 0;
+        closeSegment();
+        TreeMap<Integer, File> segments = listSegments();
+        currentSegment = segments.isEmpty() ? firstSegment : Math.max(segments.lastKey() + 1, firstSegment);
+        for (Map.Entry<Integer, File> segment : segments.entrySet()) {
+            if (segment.getKey() < firstSegment) {
+                Files.deleteIfExists(segment.getValue().toPath());
+                continue;
+            }
+            byte[] bytes = Files.readAllBytes(segment.getValue().toPath());
+            int start = 0;
+            while (start < bytes.length) {
+                int end = start;
+                while (end < bytes.length && bytes[end] != '\n') {
+                    end++;
+                }
+                try {
+                    apply(decodeLine(bytes, start, end), account);
+                    applied++;
+                } catch (DukeException | RuntimeException e) {
+                    boolean isLastLine = end >= bytes.length - 1;
+                    if (isLastLine && segment.getKey().equals(segments.lastKey())) {
+                        LOGGER.warning("Journal segment " + segment.getKey() + " ends with a record that was cut off "
+                                + "and has been dropped, " + applied + " records recovered");
+                    } else {
+                        moveAside(segment.getValue(), segments.tailMap(segment.getKey(), false));
+                        LOGGER.warning("Journal segment " + segment.getKey() + " is damaged, it and the segments "
+                                + "after it were kept aside as .damaged files, " + applied + " records recovered");
+                    }
+                    cutAt(segment.getValue(), start);
+                    segmentBytes = 0;
+                    return replayed + start;
+                }
+                start = end + 1;
+            }
+            replayed += bytes.length;
+        }
+        segmentBytes = 0;
+        return replayed;
+    }
+
+    public int getSegmentCount() {
+        return listSegments().size();
+    }
+
+    /**
+     * Returns the total size of the journal segments on disk.
+     * @return size of the journal in bytes
+     */
+    public long getJournalBytes() {
+        long total = 0;
+        for (File segment : listSegments().values()) {
+            total += segment.length();
+        }
+        return total;
+    }
+
+    public int getCompactionCount() {
+        return compactionCount;
+    }
+
+    public LocalDateTime getLastCompaction() {
+        return lastCompaction;
+    }
+
+    /**
+     * Closes the current segment, forcing what was committed to it to disk first.
+     */
+    private void closeSegment() {
+        if (segmentChannel == null) {
+            return;
+        }
+        try {
+            storage.getGroupCommit().close(segmentChannel);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        segmentChannel = null;
+    }
+
+    private String segmentPath(int segment) {
+        return journalPath + segment;
+    }
+
+    private static String decodeLine(byte[] bytes, int start, int end) {
+        if (end > start && bytes[end - 1] == '\r') {
+            end--;
+        }
+        return new String(bytes, start, end - start, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Cuts a segment short at a position and forces it to disk, dropping a record that was cut off.
+     */
+    private void cutAt(File segment, long position) throws IOException {
+        FileChannel channel = FileChannel.open(segment.toPath(), StandardOpenOption.WRITE);
+        try {
+            channel.truncate(position);
+            channel.force(true);
+        } finally {
+            channel.close();
+        }
+    }
+
+    /**
+     * Keeps a copy of a damaged segment and renames the segments after it, so that they no longer count
+     * as segments but are kept for the user to recover.
+     */
+    private void moveAside(File damaged, Map<Integer, File> later) throws IOException {
+        Files.copy(damaged.toPath(), new File(damaged.getPath() + ".damaged").toPath());
+        for (File segment : later.values()) {
+            Files.move(segment.toPath(), new File(segment.getPath() + ".damaged").toPath());
+        }
+    }
+
+    private TreeMap<Integer, File> listSegments() {
+        TreeMap<Integer, File> segments = new TreeMap<>();
+        File dataFile = new File(dataPath).getAbsoluteFile();
+        String prefix = dataFile.getName() + ".journal.";
+        File[] files = dataFile.getParentFile().listFiles();
+        if (files == null) {
+            return segments;
+        }
+        for (File file : files) {
+            String name = file.getName();
+            if (name.startsWith(prefix)) {
+                try {
+                    segments.put(Integer.parseInt(name.substring(prefix.length())), file);
+                } catch (NumberFormatException e) {
+                    continue;
+                }
+            }
+        }
+        return segments;
+    }
+
+    /**
+     * Writes a checkpoint of the account to a temporary file, forces it to disk and renames it
+     * over the data file (or over the binary snapshot if checkpoints are binary).
+     * Only then are the segments it contains deleted.
+     * The records of loans and bank trackers are taken as lines because they can change in place,
+     * the other records do not change once created and are formatted here.
+     */
+    private void writeCheckpoint(int sealedSegment, Map<String, List<?>> items,
+                                 Map<String, List<String>> lines, String init, String baseSavings)
+            throws IOException {
+        String targetPath = binarySnapshot == null ? dataPath : binarySnapshot.getFilePath();
+        File tempFile = new File(targetPath + ".tmp");
+        if (binarySnapshot == null) {
+            writeTextCheckpoint(tempFile, sealedSegment, items, lines, init, baseSavings);
+        } else {
+            writeBinaryCheckpoint(tempFile, sealedSegment, items, lines, init, baseSavings);
+        }
+        storage.getGroupCommit().replace(tempFile, new File(targetPath));
+        for (Map.Entry<Integer, File> segment : listSegments().headMap(sealedSegment, true).entrySet()) {
+            Files.deleteIfExists(segment.getValue().toPath());
+        }
+        compactionCount++;
+        lastCompaction = LocalDateTime.now();
+    }
+
+    private void writeTextCheckpoint(File tempFile, int sealedSegment, Map<String, List<?>> items,
+                                     Map<String, List<String>> lines, String init, String baseSavings)
+            throws IOException {
+        FileOutputStream fileOutputStream = new FileOutputStream(tempFile);
+        BufferedWriter bufferedWriter = new BufferedWriter(
+                new OutputStreamWriter(fileOutputStream, StandardCharsets.UTF_8));
+        bufferedWriter.write("SEG" + SEPARATOR + (sealedSegment + 1) + "\n");
+        bufferedWriter.write(init + "\n");
+        bufferedWriter.write(baseSavings + "\n");
+        for (Object i : items.get("INC")) {
+            bufferedWriter.write(storage.formatIncome((Income) i) + "\n");
+        }
+        for (Object exp : items.get("EXP")) {
+            bufferedWriter.write(storage.formatExp((Expenditure) exp) + "\n");
+        }
+        for (Object g : items.get("G")) {
+            bufferedWriter.write(storage.formatGoal((Goal) g) + "\n");
+        }
+        for (Object ins : items.get("INS")) {
+            bufferedWriter.write(storage.formatInstalment((Instalment) ins) + "\n");
+        }
+        for (String line : lines.get("LOA")) {
+            bufferedWriter.write(line + "\n");
+        }
+        for (String line : lines.get("BAN")) {
+            bufferedWriter.write(line + "\n");
+        }
+        bufferedWriter.flush();
+        fileOutputStream.getFD().sync();
+        bufferedWriter.close();
+    }
+
+    /**
+     * Rebuilds the persisted state as an account of its own, so that the binary snapshot is
+     * written from records that the foreground cannot change underneath it.
+     */
+    private void writeBinaryCheckpoint(File tempFile, int sealedSegment, Map<String, List<?>> items,
+                                       Map<String, List<String>> lines, String init, String baseSavings)
+            throws IOException {
+        Account snapshot = new Account();
+        for (Object i : items.get("INC")) {
+            snapshot.getIncomeListTotal().add((Income) i);
+        }
+        for (Object exp : items.get("EXP")) {
+            snapshot.getExpListTotal().add((Expenditure) exp);
+        }
+        for (Object g : items.get("G")) {
+            snapshot.getShortTermGoals().add((Goal) g);
+        }
+        for (Object ins : items.get("INS")) {
+            snapshot.getInstalments().add((Instalment) ins);
+        }
+        try {
+            storage.insertRecord(new MoneyRecordScanner(init), -1, snapshot);
+            storage.insertRecord(new MoneyRecordScanner(baseSavings), -1, snapshot);
+            for (String line : lines.get("LOA")) {
+                storage.insertRecord(new MoneyRecordScanner(line), -1, snapshot);
+            }
+            for (String line : lines.get("BAN")) {
+                storage.insertRecord(new MoneyRecordScanner(line), -1, snapshot);
+            }
+        } catch (DukeException e) {
+            throw new IOException(e.getMessage());
+        }
+        binarySnapshot.write(tempFile, sealedSegment + 1, snapshot);
+    }
+
+    private void apply(String line, Account account) throws DukeException {
+        String[] parts = line.split(SEPARATOR, 3);
+        switch (parts[0]) {
+        case "ADD":
+            storage.insertRecord(new MoneyRecordScanner(parts[2]), Integer.parseInt(parts[1]), account);
+            break;
+        case "DEL":
+            listOf(parts[1], account).remove(Integer.parseInt(parts[2]));
+            break;
+        case "UPD":
+            MoneyRecordScanner record = new MoneyRecordScanner(parts[2]);
+            int index = Integer.parseInt(parts[1]);
+            listOf(record.readTag(), account).remove(index);
+            storage.insertRecord(record, index, account);
+            break;
+        default:
+            storage.insertRecord(new MoneyRecordScanner(line), -1, account);
+            break;
+        }
+    }
+
+    private List<?> listOf(String tag, Account account) throws DukeException {
+        switch (tag) {
+        case "INC":
+            return account.getIncomeListTotal();
+        case "EXP":
+            return account.getExpListTotal();
+        case "G":
+            return account.getShortTermGoals();
+        case "INS":
+            return account.getInstalments();
+        case "LOA":
+            return account.getLoans();
+        case "BAN":
+            return account.getBankTrackerList();
+        default:
+            throw new DukeException("OOPS!! Your journal has been corrupted!");
+        }
+    }
+
+    private <T> void remember(String tag, RecordList<T> items, Function<T, String> lineOf) {
+        if (!items.isDirty() && persistedItems.containsKey(tag)) {
+            return;
+        }
+        items.markClean();
+        RecordColumns<T> columns = items.getColumns();
+        persistedItems.put(tag, columns == null ? new ArrayList<>(items) : columns.copy());
+        if (lineOf == null) {
+            persistedLines.remove(tag);
+            return;
+        }
+        List<String> lines = new ArrayList<>();
+        for (T item : items) {
+            lines.add(lineOf.apply(item));
+        }
+        persistedLines.put(tag, lines);
+    }
+
+    /**
+     * Writes the journal records that turn the persisted version of a list into its current version.
+     * The records in the common prefix and suffix of both versions are unchanged, the rest
+     * are written as updates, deletions and additions. The prefix is at least as long as the
+     * records before the first dirty position. Records kept as objects are the same if they are
+     * the same object, and records kept in columns if their columns are equal.
+     */
+    private <T> void diff(String tag, RecordList<T> current, Function<T, String> formatter,
+                          Function<T, String> lineOf, StringBuilder changes) {
+        if (!current.isDirty()) {
+            return;
+        }
+        List<?> oldItems = persistedItems.get(tag);
+        List<String> oldLines = persistedLines.get(tag);
+        List<String> newLines = new ArrayList<>();
+        if (lineOf != null) {
+            for (T item : current) {
+                newLines.add(lineOf.apply(item));
+            }
+        }
+        int common = Math.min(oldItems.size(), current.size());
+        int prefix = Math.min(current.getDirtyFrom(), common);
+        while (prefix < common && isSame(oldItems, oldLines, prefix, current, newLines, prefix)) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < common - prefix && isSame(oldItems, oldLines, oldItems.size() - 1 - suffix,
+                current, newLines, current.size() - 1 - suffix)) {
+            suffix++;
+        }
+        int deleted = oldItems.size() - suffix - prefix;
+        int added = current.size() - suffix - prefix;
+        int updated = Math.min(deleted, added);
+        for (int i = prefix; i < prefix + updated; i++) {
+            changes.append("UPD").append(SEPARATOR).append(i).append(SEPARATOR)
+                    .append(formatter.apply(current.get(i))).append("\n");
+        }
+        for (int i = updated; i < deleted; i++) {
+            changes.append("DEL").append(SEPARATOR).append(tag).append(SEPARATOR)
+                    .append(prefix + updated).append("\n");
+        }
+        for (int i = prefix + updated; i < prefix + added; i++) {
+            changes.append("ADD").append(SEPARATOR).append(i).append(SEPARATOR)
+                    .append(formatter.apply(current.get(i))).append("\n");
+        }
+    }
+
+    private <T> boolean isSame(List<?> oldItems, List<String> oldLines, int oldIndex,
+                               RecordList<T> current, List<String> newLines, int newIndex) {
+        RecordColumns<T> columns = current.getColumns();
+        if (columns != null && oldItems instanceof RecordColumns) {
+            return columns.isSame(newIndex, (RecordColumns<?>) oldItems, oldIndex);
+        }
+        if (oldItems.get(oldIndex) != current.get(newIndex)) {
+            return false;
+        }
+        return oldLines == null || oldLines.get(oldIndex).equals(newLines.get(newIndex));
+    }
+}
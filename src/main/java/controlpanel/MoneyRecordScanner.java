@@ -0,0 +1,463 @@
+package controlpanel;
+
+import money.Money;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+/**
+ * This class scans the records of the text data file without splitting them into Strings.
+ * Lines are read into a reusable char buffer and the " @ " separated fields of a record
+ * are read one after another straight from the buffer: amounts, integers and dates are parsed
+ * in place and only descriptions and categories become Strings. Dates are shared through a
+ * small cache, since many records of a data file fall on the same day.
+ */
+public class MoneyRecordScanner {
+
+    private static final String SEPARATOR = " @ ";
+    private static final String[] TAGS = {"SEG", "INIT", "BS", "INC", "EXP", "G", "INS", "LOA", "BAN"};
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+    private static final int DATE_CACHE_SIZE = 1024;
+
+    private Reader reader;
+    private char[] buffer;
+    private int bufferEnd;
+    private int lineStart;
+    private int lineEnd;
+    private int fieldStart;
+    private int fieldEnd;
+    private int cursor;
+    private boolean isEndOfInput;
+    private boolean isAfterCarriageReturn;
+    private int[] cachedDateKeys;
+    private LocalDate[] cachedDates;
+
+    /**
+     * Constructor for a scanner over the lines read from a reader.
+     * @param reader Reader of the data file
+     */
+    public MoneyRecordScanner(Reader reader) {
+        this.reader = reader;
+        buffer = new char[1 << 16];
+        cachedDateKeys = new int[DATE_CACHE_SIZE];
+        cachedDates = new LocalDate[DATE_CACHE_SIZE];
+    }
+
+    /**
+     * Constructor for a scanner over a single record, which is already the current line.
+     * @param line Line containing the record
+     */
+    public MoneyRecordScanner(String line) {
+        buffer = line.toCharArray();
+        bufferEnd = buffer.length;
+        lineEnd = buffer.length;
+        isEndOfInput = true;
+        cachedDateKeys = new int[1];
+        cachedDates = new LocalDate[1];
+    }
+
+    /**
+     * Moves on to the next line of the data file.
+     * @return true if there is a next line, false at the end of the data file
+     * @throws IOException if the data file cannot be read
+     */
+    public boolean nextLine() throws IOException {
+        int start = lineEnd;
+        if (start < bufferEnd) {
+            isAfterCarriageReturn = buffer[start] == '\r';
+            start++;
+        }
+        if (isAfterCarriageReturn) {
+            if (start == bufferEnd && !isEndOfInput) {
+                start = fill(start);
+            }
+            if (start < bufferEnd && buffer[start] == '\n') {
+                start++;
+            }
+            isAfterCarriageReturn = false;
+        }
+        int end = indexOfLineEnd(start);
+        while (end < 0 && !isEndOfInput) {
+            start = fill(start);
+            end = indexOfLineEnd(start);
+        }
+        if (end < 0) {
+            if (start == bufferEnd) {
+                lineStart = bufferEnd;
+                lineEnd = bufferEnd;
+                return false;
+            }
+            end = bufferEnd;
+        }
+        lineStart = start;
+        lineEnd = end;
+        cursor = start;
+        fieldStart = start;
+        fieldEnd = start;
+        return true;
+    }
+
+    /**
+     * Reads the type tag of the record, which is its first field.
+     * @return the type tag, one of the constants of the data file if it is a known tag
+     */
+    public String readTag() {
+        cursor = lineStart;
+        nextField();
+        for (String tag : TAGS) {
+            if (fieldEquals(tag)) {
+                return tag;
+            }
+        }
+        return new String(buffer, fieldStart, fieldEnd - fieldStart);
+    }
+
+    /**
+     * Reads the next field as a String.
+     * @return the next field
+     */
+    public String readString() {
+        nextField();
+        return new String(buffer, fieldStart, fieldEnd - fieldStart);
+    }
+
+    /**
+     * Reads the next field as a float, the same way as Float.parseFloat.
+     * @return the next field as a float
+     * @throws NumberFormatException if the field is not a number
+     */
+    public float readFloat() {
+        nextField();
+        double value = parseDecimal();
+        if (Double.isNaN(value)) {
+            return Float.parseFloat(new String(buffer, fieldStart, fieldEnd - fieldStart));
+        }
+        return (float) value;
+    }
+
+    /**
+     * Reads the next field as an amount of money in cents. Amounts are written as whole cents,
+     * but data files written before that hold them as float dollars, which always have a decimal
+     * point or an exponent; those are rounded to the nearest cent.
+     * @return the amount in cents
+     * @throws NumberFormatException if the field is not a number
+     */
+    public long readMoney() {
+        nextField();
+        int i = fieldStart;
+        boolean isNegative = i < fieldEnd && buffer[i] == '-';
+        if (isNegative || (i < fieldEnd && buffer[i] == '+')) {
+            i++;
+        }
+        if (i == fieldEnd || fieldEnd - i > 18) {
+            return parseLegacyMoney();
+        }
+        long cents = 0;
+        for (; i < fieldEnd; i++) {
+            int digit = buffer[i] - '0';
+            if (digit < 0 || digit > 9) {
+                return parseLegacyMoney();
+            }
+            cents = cents * 10 + digit;
+        }
+        return isNegative ? -cents : cents;
+    }
+
+    private long parseLegacyMoney() {
+        double value = parseDecimal();
+        if (Double.isNaN(value)) {
+            return Money.parseCents(new String(buffer, fieldStart, fieldEnd - fieldStart));
+        }
+        return Money.toCents(value);
+    }
+
+    /**
+     * Reads the next field as a double, the same way as Double.parseDouble.
+     * @return the next field as a double
+     * @throws NumberFormatException if the field is not a number
+     */
+    public double readDouble() {
+        nextField();
+        double value = parseDecimal();
+        if (Double.isNaN(value)) {
+            return Double.parseDouble(new String(buffer, fieldStart, fieldEnd - fieldStart));
+        }
+        return value;
+    }
+
+    /**
+     * Reads the next field as an int.
+     * @return the next field as an int
+     * @throws NumberFormatException if the field is not an integer
+     */
+    public int readInt() {
+        nextField();
+        int i = fieldStart;
+        boolean isNegative = i < fieldEnd && buffer[i] == '-';
+        if (isNegative || (i < fieldEnd && buffer[i] == '+')) {
+            i++;
+        }
+        if (i == fieldEnd || fieldEnd - i > 9) {
+            return Integer.parseInt(new String(buffer, fieldStart, fieldEnd - fieldStart));
+        }
+        int value = 0;
+        for (; i < fieldEnd; i++) {
+            int digit = buffer[i] - '0';
+            if (digit < 0 || digit > 9) {
+                throw new NumberFormatException("For input string: \""
+                        + new String(buffer, fieldStart, fieldEnd - fieldStart) + "\"");
+            }
+            value = value * 10 + digit;
+        }
+        return isNegative ? -value : value;
+    }
+
+    /**
+     * Reads the next field as a boolean, the same way as Boolean.parseBoolean.
+     * @return true if the field is "true" ignoring case
+     */
+    public boolean readBoolean() {
+        nextField();
+        if (fieldEnd - fieldStart != 4) {
+            return false;
+        }
+        return Character.toLowerCase(buffer[fieldStart]) == 't'
+                && Character.toLowerCase(buffer[fieldStart + 1]) == 'r'
+                && Character.toLowerCase(buffer[fieldStart + 2]) == 'u'
+                && Character.toLowerCase(buffer[fieldStart + 3]) == 'e';
+    }
+
+    /**
+     * Reads the next field as a date in d/M/yyyy format.
+     * @return the date in the field
+     * @throws DateTimeParseException if the field is not a valid date
+     */
+    public LocalDate readDate() {
+        nextField();
+        int i = fieldStart;
+        int day = 0;
+        int dayDigits = 0;
+        for (; i < fieldEnd && buffer[i] != '/'; i++, dayDigits++) {
+            day = day * 10 + digitAt(i);
+        }
+        i++;
+        int month = 0;
+        int monthDigits = 0;
+        for (; i < fieldEnd && buffer[i] != '/'; i++, monthDigits++) {
+            month = month * 10 + digitAt(i);
+        }
+        i++;
+        int year = 0;
+        int yearDigits = 0;
+        for (; i < fieldEnd; i++, yearDigits++) {
+            year = year * 10 + digitAt(i);
+        }
+        if (dayDigits < 1 || dayDigits > 2 || monthDigits < 1 || monthDigits > 2 || yearDigits != 4) {
+            throw invalidDate();
+        }
+        return dateOf(year, month, day);
+    }
+
+    /**
+     * Reads the next field as a date in yyyy-MM-dd format.
+     * @return the date in the field
+     * @throws DateTimeParseException if the field is not a valid date
+     */
+    public LocalDate readIsoDate() {
+        nextField();
+        if (fieldEnd - fieldStart != 10 || buffer[fieldStart + 4] != '-' || buffer[fieldStart + 7] != '-') {
+            throw invalidDate();
+        }
+        int year = digitAt(fieldStart) * 1000 + digitAt(fieldStart + 1) * 100
+                + digitAt(fieldStart + 2) * 10 + digitAt(fieldStart + 3);
+        int month = digitAt(fieldStart + 5) * 10 + digitAt(fieldStart + 6);
+        int day = digitAt(fieldStart + 8) * 10 + digitAt(fieldStart + 9);
+        return dateOf(year, month, day);
+    }
+
+    /**
+     * Returns the current line as a String, for messages about a record that cannot be read.
+     * @return the current line
+     */
+    public String getLine() {
+        return new String(buffer, lineStart, lineEnd - lineStart);
+    }
+
+    private void nextField() {
+        if (cursor > lineEnd) {
+            throw new ArrayIndexOutOfBoundsException("Record has too few fields: " + getLine());
+        }
+        fieldStart = cursor;
+        int separator = indexOfSeparator(cursor);
+        if (separator < 0) {
+            fieldEnd = lineEnd;
+            cursor = lineEnd + 1;
+        } else {
+            fieldEnd = separator;
+            cursor = separator + SEPARATOR.length();
+        }
+    }
+
+    private int indexOfSeparator(int from) {
+        for (int i = from; i + 2 < lineEnd; i++) {
+            if (buffer[i + 1] == '@' && buffer[i] == ' ' && buffer[i + 2] == ' ') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private boolean fieldEquals(String value) {
+        if (fieldEnd - fieldStart != value.length()) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (buffer[fieldStart + i] != value.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Parses the current field as a decimal number of at most 18 significant digits.
+     * Such a number and its power of ten are exact doubles, so one division or multiplication
+     * gives the correctly rounded result.
+     * @return the number, or NaN if it has to be parsed the slow way
+     */
+    private double parseDecimal() {
+        int i = fieldStart;
+        boolean isNegative = i < fieldEnd && buffer[i] == '-';
+        if (isNegative || (i < fieldEnd && buffer[i] == '+')) {
+            i++;
+        }
+        long mantissa = 0;
+        int digits = 0;
+        int scale = 0;
+        boolean hasDigits = false;
+        boolean isFraction = false;
+        for (; i < fieldEnd; i++) {
+            char c = buffer[i];
+            if (c >= '0' && c <= '9') {
+                hasDigits = true;
+                if (digits == 0 && c == '0') {
+                    if (isFraction) {
+                        scale--;
+                    }
+                    continue;
+                }
+                if (++digits > 18) {
+                    return Double.NaN;
+                }
+                mantissa = mantissa * 10 + (c - '0');
+                if (isFraction) {
+                    scale--;
+                }
+            } else if (c == '.' && !isFraction) {
+                isFraction = true;
+            } else {
+                break;
+            }
+        }
+        if (i < fieldEnd) {
+            if ((buffer[i] != 'E' && buffer[i] != 'e') || i + 1 == fieldEnd) {
+                return Double.NaN;
+            }
+            i++;
+            boolean isNegativeExponent = buffer[i] == '-';
+            if (isNegativeExponent || buffer[i] == '+') {
+                i++;
+            }
+            if (i == fieldEnd) {
+                return Double.NaN;
+            }
+            int exponent = 0;
+            for (; i < fieldEnd; i++) {
+                int digit = buffer[i] - '0';
+                if (digit < 0 || digit > 9 || exponent > 1000) {
+                    return Double.NaN;
+                }
+                exponent = exponent * 10 + digit;
+            }
+            scale += isNegativeExponent ? -exponent : exponent;
+        }
+        if (!hasDigits) {
+            return Double.NaN;
+        }
+        double value = mantissa;
+        if (mantissa != 0) {
+            if (scale < -22 || scale > 22) {
+                return Double.NaN;
+            }
+            value = scale < 0 ? value / POWERS_OF_TEN[-scale] : value * POWERS_OF_TEN[scale];
+        }
+        return isNegative ? -value : value;
+    }
+
+    private int digitAt(int i) {
+        int digit = buffer[i] - '0';
+        if (digit < 0 || digit > 9) {
+            throw invalidDate();
+        }
+        return digit;
+    }
+
+    private LocalDate dateOf(int year, int month, int day) {
+        int key = (year << 9) | (month << 5) | day;
+        int slot = ((key * 0x9E3779B9) >>> 16) & (cachedDates.length - 1);
+        LocalDate date = cachedDates[slot];
+        if (date == null || cachedDateKeys[slot] != key) {
+            if (month < 1 || month > 12 || day < 1 || day > 31) {
+                throw invalidDate();
+            }
+            date = LocalDate.of(year, month, 1);
+            date = date.withDayOfMonth(Math.min(day, date.lengthOfMonth()));
+            cachedDates[slot] = date;
+            cachedDateKeys[slot] = key;
+        }
+        return date;
+    }
+
+    private DateTimeParseException invalidDate() {
+        String text = new String(buffer, fieldStart, fieldEnd - fieldStart);
+        return new DateTimeParseException("Text '" + text + "' could not be parsed", text, 0);
+    }
+
+    private int indexOfLineEnd(int from) {
+        for (int i = from; i < bufferEnd; i++) {
+            if (buffer[i] == '\n' || buffer[i] == '\r') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Moves the unread part of the buffer to the front and reads more of the data file after it,
+     * growing the buffer if a single line does not fit.
+     * @return the new position of the start of the unread part
+     */
+    private int fill(int start) throws IOException {
+        int remaining = bufferEnd - start;
+        if (remaining == buffer.length) {
+            char[] grown = new char[buffer.length * 2];
+            System.arraycopy(buffer, start, grown, 0, remaining);
+            buffer = grown;
+        } else {
+            System.arraycopy(buffer, start, buffer, 0, remaining);
+        }
+        bufferEnd = remaining;
+        int read = reader.read(buffer, bufferEnd, buffer.length - bufferEnd);
+        if (read < 0) {
+            isEndOfInput = true;
+        } else {
+            bufferEnd += read;
+        }
+        return 0;
+    }
+}
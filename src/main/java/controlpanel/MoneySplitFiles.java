@@ -0,0 +1,233 @@
+package controlpanel;
+
+import money.Account;
+import money.RecordList;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * This class keeps the records of an Account in one file per record type, inside a directory
+ * next to the data file: INC.txt, EXP.txt, G.txt, INS.txt, LOA.txt and BAN.txt, with the header
+ * records (INIT and BS) in HEAD.txt. Each file holds the same lines as the data file would.
+ * A write only touches the files of the record types that changed since the last write:
+ * records appended at the end of a list are appended to its file, and a file is only rewritten
+ * (through a temporary file that replaces it) when records further up its list were inserted,
+ * removed or changed.
+ *
+ * <p>HEAD.txt is written last, so the directory is only loaded once a first write has completed;
+ * until then the data file is loaded and migrated by that first write. Each file is replaced on
+ * its own, so a crash in the middle of a write that changed several record types can leave some
+ * of them written and the others as they were.</p>
+ */
+public class MoneySplitFiles {
+
+    private static final String HEADER = "HEAD";
+    private static final String[] TAGS = {"INC", "EXP", "G", "INS", "LOA", "BAN"};
+
+    private File directory;
+    private MoneyStorage storage;
+    private String persistedHeader;
+    private Map<String, FileChannel> channels;
+    private volatile int appendCount;
+    private volatile int rewriteCount;
+
+    /**
+     * Constructor for the split files of a data file.
+     * @param dataPath FilePath of the data file, whose name without .txt names the directory
+     * @param storage The storage that owns the data file and knows the record format
+     */
+    public MoneySplitFiles(String dataPath, MoneyStorage storage) {
+        String directoryPath = dataPath.endsWith(".txt") ? dataPath.substring(0, dataPath.length() - 4)
+                : dataPath + ".split";
+        directory = new File(directoryPath);
+        this.storage = storage;
+        channels = new HashMap<>();
+    }
+
+    public File getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Returns whether a complete set of split files has been written.
+     * @return true if the split files should be loaded instead of the data file
+     */
+    public boolean exists() {
+        return fileOf(HEADER).exists();
+    }
+
+    /**
+     * Loads the header and the records of every type into the account.
+     * @param account Account object to load the records into
+     * @throws IOException if a file cannot be read
+     * @throws DukeException if a file contains an invalid record
+     */
+    public void load(Account account) throws IOException, DukeException {
+        load(HEADER, account);
+        for (String tag : TAGS) {
+            load(tag, account);
+        }
+    }
+
+    /**
+     * Remembers the current state of the account as the state that is saved on disk.
+     * @param account Account object containing all financial info of user saved on the programme
+     */
+    public void markPersisted(Account account) {
+        persistedHeader = formatHeader(account);
+        account.getIncomeListTotal().markClean();
+        account.getExpListTotal().markClean();
+        account.getShortTermGoals().markClean();
+        account.getInstalments().markClean();
+        account.getLoans().markClean();
+        account.getBankTrackerList().markClean();
+    }
+
+    /**
+     * Marks every record of the account as not yet written, so that the next write rewrites every
+     * file. Used when the account was loaded from the data file, as files left by an earlier
+     * migration that did not complete must not be appended to.
+     * @param account Account object containing all financial info of user saved on the programme
+     */
+    public void markUnwritten(Account account) {
+        persistedHeader = null;
+        account.getIncomeListTotal().markAllDirty();
+        account.getExpListTotal().markAllDirty();
+        account.getShortTermGoals().markAllDirty();
+        account.getInstalments().markAllDirty();
+        account.getLoans().markAllDirty();
+        account.getBankTrackerList().markAllDirty();
+    }
+
+    /**
+     * Writes the record types that changed since the last write, and then the header if it
+     * changed or was never written.
+     * @param account Account object containing all financial info of user saved on the programme
+     * @throws IOException if a file cannot be written
+     */
+    public void write(Account account) throws IOException {
+        directory.mkdirs();
+        writeSection("INC", account.getIncomeListTotal(), storage::formatIncome);
+        writeSection("EXP", account.getExpListTotal(), storage::formatExp);
+        writeSection("G", account.getShortTermGoals(), storage::formatGoal);
+        writeSection("INS", account.getInstalments(), storage::formatInstalment);
+        writeSection("LOA", account.getLoans(), storage::formatLoan);
+        writeSection("BAN", account.getBankTrackerList(), storage::formatBank);
+        String header = formatHeader(account);
+        if (!header.equals(persistedHeader) || !exists()) {
+            rewrite(HEADER, header);
+            persistedHeader = header;
+        }
+    }
+
+    /**
+     * Returns the total size of the split files on disk.
+     * @return size of the split files in bytes
+     */
+    public long getBytes() {
+        long total = fileOf(HEADER).length();
+        for (String tag : TAGS) {
+            total += fileOf(tag).length();
+        }
+        return total;
+    }
+
+    public int getAppendCount() {
+        return appendCount;
+    }
+
+    public int getRewriteCount() {
+        return rewriteCount;
+    }
+
+    private void load(String tag, Account account) throws IOException, DukeException {
+        File file = fileOf(tag);
+        if (!file.exists()) {
+            return;
+        }
+        try (InputStreamReader reader = new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8)) {
+            MoneyRecordScanner record = new MoneyRecordScanner(reader);
+            while (record.nextLine()) {
+                storage.insertRecord(record, -1, account);
+            }
+        }
+    }
+
+    private String formatHeader(Account account) {
+        return storage.formatInit(account) + "\n" + storage.formatBaseSavings(account) + "\n";
+    }
+
+    /**
+     * Appends the records added at the end of the list to its file, or rewrites the file if
+     * records further up changed. A list that did not change is not written at all.
+     */
+    private <T> void writeSection(String tag, RecordList<T> records, Function<T, String> formatter)
+            throws IOException {
+        if (!records.isDirty()) {
+            return;
+        }
+        StringBuilder lines = new StringBuilder();
+        if (records.isAppendOnly() && fileOf(tag).exists()) {
+            for (int i = records.getPersistedSize(); i < records.size(); i++) {
+                lines.append(formatter.apply(records.get(i))).append("\n");
+            }
+            append(tag, lines.toString());
+        } else {
+            for (T record : records) {
+                lines.append(formatter.apply(record)).append("\n");
+            }
+            rewrite(tag, lines.toString());
+        }
+        records.markClean();
+    }
+
+    private void append(String tag, String lines) throws IOException {
+        FileChannel channel = channels.get(tag);
+        if (channel == null) {
+            channel = FileChannel.open(fileOf(tag).toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.APPEND);
+            channels.put(tag, channel);
+        }
+        ByteBuffer bytes = ByteBuffer.wrap(lines.getBytes(StandardCharsets.UTF_8));
+        while (bytes.hasRemaining()) {
+            channel.write(bytes);
+        }
+        storage.getGroupCommit().commit(channel);
+        appendCount++;
+    }
+
+    /**
+     * Replaces a file with the given lines. The file is closed first, so that the next append
+     * opens the new file instead of writing to the one that was replaced.
+     */
+    private void rewrite(String tag, String lines) throws IOException {
+        FileChannel channel = channels.remove(tag);
+        if (channel != null) {
+            storage.getGroupCommit().close(channel);
+        }
+        File tempFile = new File(directory, tag + ".txt.tmp");
+        BufferedWriter bufferedWriter = new BufferedWriter(
+                new OutputStreamWriter(new FileOutputStream(tempFile), StandardCharsets.UTF_8));
+        bufferedWriter.write(lines);
+        bufferedWriter.close();
+        storage.getGroupCommit().replace(tempFile, fileOf(tag));
+        rewriteCount++;
+    }
+
+    private File fileOf(String tag) {
+        return new File(directory, tag + ".txt");
+    }
+}
@@ -8,25 +8,49 @@ import money.Expenditure;
 import money.Instalment;
 import money.Goal;
 import money.Loan;
+import money.Money;
+import money.StringPool;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.BufferedReader;
 import java.io.BufferedWriter;
-import java.io.FileReader;
-import java.io.FileWriter;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.time.LocalDate;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
-import java.util.Stack;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
-public class MoneyStorage {
+/**
+ * This class is the storage engine that keeps the account in text files on disk: a data file that
+ * is rewritten on every write, one file per record type, or a journal of changes that is
+ * checkpointed into a text data file or a memory-mapped binary snapshot.
+ */
+public class MoneyStorage implements StorageEngine {
+
+    private static final long PARALLEL_LOAD_BYTES = 1 << 20;
+    private static final int CHUNKS_PER_THREAD = 4;
 
     private String fileName;
     private DateTimeFormatter dateTimeFormatter;
-    private static Stack<Item> deletedEntries;
-    private static Stack<BankTracker> deletedBanks;
+    private MoneyJournal journal;
+    private MoneySplitFiles splitFiles;
+    private boolean isParallelLoad = true;
+    private ForkJoinPool loadPool = ForkJoinPool.commonPool();
+    private MoneyWriteBehind writeBehind;
+    private GroupCommit groupCommit;
+    private static UndoStash undoStash;
 
     /**
      * Constructor for the MoneyStorage Object.
@@ -35,85 +59,221 @@ public class MoneyStorage {
     public MoneyStorage(String filePath) {
         fileName = filePath;
         dateTimeFormatter  = DateTimeFormatter.ofPattern("d/M/yyyy");
-        deletedEntries = new Stack<>();
-        deletedBanks = new Stack<>();
+        groupCommit = new GroupCommit(GroupCommit.Durability.NONE);
+        undoStash = new UndoStash();
+    }
+
+    /**
+     * Constructor for the MoneyStorage Object which can keep a journal of changes.
+     * In journaled mode every write appends the records that changed to a journal file
+     * next to the data file instead of rewriting the whole data file. The journal is
+     * folded back into the data file by a background checkpoint once it grows past a threshold.
+     * @param filePath FilePath of the data text file
+     * @param isJournaled Whether changes are appended to a journal
+     */
+    public MoneyStorage(String filePath, boolean isJournaled) {
+        this(filePath);
+        if (isJournaled) {
+            journal = new MoneyJournal(filePath, this);
+        }
+    }
+
+    /**
+     * Makes checkpoints of the journal write a memory-mapped binary snapshot next to the data file
+     * instead of rewriting the text data file. Only has an effect in journaled mode.
+     * Whichever of the two snapshots contains more of the journal is loaded, so an existing text
+     * data file is migrated by the first binary checkpoint and can be migrated back the same way.
+     * @param isBinary Whether checkpoints write the binary snapshot
+     */
+    public void setBinarySnapshot(boolean isBinary) {
+        if (journal != null) {
+            journal.setBinarySnapshot(isBinary ? new BinarySnapshot(getBinaryPath()) : null);
+        }
+    }
+
+    /**
+     * Keeps the records in one file per record type instead of one data file, so that a write only
+     * appends to or rewrites the files of the record types that changed. Only has an effect when the
+     * storage is not journaled. An existing data file is migrated by the first write.
+     * @param isSplit Whether records are kept in one file per record type
+     */
+    public void setSplitFiles(boolean isSplit) {
+        if (journal == null) {
+            splitFiles = isSplit ? new MoneySplitFiles(fileName, this) : null;
+        }
+    }
+
+    public MoneySplitFiles getSplitFiles() {
+        return splitFiles;
+    }
+
+    /**
+     * Sets how strongly writes are forced to disk: NONE leaves it to the operating system,
+     * BATCHED forces the writes of a short window together on a background thread and STRICT
+     * forces every write before it returns. Should be set before the first write.
+     * @param durability How strongly writes are forced to disk
+     */
+    public void setDurability(GroupCommit.Durability durability) {
+        groupCommit = new GroupCommit(durability);
+    }
+
+    public GroupCommit getGroupCommit() {
+        return groupCommit;
+    }
+
+    /**
+     * Makes writes happen on a background thread after the account changes, so that a burst of
+     * commands is written once instead of once per command. Pending changes are written with flush().
+     * @param maxDelay Longest time in milliseconds that a change waits before it is written,
+     *     or 0 to write every change as it happens
+     */
+    public void setWriteBehind(long maxDelay) {
+        if (writeBehind != null) {
+            writeBehind.close();
+        }
+        writeBehind = maxDelay > 0 ? new MoneyWriteBehind(this, maxDelay) : null;
+    }
+
+    public MoneyWriteBehind getWriteBehind() {
+        return writeBehind;
+    }
+
+    /**
+     * Makes large data files load sequentially instead of in parallel chunks.
+     * @param isParallelLoad Whether large data files are loaded in parallel chunks
+     */
+    public void setParallelLoad(boolean isParallelLoad) {
+        this.isParallelLoad = isParallelLoad;
+    }
+
+    /**
+     * Sets the pool that large data files are loaded on, such as to load with fewer threads than
+     * the common fork-join pool has.
+     * @param loadPool The pool to parse the chunks of the data file on
+     */
+    public void setLoadPool(ForkJoinPool loadPool) {
+        this.loadPool = loadPool;
     }
 
     //@@author chengweixuan
 
     /**
-     * Adds an Income object to the Income List Total according to the data
-     * in the text file on start up.
-     * @param info String array containing the information of the Income Object
-     * @param account Account object containing all financial info of user saved on the programme
+     * Creates an Income object according to the data in the text file on start up.
+     * @param record Scanner positioned after the type tag of the record
+     * @param strings Pool to intern the description in
+     * @return the Income object described by the data
      */
-    private void parseIncome(String[] info, Account account) {
-        Income i = new Income(Float.parseFloat(info[1]), info[2],
-                LocalDate.parse(info[3], dateTimeFormatter));
-        account.getIncomeListTotal().add(i);
+    private Income parseIncome(MoneyRecordScanner record, StringPool strings) {
+        return new Income(Money.ofCents(record.readMoney()), strings.intern(record.readString()), record.readDate());
     }
 
     /**
-     * Adds an Expenditure object to the Expenditure List Total according to the data
-     * in the text file on start up.
-     * @param info String array containing the information of the Expenditure Object
-     * @param account Account object containing all financial info of user saved on the programme
+     * Creates an Expenditure object according to the data in the text file on start up.
+     * @param record Scanner positioned after the type tag of the record
+     * @param strings Pool to intern the description and category in
+     * @return the Expenditure object described by the data
      */
-    private void parseExpenditure(String[] info, Account account) {
-        Expenditure exp = new Expenditure(Float.parseFloat(info[1]), info[2], info[3],
-                LocalDate.parse(info[4], dateTimeFormatter));
-        account.getExpListTotal().add(exp);
+    private Expenditure parseExpenditure(MoneyRecordScanner record, StringPool strings) {
+        return new Expenditure(Money.ofCents(record.readMoney()), strings.intern(record.readString()),
+                strings.intern(record.readString()), record.readDate());
     }
 
     /**
-     * Adds a Goal object to the Goal list according to the data
-     * in the text file on start up.
-     * @param info String array containing the information of the Goal Object
-     * @param account Account object containing all financial info of user saved on the programme
+     * Creates a Goal object according to the data in the text file on start up.
+     * @param record Scanner positioned after the type tag of the record
+     * @param strings Pool to intern the description and category in
+     * @return the Goal object described by the data
      */
-    private void parseGoal(String[] info, Account account) throws DukeException {
-        Goal g = new Goal(Float.parseFloat(info[1]), info[2], info[3],
-                LocalDate.parse(info[4], dateTimeFormatter), info[5]);
-        account.getShortTermGoals().add(g);
+    private Goal parseGoal(MoneyRecordScanner record, StringPool strings) throws DukeException {
+        return new Goal(Money.ofCents(record.readMoney()), strings.intern(record.readString()),
+                strings.intern(record.readString()), record.readDate(), record.readString());
     }
 
     /**
-     * Adds an Instalment object to the Instalments List according to the data
-     * in the text file on start up.
-     * @param info String array containing the information of the Instalment Object
-     * @param account Account object containing all financial info of user saved on the programme
+     * Creates an Instalment object according to the data in the text file on start up.
+     * @param record Scanner positioned after the type tag of the record
+     * @param strings Pool to intern the description and category in
+     * @return the Instalment object described by the data
      */
-    private void parseInstalment(String[] info, Account account) {
-        Instalment ins = new Instalment(Float.parseFloat(info[1]), info[2], info[3],
-                LocalDate.parse(info[4], dateTimeFormatter), Integer.parseInt(info[5]),
-                Float.parseFloat(info[6]) * 100);
-        account.getInstalments().add(ins);
+    private Instalment parseInstalment(MoneyRecordScanner record, StringPool strings) {
+        return new Instalment(Money.ofCents(record.readMoney()), strings.intern(record.readString()),
+                strings.intern(record.readString()), record.readDate(), record.readInt(), record.readFloat() * 100);
     }
 
     /**
-     * Adds a Loan object to the Loan List according to the data
-     * in the text file on start up.
-     * @param info String array containing the information of the Loan Object
-     * @param account Account object containing all financial info of user saved on the programme
+     * Creates a Loan object according to the data in the text file on start up.
+     * @param record Scanner positioned after the type tag of the record
+     * @param strings Pool to intern the description in
+     * @return the Loan object described by the data
      */
-    private void parseLoan(String[] info, Account account) {
-        Loan l = new Loan(Float.parseFloat(info[1]), info[2],
-                LocalDate.parse(info[3], dateTimeFormatter),
+    private Loan parseLoan(MoneyRecordScanner record, StringPool strings) {
+        Loan l = new Loan(Money.ofCents(record.readMoney()), strings.intern(record.readString()), record.readDate(),
                 Loan.Type.ALL);
-        l.updateExistingLoan(info[4], info[5], Integer.parseInt(info[6]), Float.parseFloat(info[7]));
-        account.getLoans().add(l);
+        l.updateExistingLoan(record.readString(), record.readString(), record.readInt(),
+                Money.ofCents(record.readMoney()));
+        return l;
+    }
+
+    /**
+     * Creates a BankTracker object according to the data in the text file on start up.
+     * @param record Scanner positioned after the type tag of the record
+     * @return the BankTracker object described by the data
+     */
+    private BankTracker parseBankAccount(MoneyRecordScanner record) {
+        Money amt = Money.ofCents(record.readMoney());
+        return new BankTracker(record.readString(), amt, record.readIsoDate(), record.readDouble());
     }
 
     /**
-     * Adds a BankTracker object to the Bank Tracker List according to the data
-     * in the text file on start up.
-     * @param info String array containing the information of the BankTracker Object
+     * Inserts the record described by a line of the data file into the matching list of the account.
+     * Header records (INIT and BS) update the account directly.
+     * @param record Scanner positioned on the line of the record
+     * @param index Position in the list to insert the record at, or -1 to append it
      * @param account Account object containing all financial info of user saved on the programme
+     * @throws DukeException if the type tag is not recognised
      */
-    private void parseBankAccount(String[] info, Account account) {
-        BankTracker b = new BankTracker(info[2], Float.parseFloat(info[1]), LocalDate.parse(info[3]),
-                Double.parseDouble(info[4]));
-        account.getBankTrackerList().add(b);
+    void insertRecord(MoneyRecordScanner record, int index, Account account) throws DukeException {
+        switch (record.readTag()) {
+        case "SEG":
+            if (journal != null) {
+                journal.setFirstSegment(record.readInt());
+            }
+            break;
+        case "INIT":
+            account.setToInitialize(record.readBoolean());
+            break;
+        case "BS":
+            account.setBaseSavings(Money.ofCents(record.readMoney()));
+            break;
+        case "INC":
+            insertInto(account.getIncomeListTotal(), index, parseIncome(record, account.getStringPool()));
+            break;
+        case "EXP":
+            insertInto(account.getExpListTotal(), index, parseExpenditure(record, account.getStringPool()));
+            break;
+        case "G":
+            insertInto(account.getShortTermGoals(), index, parseGoal(record, account.getStringPool()));
+            break;
+        case "INS":
+            insertInto(account.getInstalments(), index, parseInstalment(record, account.getStringPool()));
+            break;
+        case "LOA":
+            insertInto(account.getLoans(), index, parseLoan(record, account.getStringPool()));
+            break;
+        case "BAN":
+            insertInto(account.getBankTrackerList(), index, parseBankAccount(record));
+            break;
+        default:
+            throw new DukeException("OOPS!! Your file has been corrupted/ input file is invalid!");
+        }
+    }
+
+    private <T> void insertInto(List<T> list, int index, T item) {
+        if (index < 0) {
+            list.add(item);
+        } else {
+            list.add(index, item);
+        }
     }
 
     /**
@@ -121,46 +281,57 @@ public class MoneyStorage {
      * @return the account of the user.
      * @throws IOException if the program cannot read the data file.
      */
+    @Override
     public Account load() throws IOException {
+        if (splitFiles != null) {
+            return loadSplitFiles();
+        }
+        Account account = loadBinarySnapshot();
+        if (account == null) {
+            account = loadText();
+        }
+        if (journal != null) {
+            long replayed = journal.replay(account);
+            journal.markPersisted(account);
+            if (replayed >= journal.getThreshold()) {
+                journal.checkpoint();
+            }
+        }
+        return account;
+    }
+
+    /**
+     * Loads the split files if a first write has completed them, otherwise the data file.
+     */
+    private Account loadSplitFiles() throws IOException {
+        if (!splitFiles.exists()) {
+            Account account = loadText();
+            splitFiles.markUnwritten(account);
+            return account;
+        }
         Account account = new Account();
         try {
-            FileReader fileReader = new FileReader(fileName);
-            BufferedReader bufferedReader = new BufferedReader(fileReader);
-            String line;
-            while ((line = bufferedReader.readLine()) != null) {
-                //if (line.contains("#")) { continue; }
-                String[] info = line.split(" @ ");
-
-                switch (info[0]) {
-                case "INIT":
-                    account.setToInitialize(Boolean.parseBoolean(info[1]));
-                    break;
-                case "BS":
-                    account.setBaseSavings(Float.parseFloat((info[1])));
-                    break;
-                case "INC":
-                    parseIncome(info, account);
-                    break;
-                case "EXP":
-                    parseExpenditure(info, account);
-                    break;
-                case "G":
-                    parseGoal(info, account);
-                    break;
-                case "INS":
-                    parseInstalment(info, account);
-                    break;
-                case "LOA":
-                    parseLoan(info, account);
-                    break;
-                case "BAN":
-                    parseBankAccount(info, account);
-                    break;
-                default:
-                    throw new DukeException("OOPS!! Your file has been corrupted/ input file is invalid!");
-                }
+            splitFiles.load(account);
+        } catch (DateTimeParseException | DukeException e) {
+            e.printStackTrace();
+        }
+        splitFiles.markPersisted(account);
+        return account;
+    }
+
+    private Account loadText() throws IOException {
+        File dataFile = new File(fileName);
+        if (isParallelLoad && dataFile.length() >= PARALLEL_LOAD_BYTES && loadPool.getParallelism() > 1) {
+            return loadTextInParallel(dataFile);
+        }
+        Account account = new Account();
+        try {
+            Reader fileReader = new InputStreamReader(new FileInputStream(fileName), StandardCharsets.UTF_8);
+            MoneyRecordScanner record = new MoneyRecordScanner(fileReader);
+            while (record.nextLine()) {
+                insertRecord(record, -1, account);
             }
-            bufferedReader.close();
+            fileReader.close();
         } catch (FileNotFoundException err) {
             final File parentDir = new File("dataFG");
             parentDir.mkdir();
@@ -174,6 +345,167 @@ public class MoneyStorage {
         return account;
     }
 
+    /**
+     * Loads a large data file by splitting it into chunks that end at line breaks and parsing
+     * the chunks concurrently on the load pool, each into plain lists of records that intern their
+     * strings in the pool of the account loaded, which only locks to add a string it does not have.
+     * The records of each type are then appended to the account chunk by chunk, so every list keeps
+     * the order of the data file and the indexes of the account see each record once. Header records are applied in file order on the calling thread.
+     * Like a sequential load, an invalid record ends the load: the records before it are kept.
+     * @param dataFile the data file to load
+     * @return the account loaded
+     * @throws IOException if the data file cannot be read
+     */
+    private Account loadTextInParallel(File dataFile) throws IOException {
+        byte[] bytes = Files.readAllBytes(dataFile.toPath());
+        Account account = new Account();
+        StringPool strings = account.getStringPool();
+        int chunkCount = loadPool.getParallelism() * CHUNKS_PER_THREAD;
+        List<ForkJoinTask<LoadedChunk>> tasks = new ArrayList<>();
+        int start = 0;
+        for (int i = 1; i <= chunkCount && start < bytes.length; i++) {
+            int end = i == chunkCount ? bytes.length : (int) ((long) bytes.length * i / chunkCount);
+            while (end < bytes.length && bytes[end - 1] != '\n') {
+                end++;
+            }
+            if (end > start) {
+                final int chunkStart = start;
+                final int chunkLength = end - start;
+                tasks.add(loadPool.submit(() -> loadChunk(bytes, chunkStart, chunkLength, strings)));
+            }
+            start = end;
+        }
+
+        for (ForkJoinTask<LoadedChunk> task : tasks) {
+            LoadedChunk chunk = task.join();
+            try {
+                for (String header : chunk.headers) {
+                    insertRecord(new MoneyRecordScanner(header), -1, account);
+                }
+            } catch (DukeException e) {
+                e.printStackTrace();
+                break;
+            }
+            account.getIncomeListTotal().addAll(chunk.incomes);
+            account.getExpListTotal().addAll(chunk.expenditures);
+            account.getShortTermGoals().addAll(chunk.goals);
+            account.getInstalments().addAll(chunk.instalments);
+            account.getLoans().addAll(chunk.loans);
+            account.getBankTrackerList().addAll(chunk.bankTrackers);
+            if (chunk.error instanceof RuntimeException && !(chunk.error instanceof DateTimeParseException)) {
+                throw (RuntimeException) chunk.error;
+            } else if (chunk.error != null) {
+                chunk.error.printStackTrace();
+                break;
+            }
+        }
+        return account;
+    }
+
+    private LoadedChunk loadChunk(byte[] bytes, int offset, int length, StringPool strings) {
+        LoadedChunk chunk = new LoadedChunk();
+        MoneyRecordScanner record = new MoneyRecordScanner(
+                new InputStreamReader(new ByteArrayInputStream(bytes, offset, length), StandardCharsets.UTF_8));
+        try {
+            while (record.nextLine()) {
+                String tag = record.readTag();
+                if (tag.equals("SEG") || tag.equals("INIT") || tag.equals("BS")) {
+                    chunk.headers.add(record.getLine());
+                } else {
+                    parseInto(chunk, tag, record, strings);
+                }
+            }
+        } catch (IOException | DukeException | RuntimeException e) {
+            chunk.error = e;
+        }
+        return chunk;
+    }
+
+    private void parseInto(LoadedChunk chunk, String tag, MoneyRecordScanner record, StringPool strings)
+            throws DukeException {
+        switch (tag) {
+        case "INC":
+            chunk.incomes.add(parseIncome(record, strings));
+            break;
+        case "EXP":
+            chunk.expenditures.add(parseExpenditure(record, strings));
+            break;
+        case "G":
+            chunk.goals.add(parseGoal(record, strings));
+            break;
+        case "INS":
+            chunk.instalments.add(parseInstalment(record, strings));
+            break;
+        case "LOA":
+            chunk.loans.add(parseLoan(record, strings));
+            break;
+        case "BAN":
+            chunk.bankTrackers.add(parseBankAccount(record));
+            break;
+        default:
+            throw new DukeException("OOPS!! Your file has been corrupted/ input file is invalid!");
+        }
+    }
+
+    /**
+     * The records parsed from one chunk of the data file, in lists that no index listens to,
+     * and the error that ended the chunk early if any.
+     */
+    private static class LoadedChunk {
+        private List<String> headers = new ArrayList<>();
+        private List<Income> incomes = new ArrayList<>();
+        private List<Expenditure> expenditures = new ArrayList<>();
+        private List<Goal> goals = new ArrayList<>();
+        private List<Instalment> instalments = new ArrayList<>();
+        private List<Loan> loans = new ArrayList<>();
+        private List<BankTracker> bankTrackers = new ArrayList<>();
+        private Exception error;
+    }
+
+    /**
+     * Loads the binary snapshot if it contains more of the journal than the text data file.
+     * @return the account loaded, or null if the text data file should be loaded instead
+     */
+    private Account loadBinarySnapshot() {
+        BinarySnapshot snapshot = new BinarySnapshot(getBinaryPath());
+        if (journal == null || !snapshot.exists()) {
+            return null;
+        }
+        try {
+            int binarySegment = snapshot.readFirstSegment();
+            int textSegment = readTextFirstSegment();
+            boolean isPreferred = journal.getBinarySnapshot() != null;
+            if (binarySegment < textSegment || (binarySegment == textSegment && !isPreferred)) {
+                return null;
+            }
+            Account account = new Account();
+            journal.setFirstSegment(snapshot.load(account));
+            return account;
+        } catch (IOException | DukeException | RuntimeException e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    private int readTextFirstSegment() throws IOException {
+        File file = new File(fileName);
+        if (!file.exists()) {
+            return 0;
+        }
+        try (BufferedReader bufferedReader = new BufferedReader(
+                new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8))) {
+            String line = bufferedReader.readLine();
+            if (line != null && line.startsWith("SEG @ ")) {
+                return Integer.parseInt(line.split(" @ ")[1]);
+            }
+            return 0;
+        }
+    }
+
+    private String getBinaryPath() {
+        return fileName.endsWith(".txt") ? fileName.substring(0, fileName.length() - 4) + ".bin" : fileName + ".bin";
+    }
+
     //@@author therealnickcheong
 
     /**
@@ -183,8 +515,7 @@ public class MoneyStorage {
      * @throws IOException if there is an error writing to data file.
      */
     public void writeIncome(Income i, BufferedWriter bufferedWriter) throws IOException {
-        bufferedWriter.write("INC @ " + i.getPrice() + " @ " + i.getDescription()
-                +  " @ " + i.getPaidTime() + "\n");
+        bufferedWriter.write(formatIncome(i) + "\n");
     }
     /**
      * to write the different types of items into the data file.
@@ -194,8 +525,7 @@ public class MoneyStorage {
      */
 
     public void writeExp(Expenditure exp, BufferedWriter bufferedWriter) throws IOException {
-        bufferedWriter.write("EXP @ " + exp.getPrice() + " @ " + exp.getDescription() + " @ "
-                + exp.getCategory() + " @ " + exp.getBoughtDate() + "\n");
+        bufferedWriter.write(formatExp(exp) + "\n");
     }
     /**
      * to write the different types of items into the data file.
@@ -205,8 +535,7 @@ public class MoneyStorage {
      */
 
     public void writeGoal(Goal g, BufferedWriter bufferedWriter) throws IOException {
-        bufferedWriter.write("G @ " + g.getPrice() + " @ " + g.getDescription() + " @ "
-                + g.getCategory() + " @ " + g.getGoalBy() + " @ " + g.getPriority() + "\n");
+        bufferedWriter.write(formatGoal(g) + "\n");
     }
 
     /**
@@ -217,9 +546,7 @@ public class MoneyStorage {
      */
 
     public void writeInstalment(Instalment ins, BufferedWriter bufferedWriter) throws IOException {
-        bufferedWriter.write("INS @ " + ins.getPrice() + " @ " + ins.getDescription() + " @ "
-                + ins.getCategory() + " @ " + ins.getBoughtDate() + " @ " + ins.getNumOfPayments() + " @ "
-                + ins.getAnnualInterestRate() + "\n");
+        bufferedWriter.write(formatInstalment(ins) + "\n");
     }
     /**
      * to write the different types of items into the data file.
@@ -229,9 +556,7 @@ public class MoneyStorage {
      */
 
     public void writeLoan(Loan l, BufferedWriter bufferedWriter) throws IOException {
-        bufferedWriter.write("LOA @ " + l.getPrice() + " @ " + l.getDescription()
-                + " @ " + l.getStartDate() + " @ " + l.getType().toString() + " @ "
-                + l.getEndDate() + " @ " + l.getStatusInt() + " @ " + l.getOutstandingLoan() + "\n");
+        bufferedWriter.write(formatLoan(l) + "\n");
     }
     /**
      * to write the different types of items into the data file.
@@ -241,8 +566,7 @@ public class MoneyStorage {
      */
 
     public void writeBank(BankTracker b, BufferedWriter bufferedWriter) throws IOException {
-        bufferedWriter.write("BAN @ " + b.getAmt() + " @ " + b.getDescription()
-                + " @ " + b.getLatestDate().toString() + " @ " + b.getRate() + "\n");
+        bufferedWriter.write(formatBank(b) + "\n");
     }
     /**
      * to write the different types of items into the data file.
@@ -252,7 +576,7 @@ public class MoneyStorage {
      */
 
     public void writeInit(Account account, BufferedWriter bufferedWriter) throws IOException {
-        bufferedWriter.write("INIT @ " + account.isToInitialize() + "\n");
+        bufferedWriter.write(formatInit(account) + "\n");
     }
     /**
      * to write the different types of items into the data file.
@@ -262,17 +586,165 @@ public class MoneyStorage {
      */
 
     public void writeBaseSavings(Account account, BufferedWriter bufferedWriter) throws IOException {
-        bufferedWriter.write("BS @ " + account.getBaseSavings() + "\n");
+        bufferedWriter.write(formatBaseSavings(account) + "\n");
+    }
+
+    //@@author
+    /**
+     * Methods to convert the different types of items into a line of the data file.
+     * @param i item to be converted.
+     * @return line representing the item, without the line separator.
+     */
+    String formatIncome(Income i) {
+        return "INC @ " + i.getPriceCents() + " @ " + i.getDescription() +  " @ " + i.getPaidTime();
+    }
+
+    String formatExp(Expenditure exp) {
+        return "EXP @ " + exp.getPriceCents() + " @ " + exp.getDescription() + " @ "
+                + exp.getCategory() + " @ " + exp.getBoughtDate();
+    }
+
+    String formatGoal(Goal g) {
+        return "G @ " + g.getPriceCents() + " @ " + g.getDescription() + " @ "
+                + g.getCategory() + " @ " + g.getGoalBy() + " @ " + g.getPriority();
+    }
+
+    String formatInstalment(Instalment ins) {
+        return "INS @ " + ins.getPriceCents() + " @ " + ins.getDescription() + " @ "
+                + ins.getCategory() + " @ " + ins.getBoughtDate() + " @ " + ins.getNumOfPayments() + " @ "
+                + ins.getAnnualInterestRate();
+    }
+
+    String formatLoan(Loan l) {
+        return "LOA @ " + l.getPriceCents() + " @ " + l.getDescription()
+                + " @ " + l.getStartDate() + " @ " + l.getType().toString() + " @ "
+                + l.getEndDate() + " @ " + l.getStatusInt() + " @ " + l.getOutstandingCents();
+    }
+
+    String formatBank(BankTracker b) {
+        return "BAN @ " + b.getAmtCents() + " @ " + b.getDescription()
+                + " @ " + b.getLatestDate().toString() + " @ " + b.getRate();
+    }
+
+    String formatInit(Account account) {
+        return "INIT @ " + account.isToInitialize();
+    }
+
+    String formatBaseSavings(Account account) {
+        return "BS @ " + account.getBaseSavingsCents();
     }
 
     /**
      * method to write the items into the data file.
+     * In journaled mode only the changes since the last write are appended to the journal,
+     * with split files only the files of the record types that changed are written,
+     * otherwise the whole data file is rewritten. With write-behind the account is only marked
+     * as changed and written shortly after on the writer thread.
      * @param account items from this account is written into the data file.
      */
-
+    @Override
     public void writeToFile(Account account) {
+        if (writeBehind != null) {
+            writeBehind.markDirty(account);
+        } else {
+            writeNow(account);
+        }
+    }
+
+    /**
+     * Writes the changes that are waiting on the writer thread and returns once they are
+     * written and forced to disk.
+     */
+    @Override
+    public void flush() {
+        if (writeBehind != null) {
+            writeBehind.flush();
+        }
         try {
-            FileWriter fileWriter = new FileWriter(fileName);
+            groupCommit.sync();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Writes the changes that are waiting on the writer thread, stops the writer thread and
+     * forces what was written to disk. Later writes happen on the calling thread.
+     */
+    @Override
+    public void close() {
+        if (writeBehind != null) {
+            writeBehind.close();
+            writeBehind = null;
+        }
+        flush();
+    }
+
+    /**
+     * Writes the account into the data file on the calling thread.
+     * @param account items from this account is written into the data file.
+     */
+    void writeNow(Account account) {
+        if (journal == null && splitFiles == null) {
+            writeSnapshot(account);
+            return;
+        }
+        try {
+            if (journal != null) {
+                journal.append(account);
+            } else {
+                splitFiles.write(account);
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    public boolean isJournaled() {
+        return journal != null;
+    }
+
+    /**
+     * Returns the journal of the data file, which holds the tunables and statistics of journaled mode.
+     * @return the journal, or null if the storage rewrites the whole data file on every write
+     */
+    public MoneyJournal getJournal() {
+        return journal;
+    }
+
+    /**
+     * Returns the size of the data file, or of the split files if the records are kept in them.
+     * @return size of the data file in bytes
+     */
+    public long getSnapshotBytes() {
+        if (journal != null && journal.getBinarySnapshot() != null) {
+            return new File(journal.getBinarySnapshot().getFilePath()).length();
+        }
+        if (splitFiles != null && splitFiles.exists()) {
+            return splitFiles.getBytes();
+        }
+        return new File(fileName).length();
+    }
+
+    /**
+     * Returns the size of the data file together with the journal segments that are not in it yet.
+     * @return size of the persisted account in bytes
+     */
+    @Override
+    public long getStoredBytes() {
+        return getSnapshotBytes() + (journal == null ? 0 : journal.getJournalBytes());
+    }
+
+    /**
+     * method to rewrite the whole data file with the items of the account.
+     * The items are written to a temporary file that then replaces the data file,
+     * so a crash in the middle of a write leaves the previous data file intact.
+     * @param account items from this account is written into the data file.
+     */
+    private void writeSnapshot(Account account) {
+        try {
+            File tempFile = new File(fileName + ".tmp");
+            Writer fileWriter = new OutputStreamWriter(new FileOutputStream(tempFile), StandardCharsets.UTF_8);
             BufferedWriter bufferedWriter = new BufferedWriter(fileWriter);
             bufferedWriter.write("");
             writeInit(account, bufferedWriter);
@@ -303,53 +775,30 @@ public class MoneyStorage {
             }
 
             bufferedWriter.close();
+            groupCommit.replace(tempFile, new File(fileName));
         } catch (IOException e) {
             e.printStackTrace();
         }
     }
 
     //@@author Chianhaoplanks
-
-    /**
-     * method that adds a deleted entry of type Item into the stack of deleted entries.
-     * @param item deleted by a recent delete command.
-     */
-
+    @Override
     public void addDeletedEntry(Item item) {
-        deletedEntries.push(item);
-        if (deletedEntries.size() > 5) {
-            deletedEntries.removeElementAt(0);
-        }
+        undoStash.addDeletedEntry(item);
     }
 
-    /**
-     * returns the most recently deleted entry of type Item when the undo command is called.
-     * @return most recent item deleted in the program.
-     */
+    @Override
     public Item getDeletedEntry() {
-        Item item = deletedEntries.lastElement();
-        deletedEntries.pop();
-        return item;
+        return undoStash.getDeletedEntry();
     }
 
-    /**
-     * method that adds a deleted entry of type BankTracker into a stack of BankTrackers.
-     * @param bankTracker deleted by a recent DeleteBankAccountCommand that was called.
-     */
+    @Override
     public void addDeletedBank(BankTracker bankTracker) {
-        deletedBanks.push(bankTracker);
-        if (deletedBanks.size() > 5) {
-            deletedBanks.removeElementAt(0);
-        }
+        undoStash.addDeletedBank(bankTracker);
     }
 
-    /**
-     * returns the most recently deleted BankTracker when the undo command is called.
-     * @return most recent BankTracker deleted in the program.
-     */
+    @Override
     public BankTracker getDeletedBankTracker() {
-        BankTracker bt = deletedBanks.lastElement();
-        deletedBanks.pop();
-        return bt;
+        return undoStash.getDeletedBankTracker();
     }
 }
@@ -0,0 +1,165 @@
+package controlpanel;
+
+import money.Account;
+
+/**
+ * This class writes an Account to its storage on a background thread after it changes.
+ * Commands only mark the account dirty. The writer waits until the account has been quiet for a
+ * short while, so that a burst of commands is written once, but never longer than the maximum delay
+ * after the first unwritten change. Writes take the lock of the account, so commands that
+ * change the account while holding its lock are never written half done.
+ * Pending changes are also written by a shutdown hook, until the writer is closed.
+ */
+public class MoneyWriteBehind {
+
+    public static final long DEFAULT_MAX_DELAY = 500;
+    private static final long QUIET_PERIOD = 20;
+
+    private MoneyStorage storage;
+    private long maxDelay;
+    private long quietPeriod;
+    private Account dirtyAccount;
+    private Account lastAccount;
+    private long firstChangeTime;
+    private long lastChangeTime;
+    private volatile int changeCount;
+    private volatile int writeCount;
+    private boolean isClosed;
+    private Thread writer;
+    private Thread flushHook;
+
+    /**
+     * Constructor for the writer of a storage, which starts the writer thread.
+     * @param storage The storage that writes the account
+     * @param maxDelay Longest time in milliseconds that a change waits before it is written
+     */
+    public MoneyWriteBehind(MoneyStorage storage, long maxDelay) {
+        this.storage = storage;
+        this.maxDelay = maxDelay;
+        quietPeriod = Math.min(QUIET_PERIOD, maxDelay);
+        writer = new Thread(this::runWriter, "money-writer");
+        writer.setDaemon(true);
+        writer.start();
+        flushHook = new Thread(this::flush, "money-writer-flush");
+        Runtime.getRuntime().addShutdownHook(flushHook);
+    }
+
+    /**
+     * Marks the account as changed, so that the writer thread writes it soon.
+     * @param account Account object that changed
+     */
+    public synchronized void markDirty(Account account) {
+        long now = System.currentTimeMillis();
+        if (dirtyAccount == null) {
+            firstChangeTime = now;
+        }
+        dirtyAccount = account;
+        lastAccount = account;
+        lastChangeTime = now;
+        changeCount++;
+        notifyAll();
+    }
+
+    /**
+     * Writes the account now if it has changes that are not written yet, and returns once they are
+     * on disk, including changes that the writer thread is writing at the time.
+     */
+    public void flush() {
+        Account account;
+        synchronized (this) {
+            account = lastAccount;
+        }
+        if (account != null) {
+            write(account);
+        }
+    }
+
+    /**
+     * Writes the changes that are not written yet, stops the writer thread and removes the shutdown hook.
+     * Changes marked after the writer is closed are only written by flush().
+     */
+    public void close() {
+        synchronized (this) {
+            isClosed = true;
+            notifyAll();
+        }
+        flush();
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            Runtime.getRuntime().removeShutdownHook(flushHook);
+        } catch (IllegalStateException e) {
+            // the JVM is already shutting down, and runs the hook itself
+        }
+    }
+
+    public long getMaxDelay() {
+        return maxDelay;
+    }
+
+    public int getChangeCount() {
+        return changeCount;
+    }
+
+    public int getWriteCount() {
+        return writeCount;
+    }
+
+    private void runWriter() {
+        while (true) {
+            Account account;
+            try {
+                account = awaitDueAccount();
+            } catch (InterruptedException e) {
+                return;
+            }
+            if (account == null) {
+                return;
+            }
+            write(account);
+        }
+    }
+
+    /**
+     * Waits until a changed account is due to be written: it has been quiet for the quiet period,
+     * or its oldest unwritten change is as old as the maximum delay.
+     * Returns null once the writer is closed.
+     */
+    private synchronized Account awaitDueAccount() throws InterruptedException {
+        while (true) {
+            if (isClosed) {
+                return null;
+            }
+            if (dirtyAccount == null) {
+                wait();
+                continue;
+            }
+            long dueTime = Math.min(lastChangeTime + quietPeriod, firstChangeTime + maxDelay);
+            long now = System.currentTimeMillis();
+            if (now >= dueTime) {
+                return dirtyAccount;
+            }
+            wait(dueTime - now);
+        }
+    }
+
+    /**
+     * Writes the account if it is still dirty. The lock of the account is taken before the
+     * account is marked clean, so no change can come in between the two.
+     */
+    private void write(Account account) {
+        synchronized (account) {
+            synchronized (this) {
+                if (dirtyAccount != account) {
+                    return;
+                }
+                dirtyAccount = null;
+            }
+            storage.writeNow(account);
+            writeCount++;
+        }
+    }
+}
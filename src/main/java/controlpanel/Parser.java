@@ -11,6 +11,9 @@ import moneycommands.DeleteIncomeCommand;
 import moneycommands.ExitMoneyCommand;
 import moneycommands.InitCommand;
 import moneycommands.ListBankTrackerCommand;
+import moneycommands.ListAmountRangeCommand;
+import moneycommands.ListCategoryCommand;
+import moneycommands.ListLargestCommand;
 import moneycommands.ListGoalsCommand;
 import moneycommands.ListTotalExpenditureCommand;
 import moneycommands.ListTotalIncomeCommand;
@@ -19,6 +22,8 @@ import moneycommands.MoneyCommand;
 import moneycommands.CommitGoalCommand;
 import moneycommands.DoneGoalCommand;
 import moneycommands.FindCommand;
+import moneycommands.FuzzyFindCommand;
+import moneycommands.QueryCommand;
 import moneycommands.DeleteBankAccountCommand;
 import moneycommands.GraphCommand;
 import moneycommands.UndoCommand;
@@ -32,6 +37,7 @@ import moneycommands.ListLoansCommand;
 import moneycommands.DeleteLoanCommand;
 import moneycommands.CheckFutureBalanceCommand;
 import moneycommands.InternalTransferCommand;
+import moneycommands.StorageStatsCommand;
 
 import java.text.ParseException;
 import java.time.LocalDate;
@@ -89,6 +95,10 @@ public class Parser {
             moneyCommand = new DoneGoalCommand(cmd);
         } else if (cmd.startsWith("find#")) {
             moneyCommand = new FindCommand(cmd);
+        } else if (cmd.startsWith("find~")) {
+            moneyCommand = new FuzzyFindCommand(cmd);
+        } else if (cmd.startsWith("query")) {
+            moneyCommand = new QueryCommand(cmd);
         } else if (cmd.startsWith("add income")) {
             moneyCommand = new AddIncomeCommand(cmd);
         } else if (cmd.startsWith("spent")) {
@@ -121,6 +131,12 @@ public class Parser {
             moneyCommand = new ViewPastIncomeCommand(cmd);
         } else if (cmd.startsWith("check expenditure")) {
             moneyCommand = new ViewPastExpenditureCommand(cmd);
+        } else if (cmd.startsWith("list category")) {
+            moneyCommand = new ListCategoryCommand(cmd);
+        } else if (cmd.startsWith("list largest")) {
+            moneyCommand = new ListLargestCommand(cmd);
+        } else if (cmd.startsWith("list expenditure /") || cmd.startsWith("list income /")) {
+            moneyCommand = new ListAmountRangeCommand(cmd);
         } else if (cmd.startsWith("lent") || cmd.startsWith("borrowed")) {
             moneyCommand = new AddLoanCommand(cmd);
         } else if (cmd.startsWith("list") && cmd.contains("loans")) {
@@ -129,6 +145,8 @@ public class Parser {
             moneyCommand = new SettleLoanCommand(cmd);
         } else if (cmd.startsWith("delete loan")) {
             moneyCommand = new DeleteLoanCommand(cmd);
+        } else if (cmd.equals("stats storage")) {
+            moneyCommand = new StorageStatsCommand();
         } else {
             throw new DukeException("OOPS!!! I'm sorry, but I don't know what that means");
         }
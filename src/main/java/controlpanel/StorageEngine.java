@@ -0,0 +1,87 @@
+package controlpanel;
+
+import money.Account;
+import money.BankTracker;
+import money.Item;
+
+import java.io.IOException;
+
+/**
+ * This interface is implemented by the ways the Account of the user can be persisted.
+ * Commands only load, write and flush the account and stash deleted entries for undo through it,
+ * so the backend can be chosen at startup without the commands knowing which one is used.
+ */
+public interface StorageEngine {
+
+    /**
+     * Opens the backend with the given name on a data file.
+     * text rewrites the whole data file on every write, split keeps one file per record type,
+     * journal appends changes to a journal that is checkpointed into the text data file,
+     * binary does the same with a memory-mapped binary snapshot, and memory writes nothing.
+     * @param backend Name of the backend
+     * @param filePath FilePath of the data text file
+     * @return the storage engine
+     * @throws DukeException if there is no backend with the given name
+     */
+    static StorageEngine open(String backend, String filePath) throws DukeException {
+        switch (backend.toLowerCase()) {
+        case "text":
+            return new MoneyStorage(filePath);
+        case "split":
+            MoneyStorage splitStorage = new MoneyStorage(filePath);
+            splitStorage.setSplitFiles(true);
+            return splitStorage;
+        case "journal":
+            return new MoneyStorage(filePath, true);
+        case "binary":
+            MoneyStorage binaryStorage = new MoneyStorage(filePath, true);
+            binaryStorage.setBinarySnapshot(true);
+            return binaryStorage;
+        case "memory":
+            return new InMemoryStorage();
+        default:
+            throw new DukeException("There is no storage backend called " + backend
+                    + ", try text, split, journal, binary or memory");
+        }
+    }
+
+    /**
+     * Loads the account of the user.
+     * @return the account of the user
+     * @throws IOException if the account cannot be read
+     */
+    Account load() throws IOException;
+
+    /**
+     * Persists the changes made to the account since it was last written.
+     * @param account Account object containing all financial info of user saved on the programme
+     */
+    void writeToFile(Account account);
+
+    /**
+     * Writes the changes that are still pending and returns once they are persisted.
+     */
+    void flush();
+
+    /**
+     * Writes the changes that are still pending, as flush does, and stops any threads of the backend.
+     * Called once the account will not change any more, such as when the program exits.
+     */
+    default void close() {
+        flush();
+    }
+
+    /**
+     * Returns the number of bytes the account takes up where it is persisted.
+     * @return size of the persisted account in bytes
+     */
+    long getStoredBytes();
+
+    void addDeletedEntry(Item item);
+
+    Item getDeletedEntry();
+
+    void addDeletedBank(BankTracker bankTracker);
+
+    BankTracker getDeletedBankTracker();
+}
@@ -0,0 +1,68 @@
+package controlpanel;
+
+import money.BankTracker;
+import money.Item;
+
+import java.util.Stack;
+
+/**
+ * This class keeps the entries that were deleted most recently, so that their deletion can be undone.
+ * Only the last few entries of each kind are kept.
+ */
+public class UndoStash {
+
+    private static final int MAX_ENTRIES = 5;
+
+    private Stack<Item> deletedEntries;
+    private Stack<BankTracker> deletedBanks;
+
+    /**
+     * Constructor for an empty stash.
+     */
+    public UndoStash() {
+        deletedEntries = new Stack<>();
+        deletedBanks = new Stack<>();
+    }
+
+    /**
+     * method that adds a deleted entry of type Item into the stack of deleted entries.
+     * @param item deleted by a recent delete command.
+     */
+    public void addDeletedEntry(Item item) {
+        deletedEntries.push(item);
+        if (deletedEntries.size() > MAX_ENTRIES) {
+            deletedEntries.removeElementAt(0);
+        }
+    }
+
+    /**
+     * returns the most recently deleted entry of type Item when the undo command is called.
+     * @return most recent item deleted in the program.
+     */
+    public Item getDeletedEntry() {
+        Item item = deletedEntries.lastElement();
+        deletedEntries.pop();
+        return item;
+    }
+
+    /**
+     * method that adds a deleted entry of type BankTracker into a stack of BankTrackers.
+     * @param bankTracker deleted by a recent DeleteBankAccountCommand that was called.
+     */
+    public void addDeletedBank(BankTracker bankTracker) {
+        deletedBanks.push(bankTracker);
+        if (deletedBanks.size() > MAX_ENTRIES) {
+            deletedBanks.removeElementAt(0);
+        }
+    }
+
+    /**
+     * returns the most recently deleted BankTracker when the undo command is called.
+     * @return most recent BankTracker deleted in the program.
+     */
+    public BankTracker getDeletedBankTracker() {
+        BankTracker bt = deletedBanks.lastElement();
+        deletedBanks.pop();
+        return bt;
+    }
+}
@@ -3,6 +3,7 @@ package guicontroller;
 import controlpanel.FG;
 import controlpanel.DukeException;
 import controlpanel.GraphSelector;
+import controlpanel.LiveSearch;
 import help.AutoComplete;
 import help.History;
 import javafx.application.Platform;
@@ -40,6 +41,7 @@ public class MainWindow extends AnchorPane {
     private TextField searchBar;
 
     private FG financialGhost;
+    private LiveSearch liveSearch;
     private UserIcon userIcon;
 
     private Image userImage = new Image(this.getClass().getResourceAsStream("/images/DaUser.png"));
@@ -83,6 +85,8 @@ public class MainWindow extends AnchorPane {
             dialogContainer.getChildren().addAll(
                     DialogBox.getDukeDialog(logo, dukeImage));
         }
+        liveSearch = new LiveSearch(financialGhost.getAccount(), LiveSearch.DEFAULT_DELAY,
+                (query, results) -> Platform.runLater(() -> showSearchResults(query, results)));
     }
 
     //@@author cctt1014
@@ -129,14 +133,22 @@ public class MainWindow extends AnchorPane {
         String input = searchBar.getText();
         if (input.equals("")) {
             graphContainer.getChildren().clear();
-        } else {
-            String[] response = financialGhost.getResponse("find# " + input);
-            graphContainer.getChildren().clear();
-            if (!response[1].equals("")) {
-                graphContainer.getChildren().clear();
-                graphContainer.getChildren().addAll(
-                        DialogBox.getDukeDialog(response[1], dukeImage));
-            }
+        }
+        liveSearch.submit(input);
+    }
+
+    //@@author
+    /**
+     * Shows the records found for the text of the search bar, unless the text has changed since.
+     */
+    private void showSearchResults(String query, String results) {
+        if (!query.equals(searchBar.getText())) {
+            return;
+        }
+        graphContainer.getChildren().clear();
+        if (!results.equals("")) {
+            graphContainer.getChildren().addAll(
+                    DialogBox.getDukeDialog(results, dukeImage));
         }
     }
 
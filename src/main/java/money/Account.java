@@ -2,40 +2,120 @@ package money;
 
 import controlpanel.DukeException;
 
-import java.text.DecimalFormat;
 import java.time.LocalDate;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.List;
 
 /**
  * This class is created to store the information of the user's financial information.
+ * The totals of the income, expenditure and loans are kept up to date as records are added
+ * and removed, so reading them does not scan the lists. With the fg.verifyTotals system property
+ * (or setVerifyingTotals) every read of a total is checked against a full recompute.
+ * The income and expenditure are also indexed by date, for queries over a month or a range of days,
+ * and added up by month (and the expenditure by category too), for totals over a range of months.
+ * The expenditure is grouped by category and the income by source, for the trend graphs,
+ * and the loans by type and counterparty. Bank trackers are keyed by name. The words in the
+ * descriptions and categories of every kind of record are indexed for find#, and the income
+ * and expenditure are sorted by amount, for ranges of amounts and the largest records.
+ * Categories and descriptions are interned in a StringPool of the account as records are loaded
+ * and added, so records share them.
  */
 public class Account {
-    private ArrayList<Income> incomeListTotal;
-    private ArrayList<Expenditure> expListTotal;
-    private ArrayList<Goal> shortTermGoals;
-    private ArrayList<Instalment> instalments;
-    private ArrayList<BankTracker> bankTrackerList;
-    private ArrayList<Loan> loans;
-    private float totalSavings;
-    private float baseSavings;
-    private float goalSavings;
+    private static boolean isVerifyingTotals = Boolean.getBoolean("fg.verifyTotals");
+
+    private RecordList<Income> incomeListTotal;
+    private RecordList<Expenditure> expListTotal;
+    private RecordList<Goal> shortTermGoals;
+    private RecordList<Instalment> instalments;
+    private RecordList<BankTracker> bankTrackerList;
+    private RecordList<Loan> loans;
+    private long totalSavings;
+    private long baseSavings;
+    private long goalSavings;
     private boolean toInitialize;
+    private RunningTotal incomeTotal;
+    private RunningTotal expTotal;
+    private RunningTotal loansTotal;
+    private TimeIndex<Income> incomeTimeIndex;
+    private TimeIndex<Expenditure> expTimeIndex;
+    private MonthlyTotals<Income> incomeMonthlyTotals;
+    private MonthlyTotals<Expenditure> expMonthlyTotals;
+    private CategoryIndex<Income> incomeSourceIndex;
+    private CategoryIndex<Expenditure> expCategoryIndex;
+    private LoanIndex loanIndex;
+    private BankTrackerIndex bankTrackerIndex;
+    private StringPool stringPool;
+    private TextIndex<Income> incomeTextIndex;
+    private TextIndex<Expenditure> expTextIndex;
+    private TextIndex<Goal> goalTextIndex;
+    private TextIndex<Instalment> instalmentTextIndex;
+    private TextIndex<Loan> loanTextIndex;
+    private AmountIndex<Income> incomeAmountIndex;
+    private AmountIndex<Expenditure> expAmountIndex;
 
     //@@author ChenChao19
     /**
      * Constructor of the Account Object to record financial information of the user.
-     * This constructor is used when initializing a new account.
+     * This constructor is used when initializing a new account. The income and expenditure
+     * are kept in columns if the fg.columnar system property is set.
      */
     public Account() {
-        incomeListTotal = new ArrayList<>();
-        expListTotal = new ArrayList<>();
-        shortTermGoals = new ArrayList<>();
-        instalments = new ArrayList<>();
-        bankTrackerList = new ArrayList<>();
-        loans = new ArrayList<>();
+        this(Boolean.getBoolean("fg.columnar"));
+    }
+
+    /**
+     * Constructor of the Account Object to record financial information of the user,
+     * which chooses how the income and expenditure are kept.
+     * @param isColumnar Whether the income and expenditure are kept in RecordColumns instead of as objects
+     */
+    public Account(boolean isColumnar) {
+        this(isColumnar, new StringPool());
+    }
+
+    /**
+     * Constructor of the Account Object to record financial information of the user,
+     * which interns its strings in a pool shared with other accounts, such as the accounts
+     * that the chunks of a data file are loaded into before they are put together.
+     * @param stringPool The pool to intern categories and descriptions in
+     */
+    public Account(StringPool stringPool) {
+        this(Boolean.getBoolean("fg.columnar"), stringPool);
+    }
+
+    private Account(boolean isColumnar, StringPool stringPool) {
+        this.stringPool = stringPool;
+        if (isColumnar) {
+            incomeListTotal = new RecordList<>(new RecordColumns<>(RecordColumns.INCOME));
+            expListTotal = new RecordList<>(new RecordColumns<>(RecordColumns.EXPENDITURE));
+        } else {
+            incomeListTotal = new RecordList<>();
+            expListTotal = new RecordList<>();
+        }
+        shortTermGoals = new RecordList<>();
+        instalments = new RecordList<>();
+        bankTrackerList = new RecordList<>();
+        loans = new RecordList<>();
         toInitialize = true;
+        incomeTotal = new RunningTotal(incomeListTotal);
+        expTotal = new RunningTotal(expListTotal);
+        loansTotal = new RunningTotal(loans);
+        incomeTimeIndex = new TimeIndex<>(incomeListTotal, Income::getPayday);
+        expTimeIndex = new TimeIndex<>(expListTotal, Expenditure::getDateBoughtDate);
+        incomeMonthlyTotals = new MonthlyTotals<>(incomeListTotal, Income::getPayday, null);
+        expMonthlyTotals = new MonthlyTotals<>(expListTotal, Expenditure::getDateBoughtDate,
+                Expenditure::getCategory);
+        incomeSourceIndex = new CategoryIndex<>(incomeListTotal, Income::getDescription);
+        expCategoryIndex = new CategoryIndex<>(expListTotal, Expenditure::getCategory);
+        loanIndex = new LoanIndex(loans);
+        bankTrackerIndex = new BankTrackerIndex(bankTrackerList);
+        incomeTextIndex = new TextIndex<>(incomeListTotal, null);
+        expTextIndex = new TextIndex<>(expListTotal, Expenditure::getCategory);
+        goalTextIndex = new TextIndex<>(shortTermGoals, Goal::getCategory);
+        instalmentTextIndex = new TextIndex<>(instalments, Instalment::getCategory);
+        loanTextIndex = new TextIndex<>(loans, null);
+        incomeAmountIndex = new AmountIndex<>(incomeListTotal);
+        expAmountIndex = new AmountIndex<>(expListTotal);
     }
 
     /**
@@ -50,8 +130,27 @@ public class Account {
         instalments = account.getInstalments();
         bankTrackerList = account.getBankTrackerList();
         loans = account.getLoans();
+        incomeTotal = account.incomeTotal;
+        expTotal = account.expTotal;
+        loansTotal = account.loansTotal;
+        incomeTimeIndex = account.getIncomeTimeIndex();
+        expTimeIndex = account.getExpTimeIndex();
+        incomeMonthlyTotals = account.getIncomeMonthlyTotals();
+        expMonthlyTotals = account.getExpMonthlyTotals();
+        incomeSourceIndex = account.getIncomeSourceIndex();
+        expCategoryIndex = account.getExpCategoryIndex();
+        loanIndex = account.getLoanIndex();
+        bankTrackerIndex = account.getBankTrackerIndex();
+        stringPool = account.getStringPool();
+        incomeTextIndex = account.getIncomeTextIndex();
+        expTextIndex = account.getExpTextIndex();
+        goalTextIndex = account.getGoalTextIndex();
+        instalmentTextIndex = account.getInstalmentTextIndex();
+        loanTextIndex = account.getLoanTextIndex();
+        incomeAmountIndex = account.getIncomeAmountIndex();
+        expAmountIndex = account.getExpAmountIndex();
         toInitialize = account.isToInitialize();
-        baseSavings = account.getBaseSavings();
+        baseSavings = account.getBaseSavingsCents();
         updateSavings();
         //if (account.isInitialised()) {
         //    toInitialize = false;
@@ -65,11 +164,21 @@ public class Account {
      * @param avgExp The average Expenditure per month of the user
      */
     public void initialize(float userSavings, float avgExp) {
+        initialize(Money.of(userSavings), Money.of(avgExp));
+    }
+
+    /**
+     * This method is to initialize the user account with exact amounts of money.
+     * @param userSavings The initial savings the user have in his account
+     * @param avgExp The average Expenditure per month of the user
+     */
+    public void initialize(Money userSavings, Money avgExp) {
         LocalDate nowDate = LocalDate.now();
         Income initialSavings;
-        if (userSavings > avgExp * 6) {
-            this.baseSavings = avgExp * 6;
-            this.goalSavings = userSavings - baseSavings;
+        long sixMonthsCents = Math.multiplyExact(avgExp.getCents(), 6);
+        if (userSavings.getCents() > sixMonthsCents) {
+            this.baseSavings = sixMonthsCents;
+            this.goalSavings = userSavings.getCents() - baseSavings;
             initialSavings = new Income(userSavings, "Initial Savings", nowDate);
             incomeListTotal.add(initialSavings);
         } else {
@@ -82,24 +191,106 @@ public class Account {
     }
 
     //@@author ChenChao19
-    public ArrayList<Income> getIncomeListTotal() {
+    public RecordList<Income> getIncomeListTotal() {
         return incomeListTotal;
     }
 
-    public ArrayList<Expenditure> getExpListTotal() {
+    public RecordList<Expenditure> getExpListTotal() {
         return expListTotal;
     }
 
-    public ArrayList<Instalment> getInstalments() {
+    public RecordList<Instalment> getInstalments() {
         return instalments;
     }
 
-    public ArrayList<Goal> getShortTermGoals() {
+    public RecordList<Goal> getShortTermGoals() {
         return shortTermGoals;
     }
 
+    //@@author
+    public TimeIndex<Income> getIncomeTimeIndex() {
+        return incomeTimeIndex;
+    }
+
+    public TimeIndex<Expenditure> getExpTimeIndex() {
+        return expTimeIndex;
+    }
+
+    public MonthlyTotals<Income> getIncomeMonthlyTotals() {
+        return incomeMonthlyTotals;
+    }
+
+    public MonthlyTotals<Expenditure> getExpMonthlyTotals() {
+        return expMonthlyTotals;
+    }
+
+    public CategoryIndex<Income> getIncomeSourceIndex() {
+        return incomeSourceIndex;
+    }
+
+    public CategoryIndex<Expenditure> getExpCategoryIndex() {
+        return expCategoryIndex;
+    }
+
+    /**
+     * Builds the text indexes of every kind of record, which are otherwise built on the first search
+     * that reads them.
+     */
+    public void buildTextIndexes() {
+        incomeTextIndex.build();
+        expTextIndex.build();
+        goalTextIndex.build();
+        instalmentTextIndex.build();
+        loanTextIndex.build();
+    }
+
+    public TextIndex<Income> getIncomeTextIndex() {
+        return incomeTextIndex;
+    }
+
+    public TextIndex<Expenditure> getExpTextIndex() {
+        return expTextIndex;
+    }
+
+    public TextIndex<Goal> getGoalTextIndex() {
+        return goalTextIndex;
+    }
+
+    public TextIndex<Instalment> getInstalmentTextIndex() {
+        return instalmentTextIndex;
+    }
+
+    public TextIndex<Loan> getLoanTextIndex() {
+        return loanTextIndex;
+    }
+
+    public AmountIndex<Income> getIncomeAmountIndex() {
+        return incomeAmountIndex;
+    }
+
+    public AmountIndex<Expenditure> getExpAmountIndex() {
+        return expAmountIndex;
+    }
+
+    public LoanIndex getLoanIndex() {
+        return loanIndex;
+    }
+
+    public StringPool getStringPool() {
+        return stringPool;
+    }
+
+    /**
+     * Returns the copy of a category or description in the pool of the account.
+     * @param text The category or description
+     * @return the string in the pool, or the string itself if the pool is full
+     */
+    public String intern(String text) {
+        return stringPool.intern(text);
+    }
+
     //@@author chengweixuan
-    public ArrayList<Loan> getLoans() {
+    public RecordList<Loan> getLoans() {
         return loans;
     }
 
@@ -108,39 +299,23 @@ public class Account {
      * @return The total amount of all the loans
      */
     public float getLoansTotal() {
-        float total = 0;
-        for (Loan l : loans) {
-            total += l.getPrice();
-        }
-        return total;
+        return Money.toFloat(loansTotal.get(loans, "loans"));
     }
 
     /**
-     * This method iterate through all the loans and select the outgoing loans and put them in a list.
+     * This method returns the outgoing loans, as a live read-only view of the Loans List.
      * @return The list of outgoing loans.
      */
-    public ArrayList<Loan> getOutgoingLoans() {
-        ArrayList<Loan> outgoingLoans = new ArrayList<>();
-        for (Loan l : loans) {
-            if (l.type == Loan.Type.OUTGOING) {
-                outgoingLoans.add(l);
-            }
-        }
-        return outgoingLoans;
+    public List<Loan> getOutgoingLoans() {
+        return loanIndex.getLoans(Loan.Type.OUTGOING);
     }
 
     /**
-     * This method iterate through all the loans and select the incoming loans and put them in a list.
+     * This method returns the incoming loans, as a live read-only view of the Loans List.
      * @return The list of incoming loans.
      */
-    public ArrayList<Loan> getIncomingLoans() {
-        ArrayList<Loan> incomingLoans = new ArrayList<>();
-        for (Loan l : loans) {
-            if (l.type == Loan.Type.INCOMING) {
-                incomingLoans.add(l);
-            }
-        }
-        return incomingLoans;
+    public List<Loan> getIncomingLoans() {
+        return loanIndex.getLoans(Loan.Type.INCOMING);
     }
 
     //@@author therealnickcheong
@@ -148,7 +323,7 @@ public class Account {
      * This method sorts the short term goal with a custom comparator function.
      * @param shortTermGoals The lists of short term goals
      */
-    public void sortShortTermGoals(ArrayList<Goal> shortTermGoals) {
+    public void sortShortTermGoals(List<Goal> shortTermGoals) {
         Collections.sort(shortTermGoals, new Comparator<Goal>() {
             @Override
             public int compare(Goal g1, Goal g2) {
@@ -162,13 +337,21 @@ public class Account {
     }
 
     //@@author cctt1014
-    public ArrayList<BankTracker> getBankTrackerList() {
+    public RecordList<BankTracker> getBankTrackerList() {
         return bankTrackerList;
     }
 
+    public BankTrackerIndex getBankTrackerIndex() {
+        return bankTrackerIndex;
+    }
+
     //@@author ChenChao19
     public void setBaseSavings(float baseSavings) {
-        this.baseSavings = baseSavings;
+        this.baseSavings = Money.toCents(baseSavings);
+    }
+
+    public void setBaseSavings(Money baseSavings) {
+        this.baseSavings = baseSavings.getCents();
     }
 
     /**
@@ -177,11 +360,15 @@ public class Account {
      * @return The sum of all the income
      */
     public float getTotalIncome() {
-        float total = 0;
-        for (Income i : incomeListTotal) {
-            total += i.getPrice();
-        }
-        return total;
+        return Money.toFloat(getTotalIncomeCents());
+    }
+
+    /**
+     * This method returns the sum of all the income exactly, in cents.
+     * @return The sum of all the income in cents
+     */
+    public long getTotalIncomeCents() {
+        return incomeTotal.get(incomeListTotal, "income");
     }
 
     /**
@@ -190,30 +377,38 @@ public class Account {
      * @return The sum of all the expenditure
      */
     public float getTotalExp() {
-        float total = 0;
-        for (Expenditure i : expListTotal) {
-            total += i.getPrice();
-        }
-        return total;
+        return Money.toFloat(getTotalExpCents());
+    }
+
+    /**
+     * This method returns the sum of all the expenditure exactly, in cents.
+     * @return The sum of all the expenditure in cents
+     */
+    public long getTotalExpCents() {
+        return expTotal.get(expListTotal, "expenditure");
     }
 
     public float getTotalSavings() {
-        totalSavings = getTotalIncome() - getTotalExp();
-        return totalSavings;
+        totalSavings = getTotalIncomeCents() - getTotalExpCents();
+        return Money.toFloat(totalSavings);
     }
 
     public float getBaseSavings() {
+        return Money.toFloat(baseSavings);
+    }
+
+    public long getBaseSavingsCents() {
         return baseSavings;
     }
 
     public float getGoalSavings() {
-        goalSavings = getTotalSavings() - getBaseSavings();
-        return goalSavings;
+        goalSavings = getTotalIncomeCents() - getTotalExpCents() - baseSavings;
+        return Money.toFloat(goalSavings);
     }
 
     public void updateSavings() {
-        totalSavings = getTotalIncome() - getTotalExp();
-        goalSavings = getTotalSavings() - getBaseSavings();
+        totalSavings = getTotalIncomeCents() - getTotalExpCents();
+        goalSavings = totalSavings - baseSavings;
     }
 
     //@@author therealnickcheong
@@ -227,22 +422,85 @@ public class Account {
 
     //@@author cctt1014
     /**
-     * This method helps to find the corresponding bank account tracker by given description(name).
+     * This method helps to find the corresponding bank account tracker by given description(name),
+     * which is looked up in the name index of the trackers.
      * @param name The given description
      * @return The corresponding tracker
      * @throws DukeException Handle the case when there is no such account
      */
     public BankTracker findTrackerByName(String name) throws DukeException {
-        BankTracker bankTracker = null;
-        for (BankTracker b : bankTrackerList) {
-            if (b.getDescription().equals(name)) {
-                bankTracker = b;
-                break;
-            }
-        }
+        BankTracker bankTracker = bankTrackerIndex.get(name);
         if (bankTracker == null) {
             throw new DukeException("Sorry, FG does not find this account...");
         }
         return bankTracker;
     }
+
+    //@@author
+    /**
+     * Makes every read of a running total check it against a full recompute of its list.
+     * @param isVerifying Whether running totals are verified
+     */
+    public static void setVerifyingTotals(boolean isVerifying) {
+        isVerifyingTotals = isVerifying;
+    }
+
+    /**
+     * Checks every running total against a full recompute of its list.
+     * @throws IllegalStateException if a running total does not match its list
+     */
+    public void verifyTotals() {
+        incomeTotal.verify(incomeListTotal, "income");
+        expTotal.verify(expListTotal, "expenditure");
+        loansTotal.verify(loans, "loans");
+    }
+
+    /**
+     * The sum of the prices of the records in a list, in cents, kept up to date as records
+     * are added and removed. Prices never change once an item is created, so that is enough.
+     */
+    private static class RunningTotal implements RecordList.Listener<Item> {
+        private long cents;
+
+        private RunningTotal(RecordList<? extends Item> items) {
+            cents = sum(items);
+            items.addListener(this);
+        }
+
+        @Override
+        public void added(int index, Item item) {
+            cents += item.getPriceCents();
+        }
+
+        @Override
+        public void removed(int index, Item item) {
+            cents -= item.getPriceCents();
+        }
+
+        private long get(List<? extends Item> items, String name) {
+            if (isVerifyingTotals) {
+                verify(items, name);
+            }
+            return cents;
+        }
+
+        private void verify(List<? extends Item> items, String name) {
+            long recomputed = sum(items);
+            if (recomputed != cents) {
+                throw new IllegalStateException("Running total of " + name + " is " + Money.format(cents)
+                        + " but the records add up to " + Money.format(recomputed));
+            }
+        }
+
+        private static long sum(List<? extends Item> items) {
+            if (items instanceof RecordList && ((RecordList<?>) items).getColumns() != null) {
+                return ((RecordList<?>) items).getColumns().sumCents();
+            }
+            long total = 0;
+            for (Item item : items) {
+                total += item.getPriceCents();
+            }
+            return total;
+        }
+    }
 }
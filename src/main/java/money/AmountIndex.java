@@ -0,0 +1,231 @@
+package money;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * This class keeps the positions of the records of a RecordList sorted by amount, in primitive arrays,
+ * so that the records within a range of amounts or the largest records are found in O(log n + k)
+ * instead of scanning the list. The arrays are brought up to date on the next query after the list
+ * changes: records appended since are sorted on their own and merged in, and any other change sorts
+ * the whole list again. Records of the same amount are kept in the order of the list.
+ */
+public class AmountIndex<T extends Item> implements RecordList.Listener<T> {
+    private final RecordList<T> records;
+    private long[] cents;
+    private int[] positions;
+    private int indexed;
+    private boolean isStale;
+
+    /**
+     * Constructor for the amount index of a list, which sorts the list on its first use
+     * and then follows the changes to it.
+     * @param records The list to index
+     */
+    public AmountIndex(RecordList<T> records) {
+        this.records = records;
+        this.cents = new long[0];
+        this.positions = new int[0];
+        this.isStale = true;
+        records.addListener(this);
+    }
+
+    @Override
+    public void added(int index, T record) {
+        if (index < indexed) {
+            isStale = true;
+        }
+    }
+
+    @Override
+    public void removed(int index, T record) {
+        isStale = true;
+    }
+
+    /**
+     * Returns the number of records from one amount to another, both included.
+     * @param minCents The smallest amount in cents
+     * @param maxCents The largest amount in cents
+     * @return the number of records
+     */
+    public int count(long minCents, long maxCents) {
+        refresh();
+        return Math.max(upperBound(maxCents) - lowerBound(minCents), 0);
+    }
+
+    /**
+     * Returns the records from one amount to another, both included.
+     * @param minCents The smallest amount in cents
+     * @param maxCents The largest amount in cents
+     * @return the records from the smallest amount to the largest
+     */
+    public List<T> between(long minCents, long maxCents) {
+        refresh();
+        int from = lowerBound(minCents);
+        int to = upperBound(maxCents);
+        if (from >= to) {
+            return Collections.emptyList();
+        }
+        List<T> found = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            found.add(records.get(positions[i]));
+        }
+        return found;
+    }
+
+    /**
+     * Returns the records from one amount to another, both included, in the order of the list,
+     * such as for a query that lists them by date.
+     * @param minCents The smallest amount in cents
+     * @param maxCents The largest amount in cents
+     * @return the records in the order of the list
+     */
+    public List<T> betweenInListOrder(long minCents, long maxCents) {
+        refresh();
+        int from = lowerBound(minCents);
+        int to = upperBound(maxCents);
+        if (from >= to) {
+            return Collections.emptyList();
+        }
+        int[] inRange = Arrays.copyOfRange(positions, from, to);
+        Arrays.sort(inRange);
+        List<T> found = new ArrayList<>(inRange.length);
+        for (int position : inRange) {
+            found.add(records.get(position));
+        }
+        return found;
+    }
+
+    /**
+     * Returns the records with the largest amounts.
+     * @param count Greatest number of records to return
+     * @return the records from the largest amount down, and of the same amount the latest first
+     */
+    public List<T> largest(int count) {
+        refresh();
+        int from = indexed - Math.min(Math.max(count, 0), indexed);
+        List<T> found = new ArrayList<>(indexed - from);
+        for (int i = indexed - 1; i >= from; i--) {
+            found.add(records.get(positions[i]));
+        }
+        return found;
+    }
+
+    /**
+     * Returns the position of the first record with at least an amount.
+     */
+    private int lowerBound(long minCents) {
+        int low = 0;
+        int high = indexed;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (cents[mid] < minCents) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the position after the last record with at most an amount.
+     */
+    private int upperBound(long maxCents) {
+        int low = 0;
+        int high = indexed;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (cents[mid] <= maxCents) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private void refresh() {
+        if (isStale) {
+            indexed = 0;
+            isStale = false;
+        }
+        int size = records.size();
+        if (indexed == size) {
+            return;
+        }
+        long[] newCents = new long[size - indexed];
+        int[] newPositions = new int[size - indexed];
+        sort(indexed, newCents, newPositions);
+        if (indexed == 0) {
+            cents = newCents;
+            positions = newPositions;
+        } else {
+            merge(newCents, newPositions);
+        }
+        indexed = size;
+    }
+
+    /**
+     * Sorts the records from a position to the end of the list by amount, and then by position.
+     * The amount and position of each record are packed into one long, so that a primitive sort does it,
+     * unless the amounts are too far apart to fit, which sorts boxed positions instead.
+     */
+    private void sort(int start, long[] sortedCents, int[] sortedPositions) {
+        int count = sortedCents.length;
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        for (int i = 0; i < count; i++) {
+            sortedCents[i] = records.get(start + i).getPriceCents();
+            min = Math.min(min, sortedCents[i]);
+            max = Math.max(max, sortedCents[i]);
+        }
+        if (max - min >= 0 && max - min < Integer.MAX_VALUE) {
+            long[] keys = new long[count];
+            for (int i = 0; i < count; i++) {
+                keys[i] = (sortedCents[i] - min) << 32 | i;
+            }
+            Arrays.sort(keys);
+            for (int i = 0; i < count; i++) {
+                sortedCents[i] = (keys[i] >>> 32) + min;
+                sortedPositions[i] = start + (int) keys[i];
+            }
+        } else {
+            Integer[] order = new Integer[count];
+            for (int i = 0; i < count; i++) {
+                order[i] = i;
+            }
+            long[] unsorted = sortedCents.clone();
+            Arrays.sort(order, (a, b) -> Long.compare(unsorted[a], unsorted[b]));
+            for (int i = 0; i < count; i++) {
+                sortedCents[i] = unsorted[order[i]];
+                sortedPositions[i] = start + order[i];
+            }
+        }
+    }
+
+    /**
+     * Merges records appended to the list, already sorted, into the sorted records. Of the same amount,
+     * the records already sorted come first, since they are earlier in the list.
+     */
+    private void merge(long[] addedCents, int[] addedPositions) {
+        int total = indexed + addedCents.length;
+        long[] mergedCents = new long[total];
+        int[] mergedPositions = new int[total];
+        int i = 0;
+        int j = 0;
+        for (int k = 0; k < total; k++) {
+            if (j == addedCents.length || (i < indexed && cents[i] <= addedCents[j])) {
+                mergedCents[k] = cents[i];
+                mergedPositions[k] = positions[i++];
+            } else {
+                mergedCents[k] = addedCents[j];
+                mergedPositions[k] = addedPositions[j++];
+            }
+        }
+        cents = mergedCents;
+        positions = mergedPositions;
+    }
+}
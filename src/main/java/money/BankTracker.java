@@ -2,10 +2,8 @@ package money;
 
 import controlpanel.DukeException;
 
-import java.text.DecimalFormat;
 import java.time.LocalDate;
 import java.time.Period;
-import java.time.format.DateTimeFormatter;
 
 /**
  * This class represents a bank account tracker which can be used to
@@ -15,7 +13,7 @@ import java.time.format.DateTimeFormatter;
 public class BankTracker {
 
     private String description;
-    private float amt;
+    private long amtCents;
     private LocalDate latestDate;
     private double rate;
 
@@ -29,8 +27,19 @@ public class BankTracker {
      * @param interestRate The interest rate of this bank account
      */
     public BankTracker(String accountDescription, float initialAmt, LocalDate initialDate, double interestRate) {
+        this(accountDescription, Money.of(initialAmt), initialDate, interestRate);
+    }
+
+    /**
+     * The constructor of this class with an exact balance.
+     * @param accountDescription The description or the name for this bank account
+     * @param initialAmt The balance in this bank account
+     * @param initialDate The initial date of this account
+     * @param interestRate The interest rate of this bank account
+     */
+    public BankTracker(String accountDescription, Money initialAmt, LocalDate initialDate, double interestRate) {
         description = accountDescription;
-        amt = initialAmt;
+        amtCents = initialAmt.getCents();
         latestDate =  initialDate;
         rate = interestRate;
     }
@@ -41,11 +50,9 @@ public class BankTracker {
      * @return A string which contains all the information of a bank account tracker
      */
     public String getBankAccountInfo() {
-        DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern("d/M/yyyy");
-        DecimalFormat decimalFormat = new DecimalFormat("#.00");
-        String balance = decimalFormat.format(amt);
+        String balance = Money.format(amtCents);
         return "  Name: " + description + "\n  Balance: " + balance + "\n  Latest Update Date: "
-                + dateTimeFormatter.format(latestDate) + "\n  Interest Rate: " + rate;
+                + Item.formatDate(latestDate) + "\n  Interest Rate: " + rate;
     }
 
     /**
@@ -69,7 +76,11 @@ public class BankTracker {
      * @return The balance at the latest update date
      */
     public float getAmt() {
-        return amt;
+        return Money.toFloat(amtCents);
+    }
+
+    public long getAmtCents() {
+        return amtCents;
     }
 
     /**
@@ -86,7 +97,15 @@ public class BankTracker {
      * @param value The given value (can be negative)
      */
     public void addAmt(double value) {
-        amt += value;
+        amtCents += Money.toCents(value);
+    }
+
+    /**
+     * This method adds an exact amount to the current balance.
+     * @param cents The amount in cents (can be negative)
+     */
+    public void addCents(long cents) {
+        amtCents = Math.addExact(amtCents, cents);
     }
 
     /**
@@ -100,7 +119,7 @@ public class BankTracker {
         }
         Period period = Period.between(latestDate, date);
         int length = period.getMonths() + period.getYears() * 12;
-        amt *= Math.pow((1 + rate), length);
+        amtCents = Math.round(amtCents * Math.pow((1 + rate), length));
         latestDate = date;
     }
 
@@ -116,6 +135,21 @@ public class BankTracker {
         }
         Period period = Period.between(latestDate, date);
         int length = period.getMonths() + period.getYears() * 12;
-        return (float) (amt * Math.pow((1 + rate), length));
+        return (float) (Money.toDouble(amtCents) * Math.pow((1 + rate), length));
+    }
+
+    /**
+     * This methods predicts the future balance on the given date in cents, rounded the same way
+     * as updateDate rounds the balance.
+     * @param date the given date
+     * @return the future balance in cents based on the given date
+     */
+    public long predictCents(LocalDate date) throws DukeException {
+        if (date.isBefore(latestDate)) {
+            throw new DukeException("The date cannot be early than the current latest update date!");
+        }
+        Period period = Period.between(latestDate, date);
+        int length = period.getMonths() + period.getYears() * 12;
+        return Math.round(amtCents * Math.pow((1 + rate), length));
     }
 }
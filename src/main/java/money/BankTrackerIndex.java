@@ -0,0 +1,83 @@
+package money;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * This class follows the list of bank trackers and keys every tracker by its name in a
+ * LinkedHashMap, so that finding a tracker by name does not scan the list. When two trackers
+ * share a name, the name finds the first of them in the list, as a scan would. Names can be
+ * matched ignoring case, which is off unless the fg.bankNamesIgnoreCase system property is set.
+ */
+public class BankTrackerIndex implements RecordList.Listener<BankTracker> {
+    private final RecordList<BankTracker> trackers;
+    private final Map<String, BankTracker> trackersByName;
+    private boolean isIgnoringCase;
+
+    /**
+     * Constructor for the index of a list of bank trackers, which keys the trackers already
+     * in the list and then follows the changes to it.
+     * @param trackers The list of bank trackers
+     */
+    public BankTrackerIndex(RecordList<BankTracker> trackers) {
+        this.trackers = trackers;
+        this.trackersByName = new LinkedHashMap<>();
+        this.isIgnoringCase = Boolean.getBoolean("fg.bankNamesIgnoreCase");
+        rebuild();
+        trackers.addListener(this);
+    }
+
+    @Override
+    public void added(int index, BankTracker tracker) {
+        BankTracker sameName = trackersByName.putIfAbsent(keyOf(tracker.getDescription()), tracker);
+        if (sameName != null && index < trackers.size() - 1) {
+            rebuild();
+        }
+    }
+
+    @Override
+    public void removed(int index, BankTracker tracker) {
+        if (trackersByName.remove(keyOf(tracker.getDescription()), tracker)) {
+            for (BankTracker b : trackers) {
+                if (keyOf(b.getDescription()).equals(keyOf(tracker.getDescription()))) {
+                    rebuild();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the bank tracker with a name.
+     * @param name The name of the bank account
+     * @return the first tracker in the list with the name, or null if there is none
+     */
+    public BankTracker get(String name) {
+        return trackersByName.get(keyOf(name));
+    }
+
+    public boolean isIgnoringCase() {
+        return isIgnoringCase;
+    }
+
+    /**
+     * Sets whether names are matched ignoring case, keying the trackers again.
+     * @param isIgnoringCase Whether names are matched ignoring case
+     */
+    public void setIgnoringCase(boolean isIgnoringCase) {
+        this.isIgnoringCase = isIgnoringCase;
+        rebuild();
+    }
+
+    private void rebuild() {
+        trackersByName.clear();
+        for (BankTracker b : trackers) {
+            trackersByName.putIfAbsent(keyOf(b.getDescription()), b);
+        }
+    }
+
+    private String keyOf(String name) {
+        return isIgnoringCase ? name.toLowerCase(Locale.ROOT) : name;
+    }
+}
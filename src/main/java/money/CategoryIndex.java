@@ -0,0 +1,141 @@
+package money;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * This class groups the records of a RecordList by category, keeping the total in cents and the
+ * number of records of every category as records are added and removed, so that trend graphs and
+ * category queries do not scan the list. Each category gets an id in a StringPool the first time
+ * it is seen, and the totals and counts are kept in primitive arrays by id. The records of each
+ * category are kept as their positions in the list, in the order of the list, so a record inserted
+ * back into the list (such as by undoing a delete) is also listed in its place.
+ */
+public class CategoryIndex<T extends Item> implements RecordList.Listener<T> {
+    private final RecordList<T> list;
+    private final Function<? super T, String> categoryOf;
+    private final StringPool names;
+    private final List<Positions> records;
+    private long[] cents;
+    private int[] counts;
+    private int size;
+
+    /**
+     * Constructor for the category index of a list, which groups the records already in the list
+     * and then follows the changes to it.
+     * @param list The list to index
+     * @param categoryOf Gives the category of a record
+     */
+    public CategoryIndex(RecordList<T> list, Function<? super T, String> categoryOf) {
+        this.list = list;
+        this.categoryOf = categoryOf;
+        this.names = new StringPool(Integer.MAX_VALUE);
+        this.records = new ArrayList<>();
+        this.cents = new long[8];
+        this.counts = new int[8];
+        for (int i = 0; i < list.size(); i++) {
+            added(i, list.get(i));
+        }
+        list.addListener(this);
+    }
+
+    @Override
+    public void added(int index, T record) {
+        if (index < size) {
+            shift(index, 1);
+        }
+        int id = idOf(categoryOf.apply(record));
+        cents[id] += record.getPriceCents();
+        counts[id]++;
+        records.get(id).add(index);
+        size++;
+    }
+
+    @Override
+    public void removed(int index, T record) {
+        int id = names.getId(categoryOf.apply(record));
+        if (id == StringPool.NO_ID || !records.get(id).remove(index)) {
+            return;
+        }
+        cents[id] -= record.getPriceCents();
+        counts[id]--;
+        size--;
+        if (index < size) {
+            shift(index + 1, -1);
+        }
+    }
+
+    /**
+     * Returns the categories that have records, in the order they were first seen.
+     * @return the names of the categories
+     */
+    public List<String> getCategories() {
+        List<String> categories = new ArrayList<>();
+        for (int id = 0; id < records.size(); id++) {
+            if (counts[id] > 0) {
+                categories.add(names.get(id));
+            }
+        }
+        return categories;
+    }
+
+    public long getTotalCents(String category) {
+        int id = names.getId(category);
+        return id == StringPool.NO_ID ? 0 : cents[id];
+    }
+
+    public int getCount(String category) {
+        int id = names.getId(category);
+        return id == StringPool.NO_ID ? 0 : counts[id];
+    }
+
+    /**
+     * Returns the records of a category in the order of the list.
+     * @param category The category
+     * @return a read-only view of the records, which is empty for a category with no records
+     */
+    public List<T> getRecords(String category) {
+        int id = names.getId(category);
+        if (id == StringPool.NO_ID) {
+            return Collections.emptyList();
+        }
+        Positions positions = records.get(id);
+        return new AbstractList<T>() {
+            @Override
+            public T get(int index) {
+                return list.get(positions.get(index));
+            }
+
+            @Override
+            public int size() {
+                return positions.size();
+            }
+        };
+    }
+
+    /**
+     * Shifts the positions of the records from a position on, after a record was inserted or removed.
+     */
+    private void shift(int from, int delta) {
+        for (Positions positions : records) {
+            positions.shift(from, delta);
+        }
+    }
+
+    private int idOf(String category) {
+        int id = names.add(category);
+        if (id < records.size()) {
+            return id;
+        }
+        if (id == cents.length) {
+            cents = Arrays.copyOf(cents, id * 2);
+            counts = Arrays.copyOf(counts, id * 2);
+        }
+        records.add(new Positions());
+        return id;
+    }
+}
@@ -0,0 +1,137 @@
+package money;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * This class finds the words within an edit distance of a query, for words that are each known by an
+ * int id. The words are kept sorted, and a search walks them in order with one row of the Levenshtein
+ * table for each character, like a Levenshtein automaton run over a trie of the words: words that start
+ * alike share the rows of their common start, and as soon as every entry of a row is over the distance,
+ * all the words with that start are skipped at once.
+ */
+public class EditDistanceIndex {
+    private final TreeMap<String, int[]> idsByWord;
+    private int size;
+
+    /**
+     * Receives the words found by a search.
+     */
+    public interface Visitor {
+        /**
+         * Receives a word within the distance searched for.
+         * @param id Id of the word
+         * @param distance Edit distance from the query to the word
+         */
+        void found(int id, int distance);
+    }
+
+    /**
+     * Constructor for an empty index.
+     */
+    public EditDistanceIndex() {
+        this.idsByWord = new TreeMap<>();
+    }
+
+    /**
+     * Adds a word, which may be equal to a word added before under another id.
+     * @param id Id of the word
+     * @param word The word
+     */
+    public void add(int id, String word) {
+        int[] ids = idsByWord.get(word);
+        if (ids == null) {
+            ids = new int[] {id};
+        } else {
+            ids = Arrays.copyOf(ids, ids.length + 1);
+            ids[ids.length - 1] = id;
+        }
+        idsByWord.put(word, ids);
+        size++;
+    }
+
+    public void clear() {
+        idsByWord.clear();
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Finds the words within an edit distance of a query.
+     * @param query The word to search for
+     * @param maxDistance Greatest number of characters inserted, deleted or replaced
+     * @param visitor Receives the words found, in the order of the words
+     */
+    public void search(String query, int maxDistance, Visitor visitor) {
+        int queryLength = query.length();
+        int[][] rows = new int[queryLength + maxDistance + 2][queryLength + 1];
+        for (int i = 0; i <= queryLength; i++) {
+            rows[0][i] = i;
+        }
+        String previous = "";
+        int filled = 0;
+        Iterator<Map.Entry<String, int[]>> words = idsByWord.entrySet().iterator();
+        while (words.hasNext()) {
+            Map.Entry<String, int[]> entry = words.next();
+            String word = entry.getKey();
+            int depth = commonStart(previous, word, filled);
+            int deadEnd = -1;
+            while (depth < word.length()) {
+                depth++;
+                if (depth >= rows.length || !fillRow(rows, depth, query, word.charAt(depth - 1), maxDistance)) {
+                    deadEnd = depth;
+                    break;
+                }
+            }
+            previous = word;
+            if (deadEnd > 0) {
+                filled = deadEnd - 1;
+                String start = word.substring(0, deadEnd);
+                words = idsByWord.tailMap(start + Character.MAX_VALUE, false).entrySet().iterator();
+                continue;
+            }
+            filled = word.length();
+            int distance = rows[word.length()][queryLength];
+            if (distance <= maxDistance) {
+                for (int id : entry.getValue()) {
+                    visitor.found(id, distance);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns how many characters two words start with in common, up to the rows filled for the first.
+     */
+    private static int commonStart(String previous, String word, int filled) {
+        int limit = Math.min(filled, Math.min(previous.length(), word.length()));
+        int common = 0;
+        while (common < limit && previous.charAt(common) == word.charAt(common)) {
+            common++;
+        }
+        return common;
+    }
+
+    /**
+     * Fills the row of the table for the character at a depth of a word.
+     * @return false if every entry of the row is over the distance, so no word with this start can match
+     */
+    private static boolean fillRow(int[][] rows, int depth, String query, char c, int maxDistance) {
+        int[] previousRow = rows[depth - 1];
+        int[] row = rows[depth];
+        row[0] = depth;
+        int rowMin = depth;
+        for (int i = 1; i < row.length; i++) {
+            int cost = query.charAt(i - 1) == c ? 0 : 1;
+            int value = Math.min(Math.min(row[i - 1], previousRow[i]) + 1, previousRow[i - 1] + cost);
+            row[i] = value;
+            rowMin = Math.min(rowMin, value);
+        }
+        return rowMin <= maxDistance;
+    }
+}
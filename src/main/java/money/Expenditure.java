@@ -1,13 +1,11 @@
 package money;
 
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
 
 public class Expenditure extends Item {
 
     private String category;
     private LocalDate boughtDate;
-    protected DateTimeFormatter dateTimeFormatter;
 
     //@@author chengweixuan
     /**
@@ -18,10 +16,20 @@ public class Expenditure extends Item {
      * @param boughtDate Date which the item is bought
      */
     public Expenditure(float price, String description, String category, LocalDate boughtDate) {
+        this(Money.of(price), description, category, boughtDate);
+    }
+
+    /**
+     * Constructor of the Expenditure Object with an exact amount of money.
+     * @param price Price of the item spent on
+     * @param description info on the item
+     * @param category Category the item is grouped under
+     * @param boughtDate Date which the item is bought
+     */
+    public Expenditure(Money price, String description, String category, LocalDate boughtDate) {
         super(price, description);
         this.category = category;
         this.boughtDate = boughtDate;
-        dateTimeFormatter = DateTimeFormatter.ofPattern("d/M/yyyy");
     }
 
     @Override
@@ -38,6 +46,6 @@ public class Expenditure extends Item {
     }
 
     public String getBoughtDate() {
-        return boughtDate.format(dateTimeFormatter);
+        return formatDate(boughtDate);
     }
 }
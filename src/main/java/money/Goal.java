@@ -25,6 +25,20 @@ public class Goal extends Expenditure {
      */
     public Goal(float price, String description, String category, LocalDate goalBy, String priorityLevel)
             throws DukeException {
+        this(Money.of(price), description, category, goalBy, priorityLevel);
+    }
+
+    /**
+     * constructor for the Goal class with an exact amount of money.
+     * @param price price of goal.
+     * @param description desc of goal.
+     * @param category category of goal.
+     * @param goalBy due date of goal.
+     * @param priorityLevel priority level of goal
+     * @throws DukeException throws exception is command entered is wrong.
+     */
+    public Goal(Money price, String description, String category, LocalDate goalBy, String priorityLevel)
+            throws DukeException {
         super(price, description, category, goalBy);
         switch (priorityLevel) {
         case "LOW" :
@@ -1,11 +1,9 @@
 package money;
 
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
 
 public class Income extends Item {
     private LocalDate payday;
-    private DateTimeFormatter dateTimeFormatter;
 
     //@@author chengweixuan
     /**
@@ -15,9 +13,18 @@ public class Income extends Item {
      * @param payday Date which the income is received
      */
     public Income(float price, String description, LocalDate payday) {
+        this(Money.of(price), description, payday);
+    }
+
+    /**
+     * The constructor for the Income Object with an exact amount of money.
+     * @param price Money in from the income source
+     * @param description info of the income source
+     * @param payday Date which the income is received
+     */
+    public Income(Money price, String description, LocalDate payday) {
         super(price, description);
         this.payday = payday;
-        dateTimeFormatter  = DateTimeFormatter.ofPattern("d/M/yyyy");
     }
 
     public LocalDate getPayday() {
@@ -31,6 +38,6 @@ public class Income extends Item {
     }
 
     public String getPaidTime() {
-        return payday.format(dateTimeFormatter);
+        return formatDate(payday);
     }
 }
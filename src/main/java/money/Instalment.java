@@ -1,10 +1,7 @@
 package money;
 
-import java.math.RoundingMode;
-import java.text.DecimalFormat;
 import java.time.LocalDate;
 import java.lang.Math;
-import java.time.format.DateTimeFormatter;
 
 /**
  * This class is created for the Instalments of the user.
@@ -14,7 +11,6 @@ public class Instalment extends Expenditure {
     private int numOfPaymentsReq;
     private float annualInterestRate;
     private float monthlyInterestRate;
-    private DateTimeFormatter dateTimeFormatter;
     private int  paymentsMade;
     private float percentage;
     private boolean payForTheMonth;
@@ -32,14 +28,25 @@ public class Instalment extends Expenditure {
      */
     public Instalment(float price, String description, String category,
                       LocalDate boughtDate, int numOfPaymentsReq, float annualIR) {
+        this(Money.of(price), description, category, boughtDate, numOfPaymentsReq, annualIR);
+    }
+
+    /**
+     * Constructor of the Instalment Object with an exact amount of money.
+     * @param price Total cost of the item that the user bought
+     * @param description The item that the Instalment is paying for
+     * @param category The type of money object that the user is recording
+     * @param boughtDate The date when the user buy the item
+     * @param numOfPaymentsReq The total number of months of payment required for the user to pay his Instalment
+     * @param annualIR The Annual Interest Rate that the user is paying
+     */
+    public Instalment(Money price, String description, String category,
+                      LocalDate boughtDate, int numOfPaymentsReq, float annualIR) {
         super(price, description, category, boughtDate);
-        DecimalFormat df = new DecimalFormat("#.##");
-        df.setRoundingMode(RoundingMode.CEILING);
         this.numOfPaymentsReq = numOfPaymentsReq;
         this.annualInterestRate = annualIR / 100;
         this.monthlyInterestRate = annualInterestRate / 12;
         this.endDate = setEndTime();
-        dateTimeFormatter = DateTimeFormatter.ofPattern("d/M/yyyy");
         this.payForTheMonth = false;
         this.fullyPaid = false;
     }
@@ -106,7 +113,7 @@ public class Instalment extends Expenditure {
     }
 
     public String getBoughtDate() {
-        return getDateBoughtDate().format(dateTimeFormatter);
+        return formatDate(getDateBoughtDate());
     }
 
     public LocalDate getEndDate() {
@@ -114,7 +121,7 @@ public class Instalment extends Expenditure {
     }
 
     public String getDateEndDate() {
-        return getEndDate().format(dateTimeFormatter);
+        return formatDate(getEndDate());
     }
 
     public int getNumOfPayments() {
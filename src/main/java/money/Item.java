@@ -1,25 +1,39 @@
 package money;
 
-import java.text.DecimalFormat;
-
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * This class is the base of the records of an account, an amount of money with a description.
+ * Records keep their values only: amounts and dates are formatted by shared static helpers,
+ * so no record carries a formatter of its own.
+ */
 public class Item {
-    private float price;
-    private String description;
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("d/M/yyyy");
 
-    private DecimalFormat decimalFormat = new DecimalFormat("#.00");
+    private long priceCents;
+    private String description;
 
     //@@author chengweixuan
     public Item(float price, String description) {
-        this.price = price;
+        this(Money.of(price), description);
+    }
+
+    public Item(Money price, String description) {
+        this.priceCents = price.getCents();
         this.description = description;
     }
 
     public float getPrice() {
-        return this.price;
+        return Money.toFloat(priceCents);
+    }
+
+    public long getPriceCents() {
+        return priceCents;
     }
 
     public String getPriceStr() {
-        return decimalFormat.format(price);
+        return Money.format(priceCents);
     }
 
     public String getDescription() {
@@ -30,4 +44,19 @@ public class Item {
         return "$" + getPriceStr() + " " + description;
     }
 
+    /**
+     * Formats a date as d/M/yyyy, the way the records show their dates. Dates in four-digit years
+     * are put together directly, and any other date goes through a formatter shared by all records.
+     * @param date The date to format
+     * @return the date, such as 9/10/1997
+     */
+    protected static String formatDate(LocalDate date) {
+        int year = date.getYear();
+        if (year < 1000 || year > 9999) {
+            return date.format(DATE_FORMATTER);
+        }
+        return new StringBuilder(10).append(date.getDayOfMonth()).append('/').append(date.getMonthValue())
+                .append('/').append(year).toString();
+    }
+
 }
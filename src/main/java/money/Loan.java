@@ -2,10 +2,8 @@ package money;
 
 import controlpanel.Parser;
 
-import java.text.DecimalFormat;
 import java.text.ParseException;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
 
 public class Loan extends Item {
 
@@ -18,13 +16,9 @@ public class Loan extends Item {
     private LocalDate startDate;
     protected LocalDate endDate;
     private boolean isSettled;
-    private float outstandingLoan;
+    private long outstandingCents;
     Type type;
 
-    private DateTimeFormatter dateTimeFormatter;
-    private DecimalFormat decimalFormat = new DecimalFormat("#.00");
-
-
     //@@author chengweixuan
     /**
      * Constructor of the Loan Object to record outgoing and incoming loans.
@@ -34,14 +28,23 @@ public class Loan extends Item {
      * @param type Type determining the loan is incoming or outgoing
      */
     public Loan(float amount, String description, LocalDate startDate, Type type) {
+        this(Money.of(amount), description, startDate, type);
+    }
+
+    /**
+     * Constructor of the Loan Object with an exact amount of money.
+     * @param amount Total amount of the loan
+     * @param description Party which to loan is lent to/borrowed from
+     * @param startDate Date which the loan was made
+     * @param type Type determining the loan is incoming or outgoing
+     */
+    public Loan(Money amount, String description, LocalDate startDate, Type type) {
         super(amount, description);
         this.startDate = startDate;
         this.endDate = null;
         this.isSettled = false;
-        this.outstandingLoan = amount;
+        this.outstandingCents = amount.getCents();
         this.type = type;
-
-        dateTimeFormatter  = DateTimeFormatter.ofPattern("d/M/yyyy");
     }
 
     /**
@@ -86,7 +89,11 @@ public class Loan extends Item {
     }
 
     public float getOutstandingLoan() {
-        return outstandingLoan;
+        return Money.toFloat(outstandingCents);
+    }
+
+    public long getOutstandingCents() {
+        return outstandingCents;
     }
 
     /**
@@ -96,8 +103,18 @@ public class Loan extends Item {
      * @throws ParseException If invalid date is parsed
      */
     public void settleLoanDebt(float amount) throws ParseException {
-        outstandingLoan -= amount;
-        if (outstandingLoan == 0) {
+        settleLoanDebt(Money.toCents(amount));
+    }
+
+    /**
+     * This method is called to settle the loan if it is repaid, with an exact amount.
+     * If the entire loan is settled, the loan is set as settled.
+     * @param cents Amount repaid to the loan in cents, which is negative to take back a repayment
+     * @throws ParseException If invalid date is parsed
+     */
+    public void settleLoanDebt(long cents) throws ParseException {
+        outstandingCents -= cents;
+        if (outstandingCents == 0) {
             isSettled = true;
             endDate = Parser.shortcutTime("now");
         } else {
@@ -108,7 +125,7 @@ public class Loan extends Item {
 
 
     public String getStartDate() {
-        return startDate.format(dateTimeFormatter);
+        return formatDate(startDate);
     }
 
     /**
@@ -120,7 +137,7 @@ public class Loan extends Item {
         if (endDate == null) {
             return "";
         }
-        return endDate.format(dateTimeFormatter);
+        return formatDate(endDate);
     }
 
     /**
@@ -131,7 +148,7 @@ public class Loan extends Item {
      */
     private String getEndDateString() {
         if (endDate == null) {
-            return " Outstanding Amount: $" + decimalFormat.format(outstandingLoan);
+            return " Outstanding Amount: $" + Money.format(outstandingCents);
         } else {
             return " (Paid Back On: " + getEndDate() + ")";
 
@@ -147,6 +164,18 @@ public class Loan extends Item {
      * @param outstandingLoan Float of the outstanding amount of the loan
      */
     public void updateExistingLoan(String typeStr, String endDate, int status, float outstandingLoan) {
+        updateExistingLoan(typeStr, endDate, status, Money.of(outstandingLoan));
+    }
+
+    /**
+     * This method is called to update an existing loan with its data from the save file during
+     * the load process on start up of Financial Ghost.
+     * @param typeStr String denoting the type of loan
+     * @param endDate String representing endDate of loan
+     * @param status Integer representing status of loan
+     * @param outstandingLoan Exact outstanding amount of the loan
+     */
+    public void updateExistingLoan(String typeStr, String endDate, int status, Money outstandingLoan) {
         if (typeStr.equals("INCOMING")) {
             this.type = Type.INCOMING;
         } else if (typeStr.equals("OUTGOING")) {
@@ -158,7 +187,7 @@ public class Loan extends Item {
             this.endDate = null;
         }
         this.isSettled = status == 1;
-        this.outstandingLoan = outstandingLoan;
+        this.outstandingCents = outstandingLoan.getCents();
     }
 
     public Type getType() {
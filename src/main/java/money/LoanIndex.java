@@ -0,0 +1,149 @@
+package money;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * This class follows the Loans List and keeps the outgoing and incoming loans apart, each in the
+ * order of the Loans List, together with the position of every counterparty among the loans of
+ * its type. The lists it gives out are live read-only views, so nothing is copied per call, and
+ * finding the loan of a counterparty is a HashMap lookup. Appending a loan updates the index in
+ * place; any other change to the Loans List makes it regroup the loans on its next use.
+ */
+public class LoanIndex implements RecordList.Listener<Loan> {
+    private final RecordList<Loan> loans;
+    private final List<Loan> outgoing;
+    private final List<Loan> incoming;
+    private final Map<String, Integer> outgoingPositions;
+    private final Map<String, Integer> incomingPositions;
+    private final List<Loan> outgoingView;
+    private final List<Loan> incomingView;
+    private boolean isStale;
+
+    /**
+     * Constructor for the index of the Loans List, which groups the loans already in the list
+     * and then follows the changes to it.
+     * @param loans The Loans List
+     */
+    public LoanIndex(RecordList<Loan> loans) {
+        this.loans = loans;
+        this.outgoing = new ArrayList<>();
+        this.incoming = new ArrayList<>();
+        this.outgoingPositions = new HashMap<>();
+        this.incomingPositions = new HashMap<>();
+        this.outgoingView = new TypeView(Loan.Type.OUTGOING);
+        this.incomingView = new TypeView(Loan.Type.INCOMING);
+        this.isStale = true;
+        loans.addListener(this);
+    }
+
+    @Override
+    public void added(int index, Loan loan) {
+        if (!isStale && index == loans.size() - 1) {
+            append(loan);
+        } else {
+            isStale = true;
+        }
+    }
+
+    @Override
+    public void removed(int index, Loan loan) {
+        isStale = true;
+    }
+
+    /**
+     * Returns a live read-only view of the loans of a type, in the order of the Loans List.
+     * @param type OUTGOING, INCOMING or ALL
+     * @return the loans of the type
+     */
+    public List<Loan> getLoans(Loan.Type type) {
+        switch (type) {
+        case OUTGOING:
+            return outgoingView;
+        case INCOMING:
+            return incomingView;
+        default:
+            return Collections.unmodifiableList(loans);
+        }
+    }
+
+    /**
+     * Returns the position of the first loan of a counterparty among the loans of its type.
+     * @param type OUTGOING or INCOMING
+     * @param name Name of the counterparty
+     * @return the position of the loan, or -1 if the counterparty has no loan of the type
+     */
+    public int indexOf(Loan.Type type, String name) {
+        if (type == Loan.Type.ALL) {
+            return -1;
+        }
+        refresh();
+        Integer position = positionsOf(type).get(name);
+        return position == null ? -1 : position;
+    }
+
+    private void refresh() {
+        if (!isStale) {
+            return;
+        }
+        outgoing.clear();
+        incoming.clear();
+        outgoingPositions.clear();
+        incomingPositions.clear();
+        for (Loan loan : loans) {
+            append(loan);
+        }
+        isStale = false;
+    }
+
+    private void append(Loan loan) {
+        List<Loan> sameType = loansOf(loan.getType());
+        if (sameType != null) {
+            positionsOf(loan.getType()).putIfAbsent(loan.getDescription(), sameType.size());
+            sameType.add(loan);
+        }
+    }
+
+    private List<Loan> loansOf(Loan.Type type) {
+        switch (type) {
+        case OUTGOING:
+            return outgoing;
+        case INCOMING:
+            return incoming;
+        default:
+            return null;
+        }
+    }
+
+    private Map<String, Integer> positionsOf(Loan.Type type) {
+        return type == Loan.Type.OUTGOING ? outgoingPositions : incomingPositions;
+    }
+
+    /**
+     * A read-only view of the loans of one type, which brings the index up to date before each read.
+     */
+    private class TypeView extends AbstractList<Loan> implements RandomAccess {
+        private final Loan.Type type;
+
+        private TypeView(Loan.Type type) {
+            this.type = type;
+        }
+
+        @Override
+        public Loan get(int index) {
+            refresh();
+            return loansOf(type).get(index);
+        }
+
+        @Override
+        public int size() {
+            refresh();
+            return loansOf(type).size();
+        }
+    }
+}
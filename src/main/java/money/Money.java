@@ -0,0 +1,144 @@
+package money;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * This class is an amount of money held as a whole number of cents, so that amounts add up
+ * exactly however many of them there are. The static methods work on plain long cents, which is
+ * how the items of the account keep their amounts; Money objects are for passing amounts around.
+ */
+public final class Money implements Comparable<Money> {
+
+    public static final Money ZERO = new Money(0);
+
+    private final long cents;
+
+    private Money(long cents) {
+        this.cents = cents;
+    }
+
+    public static Money ofCents(long cents) {
+        return cents == 0 ? ZERO : new Money(cents);
+    }
+
+    /**
+     * Returns the amount of money closest to an amount in dollars, rounded to the nearest cent.
+     * @param dollars Amount in dollars
+     * @return the amount of money
+     */
+    public static Money of(double dollars) {
+        return ofCents(toCents(dollars));
+    }
+
+    /**
+     * Parses an amount in dollars such as 12, 12.5 or 12.345, rounding half up to the nearest cent.
+     * The digits are read exactly, without going through a float.
+     * @param text Amount in dollars
+     * @return the amount of money
+     * @throws NumberFormatException if the text is not a number
+     */
+    public static Money parse(String text) {
+        return ofCents(parseCents(text));
+    }
+
+    /**
+     * Rounds an amount in dollars to the nearest cent.
+     * @param dollars Amount in dollars
+     * @return the amount in cents
+     */
+    public static long toCents(double dollars) {
+        return Math.round(dollars * 100);
+    }
+
+    /**
+     * Parses an amount in dollars into cents, rounding half up to the nearest cent.
+     * @param text Amount in dollars
+     * @return the amount in cents
+     * @throws NumberFormatException if the text is not a number
+     */
+    public static long parseCents(String text) {
+        int point = text.indexOf('.');
+        int fractionDigits = point < 0 ? 0 : text.length() - point - 1;
+        if (text.length() <= 15 && fractionDigits <= 2 && text.indexOf('e') < 0 && text.indexOf('E') < 0) {
+            String digits = point < 0 ? text : text.substring(0, point) + text.substring(point + 1);
+            if (!digits.isEmpty() && !digits.equals("-") && !digits.equals("+")) {
+                long cents = Long.parseLong(digits);
+                return fractionDigits == 2 ? cents : fractionDigits == 1 ? cents * 10 : cents * 100;
+            }
+        }
+        return new BigDecimal(text).setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    public static float toFloat(long cents) {
+        return cents / 100f;
+    }
+
+    public static double toDouble(long cents) {
+        return cents / 100.0;
+    }
+
+    /**
+     * Formats an amount in cents with two decimal places the way DecimalFormat("#.00") formats it:
+     * no grouping, and no zero before the point of an amount under a dollar.
+     * @param cents Amount in cents
+     * @return the amount, such as 1234.50 or .05
+     */
+    public static String format(long cents) {
+        StringBuilder text = new StringBuilder(24);
+        long magnitude = Math.abs(cents);
+        if (cents < 0) {
+            text.append('-');
+        }
+        if (magnitude >= 100) {
+            text.append(magnitude / 100);
+        }
+        long fraction = magnitude % 100;
+        text.append('.').append((char) ('0' + fraction / 10)).append((char) ('0' + fraction % 10));
+        return text.toString();
+    }
+
+    public long getCents() {
+        return cents;
+    }
+
+    public float toFloat() {
+        return toFloat(cents);
+    }
+
+    public double toDouble() {
+        return toDouble(cents);
+    }
+
+    public Money plus(Money other) {
+        return ofCents(Math.addExact(cents, other.cents));
+    }
+
+    public Money minus(Money other) {
+        return ofCents(Math.subtractExact(cents, other.cents));
+    }
+
+    public String format() {
+        return format(cents);
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(cents, other.cents);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof Money && ((Money) other).cents == cents;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(cents);
+    }
+
+    @Override
+    public String toString() {
+        return format(cents);
+    }
+}
@@ -0,0 +1,173 @@
+package money;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * This class keeps the total of the records of a RecordList for every month, and optionally for
+ * every category in every month, updating them as records are added and removed. Each total is
+ * backed by a prefix sum over the months, so the total over any range of months is an O(1) lookup.
+ * A change to a month only invalidates the prefix sums from that month on, and they are rebuilt
+ * on the next lookup that needs them; changes usually land in the latest months, so that is cheap.
+ */
+public class MonthlyTotals<T extends Item> implements RecordList.Listener<T> {
+    private final Function<? super T, LocalDate> dateOf;
+    private final Function<? super T, String> categoryOf;
+    private final Series all;
+    private final Map<String, Series> byCategory;
+
+    /**
+     * Constructor for the monthly totals of a list, which adds up the records already in the list
+     * and then follows the changes to it.
+     * @param records The list to add up
+     * @param dateOf Gives the day a record happened on
+     * @param categoryOf Gives the category of a record, or null to keep no totals by category
+     */
+    public MonthlyTotals(RecordList<T> records, Function<? super T, LocalDate> dateOf,
+                         Function<? super T, String> categoryOf) {
+        this.dateOf = dateOf;
+        this.categoryOf = categoryOf;
+        this.all = new Series();
+        this.byCategory = new HashMap<>();
+        for (int i = 0; i < records.size(); i++) {
+            added(i, records.get(i));
+        }
+        records.addListener(this);
+    }
+
+    @Override
+    public void added(int index, T record) {
+        int month = monthOf(dateOf.apply(record));
+        all.add(month, record.getPriceCents(), 1);
+        if (categoryOf != null) {
+            byCategory.computeIfAbsent(categoryOf.apply(record), category -> new Series())
+                    .add(month, record.getPriceCents(), 1);
+        }
+    }
+
+    @Override
+    public void removed(int index, T record) {
+        int month = monthOf(dateOf.apply(record));
+        all.add(month, -record.getPriceCents(), -1);
+        if (categoryOf != null) {
+            String category = categoryOf.apply(record);
+            Series series = byCategory.get(category);
+            if (series != null) {
+                series.add(month, -record.getPriceCents(), -1);
+                if (series.records == 0) {
+                    byCategory.remove(category);
+                }
+            }
+        }
+    }
+
+    public long getMonthCents(YearMonth month) {
+        return getTotalCents(month, month);
+    }
+
+    /**
+     * Returns the total of the records from one month to another, both months included.
+     * @param from The first month
+     * @param to The last month
+     * @return the total in cents
+     */
+    public long getTotalCents(YearMonth from, YearMonth to) {
+        return all.sum(monthOf(from), monthOf(to));
+    }
+
+    /**
+     * Returns the total of the records of a category from one month to another, both months included.
+     * @param category The category
+     * @param from The first month
+     * @param to The last month
+     * @return the total in cents, which is 0 for a category with no records
+     */
+    public long getTotalCents(String category, YearMonth from, YearMonth to) {
+        Series series = byCategory.get(category);
+        return series == null ? 0 : series.sum(monthOf(from), monthOf(to));
+    }
+
+    /**
+     * Returns the total of every month from one month to another, such as for a trend chart.
+     * @param from The first month
+     * @param to The last month
+     * @return the totals in cents, one for each month in order
+     */
+    public long[] getMonthlyCents(YearMonth from, YearMonth to) {
+        int first = monthOf(from);
+        long[] totals = new long[Math.max(0, monthOf(to) - first + 1)];
+        for (int i = 0; i < totals.length; i++) {
+            totals[i] = all.sum(first + i, first + i);
+        }
+        return totals;
+    }
+
+    public Set<String> getCategories() {
+        return Collections.unmodifiableSet(byCategory.keySet());
+    }
+
+    private static int monthOf(LocalDate date) {
+        return date.getYear() * 12 + date.getMonthValue() - 1;
+    }
+
+    private static int monthOf(YearMonth month) {
+        return month.getYear() * 12 + month.getMonthValue() - 1;
+    }
+
+    /**
+     * The totals of consecutive months from the earliest month with a record to the latest,
+     * and the prefix sums over them, which are valid up to validUpTo.
+     */
+    private static class Series {
+        private int firstMonth;
+        private int span;
+        private long[] cents = new long[0];
+        private long[] prefix = new long[1];
+        private int validUpTo;
+        private int records;
+
+        private void add(int month, long amount, int count) {
+            if (span == 0) {
+                firstMonth = month;
+            }
+            if (month < firstMonth) {
+                int shift = firstMonth - month;
+                long[] grown = new long[span + shift];
+                System.arraycopy(cents, 0, grown, shift, span);
+                cents = grown;
+                prefix = new long[cents.length + 1];
+                span += shift;
+                firstMonth = month;
+                validUpTo = 0;
+            } else if (month - firstMonth >= span) {
+                span = month - firstMonth + 1;
+                if (span > cents.length) {
+                    cents = Arrays.copyOf(cents, Math.max(span, cents.length * 2));
+                    prefix = Arrays.copyOf(prefix, cents.length + 1);
+                }
+            }
+            int position = month - firstMonth;
+            cents[position] += amount;
+            validUpTo = Math.min(validUpTo, position);
+            records += count;
+        }
+
+        private long sum(int fromMonth, int toMonth) {
+            int from = Math.max(fromMonth - firstMonth, 0);
+            int to = Math.min(toMonth - firstMonth, span - 1);
+            if (from > to) {
+                return 0;
+            }
+            for (; validUpTo <= to; validUpTo++) {
+                prefix[validUpTo + 1] = prefix[validUpTo] + cents[validUpTo];
+            }
+            return prefix[to + 1] - prefix[from];
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package money;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * This class keeps positions of records in a RecordList in increasing order in an int array,
+ * for the indexes that point into the list instead of holding on to its records. Positions are
+ * normally appended, since records are normally appended. When a record is inserted or removed
+ * further up the list, the index shifts the positions after it by one.
+ */
+class Positions {
+    private int[] positions = new int[2];
+    private int size;
+
+    /**
+     * Adds a position, keeping the positions in order. Adding a position that is already there does nothing.
+     * @param position The position to add
+     */
+    void add(int position) {
+        int at = size > 0 && positions[size - 1] < position ? size : search(position);
+        if (at < size && positions[at] == position) {
+            return;
+        }
+        if (size == positions.length) {
+            positions = Arrays.copyOf(positions, size * 2);
+        }
+        System.arraycopy(positions, at, positions, at + 1, size - at);
+        positions[at] = position;
+        size++;
+    }
+
+    /**
+     * Removes a position.
+     * @param position The position to remove
+     * @return true if the position was there
+     */
+    boolean remove(int position) {
+        int at = search(position);
+        if (at == size || positions[at] != position) {
+            return false;
+        }
+        System.arraycopy(positions, at + 1, positions, at, size - at - 1);
+        size--;
+        return true;
+    }
+
+    /**
+     * Adds an amount to every position from a position on, as records are inserted or removed before them.
+     * @param from The first position to shift
+     * @param delta The amount to shift by, such as 1 for a record inserted and -1 for a record removed
+     */
+    void shift(int from, int delta) {
+        for (int i = search(from); i < size; i++) {
+            positions[i] += delta;
+        }
+    }
+
+    int get(int index) {
+        return positions[index];
+    }
+
+    int size() {
+        return size;
+    }
+
+    void addTo(BitSet bits) {
+        for (int i = 0; i < size; i++) {
+            bits.set(positions[i]);
+        }
+    }
+
+    /**
+     * Returns the index of the first position that is at least a position.
+     */
+    private int search(int position) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (positions[mid] < position) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
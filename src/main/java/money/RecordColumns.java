@@ -0,0 +1,298 @@
+package money;
+
+import java.time.LocalDate;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * This class keeps records in parallel primitive arrays instead of as objects: the amount in cents,
+ * the epoch day, and the ids of the description and the category in a pool of strings, which is
+ * 20 bytes a record. Records are put together again each time they are read, so two reads of
+ * the same record are not the same object. Totals can be summed over the arrays directly.
+ * Only records of the exact class of the layout can be kept, since the rest of a subclass would be lost.
+ */
+public class RecordColumns<T> extends AbstractList<T> implements RandomAccess {
+
+    /**
+     * Takes records of one class apart into columns and puts them together again.
+     * The class must be a kind of Item, which gives the amount and the description.
+     */
+    public interface Layout<T> {
+        Class<?> getRecordClass();
+
+        LocalDate dateOf(T record);
+
+        /**
+         * Returns the category of a record.
+         * @param record The record
+         * @return the category, or null if records of this class have none
+         */
+        String categoryOf(T record);
+
+        /**
+         * Puts a record together from its columns.
+         * @param price Amount of the record
+         * @param description Description of the record
+         * @param category Category of the record, or null if records of this class have none
+         * @param date Date of the record
+         * @return the record
+         */
+        T create(Money price, String description, String category, LocalDate date);
+    }
+
+    public static final Layout<Expenditure> EXPENDITURE = new Layout<Expenditure>() {
+        @Override
+        public Class<?> getRecordClass() {
+            return Expenditure.class;
+        }
+
+        @Override
+        public LocalDate dateOf(Expenditure record) {
+            return record.getDateBoughtDate();
+        }
+
+        @Override
+        public String categoryOf(Expenditure record) {
+            return record.getCategory();
+        }
+
+        @Override
+        public Expenditure create(Money price, String description, String category, LocalDate date) {
+            return new Expenditure(price, description, category, date);
+        }
+    };
+
+    public static final Layout<Income> INCOME = new Layout<Income>() {
+        @Override
+        public Class<?> getRecordClass() {
+            return Income.class;
+        }
+
+        @Override
+        public LocalDate dateOf(Income record) {
+            return record.getPayday();
+        }
+
+        @Override
+        public String categoryOf(Income record) {
+            return null;
+        }
+
+        @Override
+        public Income create(Money price, String description, String category, LocalDate date) {
+            return new Income(price, description, date);
+        }
+    };
+
+    private static final int NO_STRING = StringPool.NO_ID;
+
+    private final Layout<T> layout;
+    private final StringPool strings;
+    private long[] cents;
+    private int[] days;
+    private int[] descriptionIds;
+    private int[] categoryIds;
+    private int size;
+
+    /**
+     * Constructor for empty columns of records.
+     * @param layout How the records are taken apart into columns
+     */
+    public RecordColumns(Layout<T> layout) {
+        this.layout = layout;
+        this.strings = new StringPool(Integer.MAX_VALUE);
+        this.cents = new long[16];
+        this.days = new int[16];
+        this.descriptionIds = new int[16];
+        this.categoryIds = new int[16];
+    }
+
+    private RecordColumns(RecordColumns<T> other) {
+        this.layout = other.layout;
+        this.strings = other.strings;
+        this.cents = Arrays.copyOf(other.cents, other.size);
+        this.days = Arrays.copyOf(other.days, other.size);
+        this.descriptionIds = Arrays.copyOf(other.descriptionIds, other.size);
+        this.categoryIds = Arrays.copyOf(other.categoryIds, other.size);
+        this.size = other.size;
+    }
+
+    /**
+     * Returns a copy of the columns, which shares the pool of strings but not the arrays,
+     * such as to keep a version of the records as they were persisted.
+     * @return the copy
+     */
+    public RecordColumns<T> copy() {
+        return new RecordColumns<>(this);
+    }
+
+    /**
+     * Returns whether a record has the same columns as a record in a copy of these columns.
+     * @param index Position of the record
+     * @param other The copy
+     * @param otherIndex Position of the record in the copy
+     * @return true if the amounts, days, descriptions and categories are the same
+     */
+    public boolean isSame(int index, RecordColumns<?> other, int otherIndex) {
+        checkIndex(index);
+        other.checkIndex(otherIndex);
+        if (cents[index] != other.cents[otherIndex] || days[index] != other.days[otherIndex]) {
+            return false;
+        }
+        if (other.strings == strings) {
+            return descriptionIds[index] == other.descriptionIds[otherIndex]
+                    && categoryIds[index] == other.categoryIds[otherIndex];
+        }
+        return Objects.equals(stringOf(descriptionIds[index]), other.stringOf(other.descriptionIds[otherIndex]))
+                && Objects.equals(stringOf(categoryIds[index]), other.stringOf(other.categoryIds[otherIndex]));
+    }
+
+    @Override
+    public T get(int index) {
+        checkIndex(index);
+        return layout.create(Money.ofCents(cents[index]), strings.get(descriptionIds[index]),
+                stringOf(categoryIds[index]), LocalDate.ofEpochDay(days[index]));
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public T set(int index, T record) {
+        checkIndex(index);
+        checkRecord(record);
+        T previous = get(index);
+        store(index, record);
+        return previous;
+    }
+
+    @Override
+    public void add(int index, T record) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        checkRecord(record);
+        if (size == cents.length) {
+            int capacity = size * 2;
+            cents = Arrays.copyOf(cents, capacity);
+            days = Arrays.copyOf(days, capacity);
+            descriptionIds = Arrays.copyOf(descriptionIds, capacity);
+            categoryIds = Arrays.copyOf(categoryIds, capacity);
+        }
+        shift(index, index + 1, size - index);
+        size++;
+        store(index, record);
+        modCount++;
+    }
+
+    @Override
+    public T remove(int index) {
+        checkIndex(index);
+        T removed = get(index);
+        removeRange(index, index + 1);
+        return removed;
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        shift(toIndex, fromIndex, size - toIndex);
+        size -= toIndex - fromIndex;
+        modCount++;
+    }
+
+    public long getCents(int index) {
+        checkIndex(index);
+        return cents[index];
+    }
+
+    public long getEpochDay(int index) {
+        checkIndex(index);
+        return days[index];
+    }
+
+    /**
+     * Returns the id of the category of a record in the pool of strings.
+     * @param index Position of the record
+     * @return the id, which is the same for records of the same category
+     */
+    public int getCategoryId(int index) {
+        checkIndex(index);
+        return categoryIds[index];
+    }
+
+    /**
+     * Returns the id of a string in the pool of strings, such as to compare it with category ids.
+     * @param text The string
+     * @return the id, or -1 if no record has the string
+     */
+    public int getStringId(String text) {
+        return strings.getId(text);
+    }
+
+    /**
+     * Sums the amounts of all the records over the column of amounts.
+     * @return the total in cents
+     */
+    public long sumCents() {
+        long total = 0;
+        for (int i = 0; i < size; i++) {
+            total += cents[i];
+        }
+        return total;
+    }
+
+    /**
+     * Sums the amounts of the records from one day to another, both days included.
+     * @param from The first day
+     * @param to The last day
+     * @return the total in cents
+     */
+    public long sumCents(LocalDate from, LocalDate to) {
+        long first = from.toEpochDay();
+        long last = to.toEpochDay();
+        long total = 0;
+        for (int i = 0; i < size; i++) {
+            if (days[i] >= first && days[i] <= last) {
+                total += cents[i];
+            }
+        }
+        return total;
+    }
+
+    private void checkRecord(T record) {
+        if (record.getClass() != layout.getRecordClass()) {
+            throw new IllegalArgumentException("Only records of class " + layout.getRecordClass().getSimpleName()
+                    + " can be kept in columns");
+        }
+    }
+
+    private void store(int index, T record) {
+        Item item = (Item) record;
+        String category = layout.categoryOf(record);
+        cents[index] = item.getPriceCents();
+        days[index] = Math.toIntExact(layout.dateOf(record).toEpochDay());
+        descriptionIds[index] = strings.add(item.getDescription());
+        categoryIds[index] = strings.add(category);
+    }
+
+    private String stringOf(int id) {
+        return id == NO_STRING ? null : strings.get(id);
+    }
+
+    private void shift(int from, int to, int length) {
+        System.arraycopy(cents, from, cents, to, length);
+        System.arraycopy(days, from, days, to, length);
+        System.arraycopy(descriptionIds, from, descriptionIds, to, length);
+        System.arraycopy(categoryIds, from, categoryIds, to, length);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package money;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * This class holds the records of one type in an Account and keeps track of what changed
+ * since the records were last persisted. Records appended at the end are told apart from
+ * records inserted, removed or replaced further up, so that storage can append the new records
+ * instead of rewriting all of them. Records that change in place (such as a loan being settled)
+ * must be touched, since the list cannot see that. Listeners are told about every record added
+ * or removed, so that totals and indexes over the records can be kept up to date as the list changes.
+ * The records are kept as objects, or for expenditure and income optionally in RecordColumns.
+ */
+public class RecordList<T> extends AbstractList<T> implements RandomAccess {
+
+    /**
+     * Receives every record that is added to or removed from a RecordList.
+     * Replacing a record counts as removing the old record and adding the new one.
+     */
+    public interface Listener<T> {
+        /**
+         * Called after a record is added.
+         * @param index Position of the record in the list
+         * @param record The record added
+         */
+        void added(int index, T record);
+
+        /**
+         * Called after a record is removed.
+         * @param index Position the record had in the list
+         * @param record The record removed
+         */
+        void removed(int index, T record);
+    }
+
+    private static final int NOT_DIRTY = Integer.MAX_VALUE;
+
+    private List<T> records;
+    private RecordColumns<T> columns;
+    private List<Listener<? super T>> listeners;
+    private int persistedSize;
+    private int dirtyFrom;
+
+    /**
+     * Constructor for an empty list of records, which counts as persisted.
+     */
+    public RecordList() {
+        records = new ArrayList<>();
+        listeners = new ArrayList<>();
+        dirtyFrom = NOT_DIRTY;
+    }
+
+    /**
+     * Constructor for an empty list of records kept in columns of primitive arrays.
+     * @param columns Empty columns to keep the records in
+     */
+    public RecordList(RecordColumns<T> columns) {
+        this();
+        this.records = columns;
+        this.columns = columns;
+    }
+
+    /**
+     * Returns the columns the records are kept in.
+     * @return the columns, or null if the records are kept as objects
+     */
+    public RecordColumns<T> getColumns() {
+        return columns;
+    }
+
+    /**
+     * Adds a listener that is told about every record added to or removed from the list from now on.
+     * @param listener The listener to add
+     */
+    public void addListener(Listener<? super T> listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(Listener<? super T> listener) {
+        listeners.remove(listener);
+    }
+
+    @Override
+    public T get(int index) {
+        return records.get(index);
+    }
+
+    @Override
+    public int size() {
+        return records.size();
+    }
+
+    @Override
+    public T set(int index, T record) {
+        T previous = records.set(index, record);
+        markDirty(index);
+        fireRemoved(index, previous);
+        fireAdded(index, record);
+        return previous;
+    }
+
+    @Override
+    public boolean add(T record) {
+        modCount++;
+        records.add(record);
+        fireAdded(records.size() - 1, record);
+        return true;
+    }
+
+    @Override
+    public void add(int index, T record) {
+        records.add(index, record);
+        modCount++;
+        markDirty(index);
+        fireAdded(index, record);
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends T> records) {
+        modCount++;
+        int start = this.records.size();
+        boolean isChanged = this.records.addAll(records);
+        for (int i = start; i < this.records.size(); i++) {
+            fireAdded(i, this.records.get(i));
+        }
+        return isChanged;
+    }
+
+    @Override
+    public T remove(int index) {
+        T removed = records.remove(index);
+        modCount++;
+        markDirty(index);
+        fireRemoved(index, removed);
+        return removed;
+    }
+
+    @Override
+    public void clear() {
+        removeRange(0, records.size());
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex == toIndex) {
+            return;
+        }
+        List<T> removed = listeners.isEmpty() ? null : new ArrayList<>(records.subList(fromIndex, toIndex));
+        records.subList(fromIndex, toIndex).clear();
+        modCount++;
+        markDirty(fromIndex);
+        if (removed != null) {
+            for (int i = removed.size() - 1; i >= 0; i--) {
+                fireRemoved(fromIndex + i, removed.get(i));
+            }
+        }
+    }
+
+    /**
+     * Marks a record that changed in place as dirty.
+     * @param record The record that changed, which must be in the list
+     */
+    public void touch(T record) {
+        for (int i = 0; i < records.size(); i++) {
+            if (records.get(i) == record) {
+                markDirty(i);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Returns whether the list changed since it was last persisted.
+     * @return true if any record was added, removed, replaced or touched
+     */
+    public boolean isDirty() {
+        return dirtyFrom != NOT_DIRTY || records.size() != persistedSize;
+    }
+
+    /**
+     * Returns whether the only changes since the list was last persisted are records appended
+     * at the end, which start at getPersistedSize().
+     * @return true if the persisted records are unchanged
+     */
+    public boolean isAppendOnly() {
+        return dirtyFrom == NOT_DIRTY && records.size() >= persistedSize;
+    }
+
+    /**
+     * Returns the first position that may differ from the persisted records.
+     * Every record before it is the same record at the same position as when last persisted.
+     * @return the first position that changed, or the size of the list if nothing changed
+     */
+    public int getDirtyFrom() {
+        return Math.min(Math.min(dirtyFrom, persistedSize), records.size());
+    }
+
+    public int getPersistedSize() {
+        return persistedSize;
+    }
+
+    /**
+     * Marks the records as persisted, as they are now.
+     */
+    public void markClean() {
+        persistedSize = records.size();
+        dirtyFrom = NOT_DIRTY;
+    }
+
+    /**
+     * Marks every record as changed, so that the next write persists all of them.
+     */
+    public void markAllDirty() {
+        dirtyFrom = 0;
+    }
+
+    private void fireAdded(int index, T record) {
+        for (Listener<? super T> listener : listeners) {
+            listener.added(index, record);
+        }
+    }
+
+    private void fireRemoved(int index, T record) {
+        for (Listener<? super T> listener : listeners) {
+            listener.removed(index, record);
+        }
+    }
+
+    private void markDirty(int index) {
+        if (index < dirtyFrom) {
+            dirtyFrom = index;
+        }
+    }
+}
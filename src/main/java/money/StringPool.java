@@ -0,0 +1,115 @@
+package money;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * This class interns strings such as categories and descriptions, so that records with the same
+ * category or description share one String instead of each keeping a copy, and gives every string
+ * it holds an int id that indexes can use in place of the string. Two interned strings are equal
+ * exactly when they are the same object. The pool is bounded: once it holds its capacity of strings,
+ * strings that are not in it yet are returned as they are and get no id. It can be used from
+ * several threads at once, such as when a data file is loaded in parallel chunks: strings already
+ * in the pool are looked up in a ConcurrentHashMap without a lock, and only adding a string locks.
+ */
+public class StringPool {
+    public static final int NO_ID = -1;
+
+    private static final int DEFAULT_CAPACITY = Integer.getInteger("fg.stringPoolSize", 1 << 16);
+
+    private final int capacity;
+    private final Map<String, Integer> ids;
+    private volatile String[] strings;
+    private volatile int size;
+
+    /**
+     * Constructor for an empty pool of the default capacity, which is 65536 strings unless
+     * the fg.stringPoolSize system property is set.
+     */
+    public StringPool() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructor for an empty pool.
+     * @param capacity The most strings the pool holds
+     */
+    public StringPool(int capacity) {
+        this.capacity = capacity;
+        this.ids = new ConcurrentHashMap<>();
+        this.strings = new String[16];
+    }
+
+    /**
+     * Returns the string in the pool equal to a string, adding the string if there is none and the pool
+     * is not full.
+     * @param text The string, which may be null
+     * @return the string in the pool, or the string itself if the pool is full or it is null
+     */
+    public String intern(String text) {
+        int id = add(text);
+        return id == NO_ID ? text : strings[id];
+    }
+
+    /**
+     * Returns the id of a string, adding the string if it is not in the pool and the pool is not full.
+     * @param text The string, which may be null
+     * @return the id, or -1 if the pool is full or the string is null
+     */
+    public int add(String text) {
+        if (text == null) {
+            return NO_ID;
+        }
+        Integer id = ids.get(text);
+        return id != null ? id : addNew(text);
+    }
+
+    /**
+     * Adds a string that was not found without the lock, unless another thread added it meanwhile.
+     * The string is stored before its id is published in the map, so a thread that finds the id
+     * also finds the string.
+     */
+    private synchronized int addNew(String text) {
+        Integer id = ids.get(text);
+        if (id != null) {
+            return id;
+        }
+        if (size >= capacity) {
+            return NO_ID;
+        }
+        int newId = size;
+        if (newId == strings.length) {
+            strings = Arrays.copyOf(strings, newId * 2);
+        }
+        strings[newId] = text;
+        size = newId + 1;
+        ids.put(text, newId);
+        return newId;
+    }
+
+    /**
+     * Returns the id of a string without adding it.
+     * @param text The string
+     * @return the id, or -1 if the string is not in the pool
+     */
+    public int getId(String text) {
+        Integer id = text == null ? null : ids.get(text);
+        return id == null ? NO_ID : id;
+    }
+
+    public String get(int id) {
+        if (id < 0 || id >= size) {
+            throw new IndexOutOfBoundsException("Index: " + id + ", Size: " + size);
+        }
+        return strings[id];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+}
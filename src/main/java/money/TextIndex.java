@@ -0,0 +1,380 @@
+package money;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * This class is an inverted index of the words in the descriptions and categories of the records of
+ * a RecordList, for find#. Every distinct word keeps the positions of the records that have it, and
+ * the words are kept sorted, so the words starting with a term are found in O(log n) and a query only
+ * reads the positions of the words that match. Every word also gets an id in a TrigramIndex, through
+ * which the words that have a fragment inside them are found without scanning the words.
+ * A query is one or more terms split by spaces, and a record matches when each of its terms matches
+ * one of its words. The longest terms are matched first, and short terms are then checked against
+ * the records left if they are fewer than the words. The list is indexed on first use and the index
+ * then follows every change in place; a record inserted or removed before the end shifts the
+ * positions after it, so no change makes it index the list again.
+ * The words are also put in an EditDistanceIndex the first time a fuzzy search needs them, for find~.
+ */
+public class TextIndex<T extends Item> implements RecordList.Listener<T> {
+    private final RecordList<T> records;
+    private final Function<? super T, String> categoryOf;
+    private final TreeMap<String, Postings> postingsByWord;
+    private final List<Postings> wordsById;
+    private final TrigramIndex trigrams;
+    private final EditDistanceIndex fuzzyWords;
+    private int wordCount;
+    private int indexed;
+    private boolean isStale;
+
+    /**
+     * Constructor for the text index of a list, which indexes the list on its first use
+     * and then follows the changes to it.
+     * @param records The list to index
+     * @param categoryOf Gives the category of a record, or null if records of the list have none
+     */
+    public TextIndex(RecordList<T> records, Function<? super T, String> categoryOf) {
+        this.records = records;
+        this.categoryOf = categoryOf;
+        this.postingsByWord = new TreeMap<>();
+        this.wordsById = new ArrayList<>();
+        this.trigrams = new TrigramIndex();
+        this.fuzzyWords = new EditDistanceIndex();
+        this.isStale = true;
+        records.addListener(this);
+    }
+
+    @Override
+    public void added(int index, T record) {
+        if (isStale) {
+            return;
+        }
+        if (index < indexed) {
+            shift(index, 1);
+        }
+        index(index, record);
+        indexed++;
+    }
+
+    @Override
+    public void removed(int index, T record) {
+        if (isStale) {
+            return;
+        }
+        unindex(index, record);
+        indexed--;
+        if (index < indexed) {
+            shift(index + 1, -1);
+        }
+    }
+
+    /**
+     * Returns the records in which every term of a query occurs inside a word, such as "a" in "straw".
+     * Terms of three characters or more are found through the trigrams of the words, and shorter
+     * ones by scanning the words.
+     * @param query The terms, split by spaces
+     * @return the records in the order of the list, which is empty if the query has no terms
+     */
+    public List<T> find(String query) {
+        return find(query, false);
+    }
+
+    /**
+     * Returns the records in which every term of a query starts a word, which only reads the sorted words.
+     * @param query The terms, split by spaces
+     * @return the records in the order of the list, which is empty if the query has no terms
+     */
+    public List<T> findPrefix(String query) {
+        return find(query, true);
+    }
+
+    /**
+     * Returns the number of records that match a query as find does, without listing them.
+     * @param query The terms, split by spaces
+     * @return the number of records
+     */
+    public int count(String query) {
+        BitSet matches = matches(query, false);
+        return matches == null ? 0 : matches.cardinality();
+    }
+
+    /**
+     * Returns the records of a list that match a query as find does, checking each record instead of
+     * reading the index, such as to narrow down the records found for a query that the query extends.
+     * @param candidates The records to check
+     * @param query The terms, split by spaces
+     * @return the records that match, in the order of the candidates
+     */
+    public List<T> findIn(List<T> candidates, String query) {
+        List<String> terms = split(query);
+        List<T> found = new ArrayList<>();
+        if (terms.isEmpty()) {
+            return found;
+        }
+        for (T record : candidates) {
+            boolean isMatch = true;
+            for (String term : terms) {
+                if (!hasTerm(record, term)) {
+                    isMatch = false;
+                    break;
+                }
+            }
+            if (isMatch) {
+                found.add(record);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Returns the records with a word close to each term of a query, ignoring case, such as "protien"
+     * for "protein". A term of up to four characters may be one edit away from a word, a longer term
+     * two, and a term of one or two characters must be a word. The records closest to the query come
+     * first, adding up the distance of each term to the closest word of the record, and then the
+     * records added last.
+     * @param query The terms, split by spaces
+     * @param limit Greatest number of records to return
+     * @return the closest records, which is empty if the query has no terms
+     */
+    public List<T> findFuzzy(String query, int limit) {
+        refresh();
+        for (int id = fuzzyWords.size(); id < wordsById.size(); id++) {
+            fuzzyWords.add(id, wordsById.get(id).word.toLowerCase(Locale.ROOT));
+        }
+        Map<Integer, Integer> distances = null;
+        for (String term : split(query.toLowerCase(Locale.ROOT))) {
+            Map<Integer, Integer> termDistances = new HashMap<>();
+            fuzzyWords.search(term, maxEdits(term), (id, distance) -> {
+                Postings word = wordsById.get(id);
+                for (int i = 0; i < word.size(); i++) {
+                    termDistances.merge(word.get(i), distance, Math::min);
+                }
+            });
+            if (distances != null) {
+                termDistances.keySet().retainAll(distances.keySet());
+                for (Map.Entry<Integer, Integer> match : termDistances.entrySet()) {
+                    match.setValue(match.getValue() + distances.get(match.getKey()));
+                }
+            }
+            distances = termDistances;
+        }
+        if (distances == null) {
+            return Collections.emptyList();
+        }
+        List<Map.Entry<Integer, Integer>> ranked = new ArrayList<>(distances.entrySet());
+        ranked.sort(Map.Entry.<Integer, Integer>comparingByValue()
+                .thenComparing(Map.Entry.comparingByKey(Comparator.reverseOrder())));
+        List<T> found = new ArrayList<>();
+        for (int i = 0; i < ranked.size() && i < limit; i++) {
+            found.add(records.get(ranked.get(i).getKey()));
+        }
+        return found;
+    }
+
+    private static int maxEdits(String term) {
+        if (term.length() <= 2) {
+            return 0;
+        }
+        return term.length() <= 4 ? 1 : 2;
+    }
+
+    /**
+     * Builds the index now if it has not been built yet, instead of on the first search.
+     */
+    public void build() {
+        refresh();
+    }
+
+    /**
+     * Returns the number of distinct words in the records.
+     * @return the number of words
+     */
+    public int getWordCount() {
+        refresh();
+        return wordCount;
+    }
+
+    private List<T> find(String query, boolean isPrefixOnly) {
+        BitSet matches = matches(query, isPrefixOnly);
+        if (matches == null) {
+            return Collections.emptyList();
+        }
+        List<T> found = new ArrayList<>(matches.cardinality());
+        for (int i = matches.nextSetBit(0); i >= 0; i = matches.nextSetBit(i + 1)) {
+            found.add(records.get(i));
+        }
+        return found;
+    }
+
+    /**
+     * Returns the positions of the records that match a query, or null if none do.
+     */
+    private BitSet matches(String query, boolean isPrefixOnly) {
+        refresh();
+        List<String> terms = split(query);
+        if (terms.isEmpty()) {
+            return null;
+        }
+        terms.sort(Comparator.comparingInt(String::length).reversed());
+        BitSet matches = null;
+        for (String term : terms) {
+            if (matches != null && !isPrefixOnly && term.length() < TrigramIndex.GRAM
+                    && matches.cardinality() < wordsById.size()) {
+                verify(matches, term);
+            } else if (matches == null) {
+                matches = match(term, isPrefixOnly);
+            } else {
+                matches.and(match(term, isPrefixOnly));
+            }
+            if (matches.isEmpty()) {
+                return null;
+            }
+        }
+        return matches;
+    }
+
+    private BitSet match(String term, boolean isPrefixOnly) {
+        BitSet positions = new BitSet(indexed);
+        if (isPrefixOnly) {
+            for (Map.Entry<String, Postings> word : postingsByWord.tailMap(term, true).entrySet()) {
+                if (!word.getKey().startsWith(term)) {
+                    break;
+                }
+                word.getValue().addTo(positions);
+            }
+        } else if (term.length() >= TrigramIndex.GRAM) {
+            for (int id : trigrams.candidates(term)) {
+                Postings word = wordsById.get(id);
+                if (word.word.contains(term)) {
+                    word.addTo(positions);
+                }
+            }
+        } else {
+            for (Postings word : wordsById) {
+                if (word.word.contains(term)) {
+                    word.addTo(positions);
+                }
+            }
+        }
+        return positions;
+    }
+
+    /**
+     * Keeps the matches whose records have a term inside one of their words, for a short term that
+     * fewer records match so far than there are words to scan for it.
+     */
+    private void verify(BitSet matches, String term) {
+        for (int i = matches.nextSetBit(0); i >= 0; i = matches.nextSetBit(i + 1)) {
+            if (!hasTerm(records.get(i), term)) {
+                matches.clear(i);
+            }
+        }
+    }
+
+    private boolean hasTerm(T record, String term) {
+        if (record.getDescription().contains(term)) {
+            return true;
+        }
+        String category = categoryOf == null ? null : categoryOf.apply(record);
+        return category != null && category.contains(term);
+    }
+
+    private void refresh() {
+        if (!isStale) {
+            return;
+        }
+        postingsByWord.clear();
+        wordsById.clear();
+        trigrams.clear();
+        fuzzyWords.clear();
+        wordCount = 0;
+        for (int i = 0; i < records.size(); i++) {
+            index(i, records.get(i));
+        }
+        indexed = records.size();
+        isStale = false;
+    }
+
+    private void index(int position, T record) {
+        for (String word : wordsOf(record)) {
+            Postings postings = postingsByWord.get(word);
+            if (postings == null) {
+                postings = new Postings(word);
+                postingsByWord.put(word, postings);
+                trigrams.add(wordsById.size(), word);
+                wordsById.add(postings);
+            }
+            if (postings.size() == 0) {
+                wordCount++;
+            }
+            postings.add(position);
+        }
+    }
+
+    /**
+     * Takes a record out of the postings of its words. The words stay, with no positions if no
+     * other record has them, so that their ids in the trigrams stay valid.
+     */
+    private void unindex(int position, T record) {
+        for (String word : wordsOf(record)) {
+            Postings postings = postingsByWord.get(word);
+            if (postings != null && postings.remove(position) && postings.size() == 0) {
+                wordCount--;
+            }
+        }
+    }
+
+    private void shift(int from, int delta) {
+        for (Postings postings : wordsById) {
+            postings.shift(from, delta);
+        }
+    }
+
+    private List<String> wordsOf(T record) {
+        List<String> words = split(record.getDescription());
+        if (categoryOf != null) {
+            words.addAll(split(categoryOf.apply(record)));
+        }
+        return words;
+    }
+
+    /**
+     * Splits text into words at spaces, tabs and line breaks.
+     */
+    private static List<String> split(String text) {
+        List<String> words = new ArrayList<>();
+        if (text == null) {
+            return words;
+        }
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean isSpace = i == text.length() || Character.isWhitespace(text.charAt(i));
+            if (isSpace && start >= 0) {
+                words.add(text.substring(start, i));
+                start = -1;
+            } else if (!isSpace && start < 0) {
+                start = i;
+            }
+        }
+        return words;
+    }
+
+    /**
+     * A word and the positions of the records that have it, in increasing order.
+     */
+    private static class Postings extends Positions {
+        private final String word;
+
+        private Postings(String word) {
+            this.word = word;
+        }
+    }
+}
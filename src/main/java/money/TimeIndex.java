@@ -0,0 +1,147 @@
+package money;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * This class indexes the records of a RecordList by the day they happened on, so that the records
+ * of a month, a year or any range of days are found in O(log n + k) instead of scanning the list.
+ * It listens to the list and stays in sync with it as records are added and removed.
+ * It keeps the positions of the records rather than the records, which in columns are not objects.
+ * Records come back in date order, and records of the same day in list order.
+ */
+public class TimeIndex<T> implements RecordList.Listener<T> {
+    private final RecordList<T> records;
+    private final Function<? super T, LocalDate> dateOf;
+    private final NavigableMap<Long, Positions> positionsByDay;
+    private int size;
+
+    /**
+     * Constructor for the index of a list, which indexes the records already in the list
+     * and then follows the changes to it.
+     * @param records The list to index
+     * @param dateOf Gives the day a record happened on
+     */
+    public TimeIndex(RecordList<T> records, Function<? super T, LocalDate> dateOf) {
+        this.records = records;
+        this.dateOf = dateOf;
+        this.positionsByDay = new TreeMap<>();
+        for (int i = 0; i < records.size(); i++) {
+            added(i, records.get(i));
+        }
+        records.addListener(this);
+    }
+
+    @Override
+    public void added(int index, T record) {
+        if (index < size) {
+            shift(index, 1);
+        }
+        positionsByDay.computeIfAbsent(dayOf(record), day -> new Positions()).add(index);
+        size++;
+    }
+
+    @Override
+    public void removed(int index, T record) {
+        long day = dayOf(record);
+        Positions sameDay = positionsByDay.get(day);
+        if (sameDay == null || !sameDay.remove(index)) {
+            return;
+        }
+        if (sameDay.size() == 0) {
+            positionsByDay.remove(day);
+        }
+        size--;
+        if (index < size) {
+            shift(index + 1, -1);
+        }
+    }
+
+    /**
+     * Returns the records from one day to another, both days included.
+     * @param from The first day
+     * @param to The last day
+     * @return the records in date order
+     */
+    public List<T> between(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            return Collections.emptyList();
+        }
+        List<T> found = new ArrayList<>();
+        for (Positions sameDay : range(from, to).values()) {
+            for (int i = 0; i < sameDay.size(); i++) {
+                found.add(records.get(sameDay.get(i)));
+            }
+        }
+        return found;
+    }
+
+    public List<T> inMonth(int month, int year) {
+        YearMonth yearMonth = YearMonth.of(year, month);
+        return between(yearMonth.atDay(1), yearMonth.atEndOfMonth());
+    }
+
+    public List<T> inYear(int year) {
+        return between(LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31));
+    }
+
+    /**
+     * Returns the number of records from one day to another, both days included.
+     * @param from The first day
+     * @param to The last day
+     * @return the number of records
+     */
+    public int countBetween(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            return 0;
+        }
+        int count = 0;
+        for (Positions sameDay : range(from, to).values()) {
+            count += sameDay.size();
+        }
+        return count;
+    }
+
+    /**
+     * Returns the first day with a record, or null if there are no records.
+     * @return the earliest day
+     */
+    public LocalDate getFirstDay() {
+        Map.Entry<Long, Positions> first = positionsByDay.firstEntry();
+        return first == null ? null : LocalDate.ofEpochDay(first.getKey());
+    }
+
+    /**
+     * Returns the last day with a record, or null if there are no records.
+     * @return the latest day
+     */
+    public LocalDate getLastDay() {
+        Map.Entry<Long, Positions> last = positionsByDay.lastEntry();
+        return last == null ? null : LocalDate.ofEpochDay(last.getKey());
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private NavigableMap<Long, Positions> range(LocalDate from, LocalDate to) {
+        return positionsByDay.subMap(from.toEpochDay(), true, to.toEpochDay(), true);
+    }
+
+    private void shift(int from, int delta) {
+        for (Positions sameDay : positionsByDay.values()) {
+            sameDay.shift(from, delta);
+        }
+    }
+
+    private long dayOf(T record) {
+        return dateOf.apply(record).toEpochDay();
+    }
+}
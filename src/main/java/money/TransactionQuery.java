@@ -0,0 +1,382 @@
+package money;
+
+import controlpanel.DukeException;
+
+import java.time.LocalDate;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * This class is a query over the income and expenditure made of filters, such as
+ * "type:exp cat:food amt>20 on:2019-01..2019-06 text:noodle", and plans how to run it.
+ * For each kind of record, the plan counts the records that each index of the account would give for
+ * its filter (by date, category, amount or words), reads the records of the index with the fewest,
+ * and checks the other filters on them only.
+ * The category of an income is its source, the description it is grouped by for the trend graphs.
+ */
+public class TransactionQuery {
+    private static final String FORMAT = "Please enter in the format: query [explain] [type:exp|inc] "
+            + "[cat:<category>] [amt>|>=|<|<=|=<amount>] [on:<date>[..<date>]] [text:<word>]\n"
+            + "Dates are written as yyyy-mm-dd, yyyy-mm or yyyy.\n";
+
+    private boolean isExplain;
+    private boolean hasExpenditure;
+    private boolean hasIncome;
+    private String category;
+    private long minCents;
+    private long maxCents;
+    private LocalDate from;
+    private LocalDate to;
+    private String text;
+
+    private TransactionQuery() {
+        hasExpenditure = true;
+        hasIncome = true;
+        minCents = Long.MIN_VALUE;
+        maxCents = Long.MAX_VALUE;
+        text = "";
+    }
+
+    /**
+     * Parses the filters of a query, split by spaces. Every filter is optional, and records must
+     * match all of them. A category or text may go on over several words, up to the next filter.
+     * The word explain asks for the plans to be shown.
+     * @param filters The filters, such as "type:exp cat:food amt>20 on:2019-01..2019-06 text:noodle"
+     * @return the query
+     * @throws DukeException When a filter is invalid
+     */
+    public static TransactionQuery parse(String filters) throws DukeException {
+        TransactionQuery query = new TransactionQuery();
+        boolean hasType = false;
+        String continued = null;
+        for (String filter : filters.trim().split("\\s+")) {
+            try {
+                if (filter.isEmpty()) {
+                    continue;
+                } else if (continued != null && isWord(filter)) {
+                    if (continued.equals("cat:")) {
+                        query.category = query.category + " " + filter;
+                    } else {
+                        query.text = query.text + " " + filter;
+                    }
+                    continue;
+                }
+                continued = null;
+                if (filter.equals("explain")) {
+                    query.isExplain = true;
+                } else if (filter.startsWith("type:")) {
+                    if (!hasType) {
+                        query.hasExpenditure = false;
+                        query.hasIncome = false;
+                        hasType = true;
+                    }
+                    query.parseType(filter.substring(5));
+                } else if (filter.startsWith("cat:") && filter.length() > 4) {
+                    query.category = filter.substring(4);
+                    continued = "cat:";
+                } else if (filter.startsWith("amt")) {
+                    query.parseAmount(filter.substring(3));
+                } else if (filter.startsWith("on:")) {
+                    query.parseDates(filter.substring(3));
+                } else if (filter.startsWith("text:") && filter.length() > 5) {
+                    query.text = query.text.isEmpty() ? filter.substring(5) : query.text + " " + filter.substring(5);
+                    continued = "text:";
+                } else {
+                    throw new DukeException("Unknown filter " + filter + "! " + FORMAT);
+                }
+            } catch (NumberFormatException | ArithmeticException e) {
+                throw new DukeException("Invalid amount in " + filter + "! " + FORMAT);
+            } catch (DateTimeParseException e) {
+                throw new DukeException("Invalid date in " + filter + "! " + FORMAT);
+            }
+        }
+        return query;
+    }
+
+    /**
+     * Returns whether a word goes on with the category or text before it, such as "pay" in "cat:TA pay",
+     * rather than being a filter of its own.
+     */
+    private static boolean isWord(String word) {
+        return !word.equals("explain") && word.indexOf(':') < 0 && word.indexOf('>') < 0 && word.indexOf('<') < 0
+                && word.indexOf('=') < 0;
+    }
+
+    public boolean isExplain() {
+        return isExplain;
+    }
+
+    /**
+     * Plans the query for every kind of record it asks for, choosing the index to read for each.
+     * @param account Account object containing all financial info of user saved on the programme
+     * @return the plans, for the expenditure and then the income
+     */
+    public List<Plan<? extends Item>> plan(Account account) {
+        List<Plan<? extends Item>> plans = new ArrayList<>();
+        if (hasExpenditure) {
+            plans.add(new Plan<>("Expenditure", account.getExpListTotal(), account.getExpTimeIndex(),
+                    Expenditure::getDateBoughtDate, account.getExpCategoryIndex(), Expenditure::getCategory,
+                    account.getExpAmountIndex(), account.getExpTextIndex()));
+        }
+        if (hasIncome) {
+            plans.add(new Plan<>("Income", account.getIncomeListTotal(), account.getIncomeTimeIndex(),
+                    Income::getPayday, account.getIncomeSourceIndex(), Income::getDescription,
+                    account.getIncomeAmountIndex(), account.getIncomeTextIndex()));
+        }
+        return plans;
+    }
+
+    private void parseType(String type) throws DukeException {
+        if (type.equals("exp") || type.equals("expenditure")) {
+            hasExpenditure = true;
+        } else if (type.equals("inc") || type.equals("income")) {
+            hasIncome = true;
+        } else {
+            throw new DukeException("Type must be exp or inc! " + FORMAT);
+        }
+    }
+
+    private void parseAmount(String bound) throws DukeException {
+        if (bound.startsWith(">=")) {
+            minCents = Math.max(minCents, Money.parseCents(bound.substring(2)));
+        } else if (bound.startsWith("<=")) {
+            maxCents = Math.min(maxCents, Money.parseCents(bound.substring(2)));
+        } else if (bound.startsWith(">")) {
+            minCents = Math.max(minCents, Money.parseCents(bound.substring(1)) + 1);
+        } else if (bound.startsWith("<")) {
+            maxCents = Math.min(maxCents, Money.parseCents(bound.substring(1)) - 1);
+        } else if (bound.startsWith("=") || bound.startsWith(":")) {
+            long cents = Money.parseCents(bound.substring(1));
+            minCents = Math.max(minCents, cents);
+            maxCents = Math.min(maxCents, cents);
+        } else {
+            throw new DukeException("Unknown filter amt" + bound + "! " + FORMAT);
+        }
+    }
+
+    /**
+     * Parses a day, month or year, or a range of them from the start of the first to the end of the last,
+     * either of which may be left out.
+     */
+    private void parseDates(String dates) {
+        int dots = dates.indexOf("..");
+        String first = dots < 0 ? dates : dates.substring(0, dots);
+        String last = dots < 0 ? dates : dates.substring(dots + 2);
+        if (!first.isEmpty()) {
+            LocalDate start = parseDate(first, true);
+            from = from == null || start.isAfter(from) ? start : from;
+        }
+        if (!last.isEmpty()) {
+            LocalDate end = parseDate(last, false);
+            to = to == null || end.isBefore(to) ? end : to;
+        }
+    }
+
+    private static LocalDate parseDate(String date, boolean isStart) {
+        switch (date.length()) {
+        case 4:
+            Year year = Year.parse(date);
+            return isStart ? year.atDay(1) : year.atMonth(12).atEndOfMonth();
+        case 7:
+            YearMonth month = YearMonth.parse(date);
+            return isStart ? month.atDay(1) : month.atEndOfMonth();
+        default:
+            return LocalDate.parse(date);
+        }
+    }
+
+    /**
+     * The ways a plan can read the records that may match, cheapest first when they give as many records.
+     */
+    private enum Access {
+        DATE("date index", "date"), CATEGORY("category index", "category"), AMOUNT("amount index", "amount"),
+        TEXT("text index", "text"), SCAN("full scan", null);
+
+        private final String name;
+        private final String filter;
+
+        Access(String name, String filter) {
+            this.name = name;
+            this.filter = filter;
+        }
+    }
+
+    /**
+     * The plan of the query for one kind of record, which reads the records of the index that gives
+     * the fewest and checks the other filters on each of them.
+     */
+    public class Plan<T extends Item> {
+        private final String kind;
+        private final RecordList<T> records;
+        private final TimeIndex<T> timeIndex;
+        private final Function<? super T, LocalDate> dateOf;
+        private final CategoryIndex<T> categoryIndex;
+        private final Function<? super T, String> categoryOf;
+        private final AmountIndex<T> amountIndex;
+        private final TextIndex<T> textIndex;
+        private final int[] estimates;
+        private final Access access;
+        private int rowsScanned;
+        private int rowsMatched;
+
+        private Plan(String kind, RecordList<T> records, TimeIndex<T> timeIndex, Function<? super T, LocalDate> dateOf,
+                     CategoryIndex<T> categoryIndex, Function<? super T, String> categoryOf,
+                     AmountIndex<T> amountIndex, TextIndex<T> textIndex) {
+            this.kind = kind;
+            this.records = records;
+            this.timeIndex = timeIndex;
+            this.dateOf = dateOf;
+            this.categoryIndex = categoryIndex;
+            this.categoryOf = categoryOf;
+            this.amountIndex = amountIndex;
+            this.textIndex = textIndex;
+            this.estimates = new int[Access.values().length];
+            Access cheapest = Access.SCAN;
+            estimates[Access.SCAN.ordinal()] = records.size();
+            for (Access candidate : Access.values()) {
+                if (candidate != Access.SCAN && isFiltered(candidate)) {
+                    estimates[candidate.ordinal()] = estimate(candidate);
+                    if (estimates[candidate.ordinal()] < estimates[cheapest.ordinal()]
+                            || (estimates[candidate.ordinal()] == estimates[cheapest.ordinal()]
+                            && candidate.ordinal() < cheapest.ordinal())) {
+                        cheapest = candidate;
+                    }
+                }
+            }
+            this.access = cheapest;
+        }
+
+        public String getKind() {
+            return kind;
+        }
+
+        /**
+         * Runs the plan, reading the records of the index it chose and checking the other filters on them.
+         * @return the records that match every filter, in date order
+         */
+        public List<T> run() {
+            List<T> candidates = read();
+            rowsScanned = candidates.size();
+            List<T> found = new ArrayList<>();
+            for (T record : candidates) {
+                if (isMatch(record)) {
+                    found.add(record);
+                }
+            }
+            if (access != Access.TEXT && !text.isEmpty()) {
+                found = textIndex.findIn(found, text);
+            }
+            if (access != Access.DATE) {
+                found.sort(Comparator.comparing(dateOf));
+            }
+            rowsMatched = found.size();
+            return found;
+        }
+
+        /**
+         * Describes the plan: the number of records that each index would give, the index chosen,
+         * the filters checked on its records, and the records read and matched if the plan has run.
+         * @return the description, one line for each
+         */
+        public String explain() {
+            StringBuilder explanation = new StringBuilder(kind).append(" plan: ").append(access.name);
+            List<String> checked = new ArrayList<>();
+            for (Access filter : Access.values()) {
+                if (filter != access && filter != Access.SCAN && isFiltered(filter)) {
+                    checked.add(filter.filter);
+                }
+            }
+            if (!checked.isEmpty()) {
+                explanation.append(", then check ").append(String.join(", ", checked));
+            }
+            explanation.append("\n  estimated rows:");
+            for (Access candidate : Access.values()) {
+                if (candidate == Access.SCAN || isFiltered(candidate)) {
+                    explanation.append(" ").append(candidate.name).append(" ")
+                            .append(estimates[candidate.ordinal()]).append(";");
+                }
+            }
+            explanation.setLength(explanation.length() - 1);
+            explanation.append("\n  rows scanned: ").append(rowsScanned).append(", rows matched: ")
+                    .append(rowsMatched).append("\n");
+            return explanation.toString();
+        }
+
+        public int getRowsScanned() {
+            return rowsScanned;
+        }
+
+        private boolean isFiltered(Access candidate) {
+            switch (candidate) {
+            case DATE:
+                return from != null || to != null;
+            case CATEGORY:
+                return category != null;
+            case AMOUNT:
+                return minCents != Long.MIN_VALUE || maxCents != Long.MAX_VALUE;
+            case TEXT:
+                return !text.isEmpty();
+            default:
+                return true;
+            }
+        }
+
+        private int estimate(Access candidate) {
+            switch (candidate) {
+            case DATE:
+                return timeIndex.size() == 0 ? 0 : timeIndex.countBetween(firstDay(), lastDay());
+            case CATEGORY:
+                return categoryIndex.getCount(category);
+            case AMOUNT:
+                return amountIndex.count(minCents, maxCents);
+            case TEXT:
+                return textIndex.count(text);
+            default:
+                return records.size();
+            }
+        }
+
+        private List<T> read() {
+            switch (access) {
+            case DATE:
+                return timeIndex.size() == 0 ? new ArrayList<>() : timeIndex.between(firstDay(), lastDay());
+            case CATEGORY:
+                return categoryIndex.getRecords(category);
+            case AMOUNT:
+                return amountIndex.betweenInListOrder(minCents, maxCents);
+            case TEXT:
+                return textIndex.find(text);
+            default:
+                return records;
+            }
+        }
+
+        private boolean isMatch(T record) {
+            long cents = record.getPriceCents();
+            if (access != Access.AMOUNT && (cents < minCents || cents > maxCents)) {
+                return false;
+            }
+            if (access != Access.CATEGORY && category != null && !category.equals(categoryOf.apply(record))) {
+                return false;
+            }
+            if (access != Access.DATE && (from != null || to != null)) {
+                LocalDate date = dateOf.apply(record);
+                return (from == null || !date.isBefore(from)) && (to == null || !date.isAfter(to));
+            }
+            return true;
+        }
+
+        private LocalDate firstDay() {
+            return from == null ? timeIndex.getFirstDay() : from;
+        }
+
+        private LocalDate lastDay() {
+            return to == null ? timeIndex.getLastDay() : to;
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package money;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This class indexes every run of three characters (trigram) in strings that are each known by an
+ * int id, so that the strings that may contain a fragment are found without reading every string.
+ * Each trigram keeps the ids of the strings that have it, compressed as the gaps between them in
+ * variable-length bytes, in blocks of 64 that each start with the id in full, so a search can skip whole
+ * blocks. The candidates of a fragment are the ids in the postings of all its trigrams, which must still
+ * be checked against the strings, since the trigrams may come from different places in them.
+ * Strings are added in increasing order of id.
+ */
+public class TrigramIndex {
+    public static final int GRAM = 3;
+
+    private final Map<Long, Postings> postingsByTrigram;
+
+    /**
+     * Constructor for an empty trigram index.
+     */
+    public TrigramIndex() {
+        this.postingsByTrigram = new HashMap<>();
+    }
+
+    /**
+     * Adds the trigrams of a string, whose id must not be less than the last id added.
+     * @param id Id of the string
+     * @param text The string, which adds nothing if it is shorter than three characters
+     */
+    public void add(int id, String text) {
+        for (int i = 0; i + GRAM <= text.length(); i++) {
+            postingsByTrigram.computeIfAbsent(trigramAt(text, i), trigram -> new Postings()).add(id);
+        }
+    }
+
+    public void clear() {
+        postingsByTrigram.clear();
+    }
+
+    /**
+     * Returns the ids of the strings that have every trigram of a fragment, intersecting the postings
+     * from the trigram with the fewest strings.
+     * @param fragment The fragment, of at least three characters
+     * @return the ids in increasing order
+     */
+    public int[] candidates(String fragment) {
+        List<Postings> lists = new ArrayList<>();
+        for (int i = 0; i + GRAM <= fragment.length(); i++) {
+            Postings postings = postingsByTrigram.get(trigramAt(fragment, i));
+            if (postings == null) {
+                return new int[0];
+            }
+            if (!lists.contains(postings)) {
+                lists.add(postings);
+            }
+        }
+        lists.sort(Comparator.comparingInt(postings -> postings.count));
+        int[] found = lists.get(0).toArray();
+        int size = found.length;
+        for (int l = 1; l < lists.size() && size > 0; l++) {
+            Cursor cursor = lists.get(l).cursor();
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                if (cursor.advanceTo(found[i]) == found[i]) {
+                    found[kept++] = found[i];
+                }
+            }
+            size = kept;
+        }
+        return Arrays.copyOf(found, size);
+    }
+
+    public int getTrigramCount() {
+        return postingsByTrigram.size();
+    }
+
+    /**
+     * Returns the number of bytes that the compressed postings take, not counting the block headers.
+     * @return the bytes of the postings
+     */
+    public long getPostingBytes() {
+        long bytes = 0;
+        for (Postings postings : postingsByTrigram.values()) {
+            bytes += postings.length;
+        }
+        return bytes;
+    }
+
+    private static long trigramAt(String text, int index) {
+        return ((long) text.charAt(index) << 32) | ((long) text.charAt(index + 1) << 16) | text.charAt(index + 2);
+    }
+
+    /**
+     * The ids of the strings that have a trigram, in increasing order. The first id of a block
+     * is kept in full in blockFirsts, and the others as the gap from the one before, seven bits to a byte.
+     */
+    private static class Postings {
+        private static final int BLOCK = 64;
+
+        private byte[] bytes = new byte[4];
+        private int length;
+        private int[] blockFirsts = new int[1];
+        private int[] blockOffsets = new int[1];
+        private int count;
+        private int last;
+
+        private void add(int id) {
+            if (count > 0 && id <= last) {
+                return;
+            }
+            if (count % BLOCK == 0) {
+                int block = count / BLOCK;
+                if (block == blockFirsts.length) {
+                    blockFirsts = Arrays.copyOf(blockFirsts, block * 2);
+                    blockOffsets = Arrays.copyOf(blockOffsets, block * 2);
+                }
+                blockFirsts[block] = id;
+                blockOffsets[block] = length;
+            } else {
+                writeGap(id - last);
+            }
+            last = id;
+            count++;
+        }
+
+        private void decodeBlock(int block, int entries, int[] into) {
+            int offset = blockOffsets[block];
+            int value = blockFirsts[block];
+            into[block * BLOCK] = value;
+            for (int i = 1; i < entries; i++) {
+                int gap = 0;
+                int shift = 0;
+                byte b;
+                do {
+                    b = bytes[offset++];
+                    gap |= (b & 0x7f) << shift;
+                    shift += 7;
+                } while (b < 0);
+                value += gap;
+                into[block * BLOCK + i] = value;
+            }
+        }
+
+        private int[] toArray() {
+            int[] ids = new int[count];
+            int blocks = (count + BLOCK - 1) / BLOCK;
+            for (int block = 0; block < blocks; block++) {
+                decodeBlock(block, Math.min(BLOCK, count - block * BLOCK), ids);
+            }
+            return ids;
+        }
+
+        private Cursor cursor() {
+            return new Cursor(this);
+        }
+
+        private void writeGap(int gap) {
+            if (length + 5 > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + 5));
+            }
+            while ((gap & ~0x7f) != 0) {
+                bytes[length++] = (byte) ((gap & 0x7f) | 0x80);
+                gap >>>= 7;
+            }
+            bytes[length++] = (byte) gap;
+        }
+    }
+
+    /**
+     * Reads the ids of a trigram in increasing order, skipping the blocks that end before a target.
+     */
+    private static class Cursor {
+        private final Postings postings;
+        private int block = -1;
+        private int index;
+        private int offset;
+        private int value;
+
+        private Cursor(Postings postings) {
+            this.postings = postings;
+        }
+
+        /**
+         * Moves to the first id that is at least a target.
+         * @return the id, or Integer.MAX_VALUE if there is none
+         */
+        private int advanceTo(int target) {
+            int blocks = (postings.count + Postings.BLOCK - 1) / Postings.BLOCK;
+            if (block < 0 || (block + 1 < blocks && postings.blockFirsts[block + 1] <= target)) {
+                int low = Math.max(block, 0);
+                int high = blocks - 1;
+                while (low < high) {
+                    int mid = (low + high + 1) >>> 1;
+                    if (postings.blockFirsts[mid] <= target) {
+                        low = mid;
+                    } else {
+                        high = mid - 1;
+                    }
+                }
+                block = low;
+                index = block * Postings.BLOCK;
+                offset = postings.blockOffsets[block];
+                value = postings.blockFirsts[block];
+            }
+            while (value < target) {
+                if (++index >= postings.count) {
+                    value = Integer.MAX_VALUE;
+                    return value;
+                }
+                if (index % Postings.BLOCK == 0) {
+                    block++;
+                    offset = postings.blockOffsets[block];
+                    value = postings.blockFirsts[block];
+                    continue;
+                }
+                int gap = 0;
+                int shift = 0;
+                byte b;
+                do {
+                    b = postings.bytes[offset++];
+                    gap |= (b & 0x7f) << shift;
+                    shift += 7;
+                } while (b < 0);
+                value += gap;
+            }
+            return value;
+        }
+    }
+}
@@ -1,11 +1,12 @@
 package moneycommands;
 
 import controlpanel.Parser;
-import controlpanel.MoneyStorage;
+import controlpanel.StorageEngine;
 import controlpanel.Ui;
 import controlpanel.DukeException;
 import money.Account;
 import money.Expenditure;
+import money.Money;
 
 import java.text.ParseException;
 import java.time.LocalDate;
@@ -18,7 +19,7 @@ public class AddExpenditureCommand extends MoneyCommand {
 
     private String inputString;
     private String description;
-    private float price;
+    private Money price;
     private String category;
     private LocalDate boughtTime;
 
@@ -47,25 +48,26 @@ public class AddExpenditureCommand extends MoneyCommand {
      * @throws DukeException When the command is invalid
      */
     @Override
-    public void execute(Account account, Ui ui, MoneyStorage storage) throws ParseException, DukeException {
+    public void execute(Account account, Ui ui, StorageEngine storage) throws ParseException, DukeException {
         try {
             String[] splitStr = inputString.split("/amt ", 2);
             description = splitStr[0];
             String[] furSplit = splitStr[1].split("/cat ", 2);
-            price = Float.parseFloat(furSplit[0]);
+            price = Money.parse(furSplit[0].trim());
             String[] morSplit = furSplit[1].split("/on ", 2);
             category = morSplit[0];
             boughtTime = Parser.shortcutTime(morSplit[1]);
-        } catch (ArrayIndexOutOfBoundsException | NumberFormatException e) {
+        } catch (ArrayIndexOutOfBoundsException | NumberFormatException | ArithmeticException e) {
             throw new DukeException("Please enter in the format: "
                     + "spent <description> /amt <amount> /cat <category> /on <date>\n");
         } catch (DateTimeParseException e) {
             throw new DukeException("Invalid date! Please enter date in the format: d/m/yyyy\n");
         }
-        if (price <= 0) {
+        if (price.getCents() <= 0) {
             throw new DukeException("Expenditure must be more than zero!\n");
         }
-        Expenditure e = new Expenditure(price, description, category, boughtTime);
+        Expenditure e = new Expenditure(price, account.intern(description), account.intern(category),
+                boughtTime);
         account.getExpListTotal().add(e);
         storage.writeToFile(account);
 
@@ -77,10 +79,10 @@ public class AddExpenditureCommand extends MoneyCommand {
 
     @Override
     //@@author Chianhaoplanks
-    public void undo(Account account, Ui ui, MoneyStorage storage) {
+    public void undo(Account account, Ui ui, StorageEngine storage) {
         int lastIndex = account.getExpListTotal().size() - 1;
         Expenditure exp = account.getExpListTotal().get(lastIndex);
-        account.getExpListTotal().remove(exp);
+        account.getExpListTotal().remove(lastIndex);
         storage.writeToFile(account);
 
         ui.appendToOutput(" Last command undone: \n");
@@ -1,11 +1,12 @@
 package moneycommands;
 
-import controlpanel.MoneyStorage;
+import controlpanel.StorageEngine;
 import controlpanel.Ui;
 import controlpanel.Parser;
 import controlpanel.DukeException;
 import money.Goal;
 import money.Account;
+import money.Money;
 
 import java.text.ParseException;
 import java.time.LocalDate;
@@ -20,7 +21,7 @@ public class AddGoalCommand extends MoneyCommand {
     private String inputString;
     private DateTimeFormatter dateTimeFormatter;
     String desc;
-    float price;
+    Money price;
     LocalDate byDate;
     String priorityLevel;
     String category;
@@ -51,20 +52,20 @@ public class AddGoalCommand extends MoneyCommand {
      * @throws DukeException When the command is invalid
      */
     @Override
-    public void execute(Account account, Ui ui, MoneyStorage storage) throws ParseException, DukeException {
+    public void execute(Account account, Ui ui, StorageEngine storage) throws ParseException, DukeException {
         try {
             desc = inputString.split("/amt ")[0].replaceFirst("goal ", "");
-            price = Float.parseFloat(inputString.split("/amt ")[1].split("/by ")[0]);
+            price = Money.parse(inputString.split("/amt ")[1].split("/by ")[0].trim());
             byDate = Parser.shortcutTime(inputString.split("/by ")[1].split(" /priority ")[0]);
             priorityLevel = inputString.split("/priority ")[1];
             category = "GS";
-            if (price <= 0) {
+            if (price.getCents() <= 0) {
                 throw new DukeException("Price must be more than zero!\n");
             }
             if (byDate.isBefore(LocalDate.now())) {
                 throw new DukeException("Target date must be before current date!\n");
             }
-        } catch (NumberFormatException e) {
+        } catch (NumberFormatException | ArithmeticException e) {
             throw new DukeException("Please enter in the format: "
                     + "goal <desc> /amt <amount> /by <date> /priority <HIGH/MEDIUM/LOW>\n");
         } catch (DateTimeParseException e) {
@@ -73,7 +74,7 @@ public class AddGoalCommand extends MoneyCommand {
             throw new DukeException("Please enter in the format: "
                     + "goal <desc> /amt <amount> /by <date> /priority <HIGH/MEDIUM/LOW>\n");
         }
-        Goal g = new Goal(price, desc, category, byDate, priorityLevel);
+        Goal g = new Goal(price, account.intern(desc), account.intern(category), byDate, priorityLevel);
         account.getShortTermGoals().add(g);
         storage.writeToFile(account);
         ui.appendToOutput(" Got it. I've added this Goal: \n");
@@ -87,7 +88,7 @@ public class AddGoalCommand extends MoneyCommand {
 
     @Override
     //@@author Chianhaoplanks
-    public void undo(Account account, Ui ui, MoneyStorage storage) throws ParseException, DukeException {
+    public void undo(Account account, Ui ui, StorageEngine storage) throws ParseException, DukeException {
         int lastIndex = account.getShortTermGoals().size() - 1;
         Goal g = account.getShortTermGoals().get(lastIndex);
         account.getShortTermGoals().remove(g);
@@ -1,11 +1,12 @@
 package moneycommands;
 
 import controlpanel.Parser;
-import controlpanel.MoneyStorage;
+import controlpanel.StorageEngine;
 import controlpanel.Ui;
 import controlpanel.DukeException;
 import money.Account;
 import money.Income;
+import money.Money;
 
 import java.text.ParseException;
 import java.time.LocalDate;
@@ -18,7 +19,7 @@ public class AddIncomeCommand extends MoneyCommand {
 
     private String inputString;
     private String description;
-    private float salary;
+    private Money salary;
     private LocalDate payDay;
 
     //@@author chengweixuan
@@ -46,24 +47,24 @@ public class AddIncomeCommand extends MoneyCommand {
      * @throws DukeException When the command is invalid
      */
     @Override
-    public void execute(Account account, Ui ui, MoneyStorage storage) throws ParseException, DukeException {
+    public void execute(Account account, Ui ui, StorageEngine storage) throws ParseException, DukeException {
         try {
             String[] splitStr = inputString.split("/amt ", 2);
             description = splitStr[0];
             String[] furSplit = splitStr[1].split("/on ", 2);
-            salary = Float.parseFloat(furSplit[0]);
+            salary = Money.parse(furSplit[0].trim());
             payDay = Parser.shortcutTime(furSplit[1]);
-        } catch (ArrayIndexOutOfBoundsException | NumberFormatException e) {
+        } catch (ArrayIndexOutOfBoundsException | NumberFormatException | ArithmeticException e) {
             throw new DukeException("Please enter in the format: "
                     + "add income <description> /amt <amount> /on <date>\n");
         } catch (DateTimeParseException e) {
             throw new DukeException("Invalid date! Please enter date in the format: d/m/yyyy\n");
         }
-        if (salary <= 0) {
+        if (salary.getCents() <= 0) {
             throw new DukeException("Income source must be more than zero!\n");
         }
 
-        Income i = new Income(salary, description, payDay);
+        Income i = new Income(salary, account.intern(description), payDay);
         account.getIncomeListTotal().add(i);
         storage.writeToFile(account);
 
@@ -76,10 +77,10 @@ public class AddIncomeCommand extends MoneyCommand {
 
     @Override
     //@@author Chianhaoplanks
-    public void undo(Account account, Ui ui, MoneyStorage storage) {
+    public void undo(Account account, Ui ui, StorageEngine storage) {
         int lastIndex = account.getIncomeListTotal().size() - 1;
         Income i = account.getIncomeListTotal().get(lastIndex);
-        account.getIncomeListTotal().remove(i);
+        account.getIncomeListTotal().remove(lastIndex);
         storage.writeToFile(account);
 
         ui.appendToOutput(" Last command undone: \n");
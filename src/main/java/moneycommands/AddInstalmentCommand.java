@@ -1,11 +1,12 @@
 package moneycommands;
 
 import controlpanel.DukeException;
-import controlpanel.MoneyStorage;
+import controlpanel.StorageEngine;
 import controlpanel.Parser;
 import controlpanel.Ui;
 import money.Account;
 import money.Instalment;
+import money.Money;
 
 import java.math.RoundingMode;
 import java.text.DecimalFormat;
@@ -22,7 +23,7 @@ public class AddInstalmentCommand extends MoneyCommand {
     private String inputString;
     private DateTimeFormatter dateTimeFormatter;
     String desc;
-    float amount;
+    Money amount;
     int numOfPaymentsReq;
     LocalDate boughtDate;
     float annualIR;
@@ -53,26 +54,27 @@ public class AddInstalmentCommand extends MoneyCommand {
      * @throws DukeException When the command is invalid
      */
     @Override
-    public void execute(Account account, Ui ui, MoneyStorage storage) throws DukeException, ParseException {
+    public void execute(Account account, Ui ui, StorageEngine storage) throws DukeException, ParseException {
         try {
             desc = inputString.split(" /amt ")[0].replaceFirst("add instalment ", "");
-            amount = Float.parseFloat(inputString.split(" /amt ")[1].split(" /within ")[0]);
+            amount = Money.parse(inputString.split(" /amt ")[1].split(" /within ")[0].trim());
             numOfPaymentsReq = Integer.parseInt(inputString.split(" /within ")[1].split(" months /from ")[0]);
             boughtDate = Parser.shortcutTime(inputString.split(" months /from ")[1].split(" /percentage ")[0]);
             annualIR = Float.parseFloat(inputString.split(" /percentage ")[1]);
             category = "INS";
-        } catch (NumberFormatException | IndexOutOfBoundsException e) {
+        } catch (NumberFormatException | IndexOutOfBoundsException | ArithmeticException e) {
             throw new DukeException("Please enter in the format: "
                     + "add instalment <desc> /amt <amount> /within <number of months of payment> months "
                     + "/from <date> /percentage <annual interest rate>%\n");
         } catch (DateTimeParseException e) {
             throw new DukeException("Invalid date! Please enter date in the format: d/m/yyyy\n");
         }
-        if (amount <= 0) {
+        if (amount.getCents() <= 0) {
             throw new DukeException("Instalment amount must be more than zero!\n");
         }
 
-        Instalment ins = new Instalment(amount, desc, category, boughtDate, numOfPaymentsReq, annualIR);
+        Instalment ins = new Instalment(amount, account.intern(desc), account.intern(category), boughtDate,
+                numOfPaymentsReq, annualIR);
         account.getInstalments().add(ins);
         storage.writeToFile(account);
 
@@ -95,7 +97,7 @@ public class AddInstalmentCommand extends MoneyCommand {
 
     @Override
     //@@author Chianhaoplanks
-    public void undo(Account account, Ui ui, MoneyStorage storage) {
+    public void undo(Account account, Ui ui, StorageEngine storage) {
         int lastIndex = account.getInstalments().size() - 1;
         Instalment ins = account.getInstalments().get(lastIndex);
         account.getInstalments().remove(ins);
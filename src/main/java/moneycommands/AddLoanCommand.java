@@ -1,16 +1,16 @@
 package moneycommands;
 
 import controlpanel.Parser;
-import controlpanel.MoneyStorage;
+import controlpanel.StorageEngine;
 import controlpanel.Ui;
 import controlpanel.DukeException;
 import money.Account;
 import money.Loan;
+import money.Money;
 
 import java.text.ParseException;
 import java.time.LocalDate;
 import java.time.format.DateTimeParseException;
-import java.util.ArrayList;
 
 /**
  * This command adds a loan to the Loan List.
@@ -20,7 +20,7 @@ public class AddLoanCommand extends MoneyCommand {
     private String inputString;
     private Loan.Type type;
 
-    private float amount;
+    private Money amount;
     private String description;
     private LocalDate startDate;
 
@@ -49,20 +49,6 @@ public class AddLoanCommand extends MoneyCommand {
         return false;
     }
 
-    /**
-     * Checks if the description entered is unique.
-     * @param loanList ArrayList of loans
-     * @param description description inputted by the user
-     * @return True if the description is unique, else returns false
-     */
-    private boolean isUnique(ArrayList<Loan> loanList, String description) {
-        ArrayList<String> descList = new ArrayList<>();
-        for (Loan l : loanList) {
-            descList.add(l.getDescription());
-        }
-        return !descList.contains(description);
-    }
-
     /**
      * This method executes the add loan command. Takes the input data from user and
      * adds an incoming or outgoing loan to the Loan List.
@@ -73,34 +59,28 @@ public class AddLoanCommand extends MoneyCommand {
      * @throws DukeException When the command is invalid
      */
     @Override
-    public void execute(Account account, Ui ui, MoneyStorage storage) throws ParseException, DukeException {
+    public void execute(Account account, Ui ui, StorageEngine storage) throws ParseException, DukeException {
         try {
             String[] splitStr = inputString.split(" /amt ", 2);
             description = splitStr[0];
             String[] furSplit = splitStr[1].split("/on ", 2);
-            amount = Float.parseFloat(furSplit[0]);
+            amount = Money.parse(furSplit[0].trim());
             startDate = Parser.shortcutTime(furSplit[1]);
-        } catch (ArrayIndexOutOfBoundsException | NumberFormatException e) {
+        } catch (ArrayIndexOutOfBoundsException | NumberFormatException | ArithmeticException e) {
             throw new DukeException("Please enter in the format: "
                     + "lent/borrowed <person> /amt <amount> /on <date>\n");
         } catch (DateTimeParseException e) {
             throw new DukeException("Invalid date! Please enter date in the format: d/m/yyyy\n");
         }
-        if (amount <= 0) {
+        if (amount.getCents() <= 0) {
             throw new DukeException("Loan must be more than zero!\n");
         }
 
-        boolean isUnique = false;
-        if (type == Loan.Type.OUTGOING) {
-            isUnique = isUnique(account.getOutgoingLoans(), description);
-        } else if (type == Loan.Type.INCOMING) {
-            isUnique = isUnique(account.getIncomingLoans(), description);
-        }
-        if (!isUnique) {
+        if (account.getLoanIndex().indexOf(type, description) >= 0) {
             throw new DukeException("Description of the loan must be unique!\n");
         }
 
-        Loan l = new Loan(amount, description, startDate, type);
+        Loan l = new Loan(amount, account.intern(description), startDate, type);
         account.getLoans().add(l);
         storage.writeToFile(account);
 
@@ -121,7 +101,7 @@ public class AddLoanCommand extends MoneyCommand {
 
     @Override
     //@@author Chianhaoplanks
-    public void undo(Account account, Ui ui, MoneyStorage storage) {
+    public void undo(Account account, Ui ui, StorageEngine storage) {
         int lastIndex = account.getLoans().size() - 1;
         Loan l = account.getLoans().get(lastIndex);
         account.getLoans().remove(l);
@@ -1,7 +1,7 @@
 package moneycommands;
 
 import controlpanel.DukeException;
-import controlpanel.MoneyStorage;
+import controlpanel.StorageEngine;
 import controlpanel.Ui;
 import money.Account;
 import money.Expenditure;
@@ -39,7 +39,7 @@ public class AutoUpdateInstalmentCommand extends MoneyCommand {
      * @throws DukeException When the command is invalid
      */
     @Override
-    public void execute(Account account, Ui ui, MoneyStorage storage) throws DukeException, ParseException {
+    public void execute(Account account, Ui ui, StorageEngine storage) throws DukeException, ParseException {
         for (Instalment ins : account.getInstalments()) {
             if (ins.getFullyPaid()) {
                 continue;
@@ -74,7 +74,7 @@ public class AutoUpdateInstalmentCommand extends MoneyCommand {
 
     @Override
     //@@author Chianhaoplanks
-    public void undo(Account account, Ui ui, MoneyStorage storage) throws DukeException {
+    public void undo(Account account, Ui ui, StorageEngine storage) throws DukeException {
         throw new DukeException("Command can't be undone!\n");
     }
 }
\ No newline at end of file
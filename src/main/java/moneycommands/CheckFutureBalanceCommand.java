@@ -1,7 +1,7 @@
 package moneycommands;
 
 import controlpanel.DukeException;
-import controlpanel.MoneyStorage;
+import controlpanel.StorageEngine;
 import controlpanel.Parser;
 import controlpanel.Ui;
 import money.Account;
@@ -56,7 +56,7 @@ public class CheckFutureBalanceCommand extends MoneyCommand {
      * @throws DukeException The self-defined exceptions to handle the invalid future date and the non-existing account
      */
     @Override
-    public void execute(Account account, Ui ui, MoneyStorage storage) throws DukeException {
+    public void execute(Account account, Ui ui, StorageEngine storage) throws DukeException {
         BankTracker bankTracker = account.findTrackerByName(description);
         LocalDate currDate = bankTracker.getLatestDate();
         if (futureDate.isBefore(currDate)) {
@@ -77,7 +77,7 @@ public class CheckFutureBalanceCommand extends MoneyCommand {
 
     @Override
     //@@author Chianhaoplanks
-    public void undo(Account account, Ui ui, MoneyStorage storage) throws DukeException {
+    public void undo(Account account, Ui ui, StorageEngine storage) throws DukeException {
         throw new DukeException("Command can't be undone!\n");
     }
 }
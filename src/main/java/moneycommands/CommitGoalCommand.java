@@ -1,7 +1,7 @@
 package moneycommands;
 
 import controlpanel.DukeException;
-import controlpanel.MoneyStorage;
+import controlpanel.StorageEngine;
 import controlpanel.Ui;
 import money.Account;
 import money.Goal;
@@ -78,7 +78,7 @@ public class CommitGoalCommand extends MoneyCommand {
     }
 
     @Override
-    public void execute(Account account, Ui ui, MoneyStorage storage) throws ParseException, DukeException {
+    public void execute(Account account, Ui ui, StorageEngine storage) throws ParseException, DukeException {
         String[] args = inputString.split("commit goal ");
         if (args.length == 1) {
             throw new DukeException("Please enter in the format: "
@@ -147,7 +147,7 @@ public class CommitGoalCommand extends MoneyCommand {
 
     @Override
     //@@author Chianhaoplanks
-    public void undo(Account account, Ui ui, MoneyStorage storage) throws DukeException {
+    public void undo(Account account, Ui ui, StorageEngine storage) throws DukeException {
         throw new DukeException("Command can't be undone!\n");
     }
 }
@@ -1,18 +1,18 @@
 package moneycommands;
 
 import controlpanel.DukeException;
-import controlpanel.MoneyStorage;
+import controlpanel.StorageEngine;
 import controlpanel.Parser;
 import controlpanel.Ui;
 import money.Account;
 import money.BankTracker;
 import money.Income;
+import money.Money;
 
 import java.text.ParseException;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
-import java.util.ArrayList;
 
 /**
  * This class create a bank account tracker for the user to track their
@@ -40,7 +40,7 @@ public class CreateBankAccountCommand extends MoneyCommand {
             if (Integer.parseInt(words[0]) < 0) {
                 throw new DukeException("Sorry. The input initial balance should not be a negative number.");
             }
-            newTracker = new BankTracker(desc, Integer.parseInt(words[0]),
+            newTracker = new BankTracker(desc, Money.ofCents(Integer.parseInt(words[0]) * 100L),
                     initialDate, Double.parseDouble(words[4]));
         } catch (DateTimeParseException e) {
             throw new DukeException("Invalid date! Please enter date in the format: d/m/yyyy\n");
@@ -72,16 +72,13 @@ public class CreateBankAccountCommand extends MoneyCommand {
      * @throws DukeException The self-defined exception to handle the duplicate description
      */
     @Override
-    public void execute(Account account, Ui ui, MoneyStorage storage) throws DukeException {
-        ArrayList<BankTracker> currList = account.getBankTrackerList();
-        for (BankTracker b : currList) {
-            if (b.getDescription().equals(newTracker.getDescription())) {
-                throw new DukeException("There is a account with the same name! Please change the description!");
-            }
+    public void execute(Account account, Ui ui, StorageEngine storage) throws DukeException {
+        if (account.getBankTrackerIndex().get(newTracker.getDescription()) != null) {
+            throw new DukeException("There is a account with the same name! Please change the description!");
         }
         account.getBankTrackerList().add(newTracker);
-        Income newIncome = new Income(newTracker.getAmt(), "Initialize account: "
-                + newTracker.getDescription(), newTracker.getLatestDate());
+        Income newIncome = new Income(Money.ofCents(newTracker.getAmtCents()), account.intern("Initialize account: "
+                + newTracker.getDescription()), newTracker.getLatestDate());
         account.getIncomeListTotal().add(newIncome);
 
         storage.writeToFile(account);
@@ -91,7 +88,7 @@ public class CreateBankAccountCommand extends MoneyCommand {
 
     @Override
     //@@author Chianhaoplanks
-    public void undo(Account account, Ui ui, MoneyStorage storage) throws DukeException {
+    public void undo(Account account, Ui ui, StorageEngine storage) throws DukeException {
         int lastIndex = account.getBankTrackerList().size() - 1;
         BankTracker b = account.getBankTrackerList().get(lastIndex);
         account.getBankTrackerList().remove(b);
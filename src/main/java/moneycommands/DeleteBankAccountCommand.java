@@ -1,7 +1,7 @@
 package moneycommands;
 
 import controlpanel.DukeException;
-import controlpanel.MoneyStorage;
+import controlpanel.StorageEngine;
 import controlpanel.Parser;
 import controlpanel.Ui;
 import money.Account;
@@ -30,13 +30,13 @@ public class DeleteBankAccountCommand extends MoneyCommand {
     }
 
     @Override
-    public void execute(Account account, Ui ui, MoneyStorage storage) throws DukeException, ParseException {
+    public void execute(Account account, Ui ui, StorageEngine storage) throws DukeException, ParseException {
         if (index < 0 || index >= account.getBankTrackerList().size()) {
             throw new DukeException("The index number is out of bound!");
         }
         BankTracker deletedBank = account.getBankTrackerList().get(index);
-        Expenditure expenditure = new Expenditure(deletedBank.getAmt(), "Withdraw from "
-                + deletedBank.getDescription(), "bank", Parser.shortcutTime("now"));
+        Expenditure expenditure = new Expenditure(deletedBank.getAmt(), account.intern("Withdraw from "
+                + deletedBank.getDescription()), account.intern("bank"), Parser.shortcutTime("now"));
         account.getExpListTotal().add(expenditure);
 
         storage.addDeletedBank(deletedBank);
@@ -47,7 +47,7 @@ public class DeleteBankAccountCommand extends MoneyCommand {
 
     @Override
     //@@author Chianhaoplanks
-    public void undo(Account account, Ui ui, MoneyStorage storage) throws DukeException {
+    public void undo(Account account, Ui ui, StorageEngine storage) throws DukeException {
         BankTracker bt = storage.getDeletedBankTracker();
         account.getExpListTotal().remove(account.getExpListTotal().size() - 1);
         account.getBankTrackerList().add(index, bt);
@@ -1,7 +1,7 @@
 package moneycommands;
 
 import controlpanel.DukeException;
-import controlpanel.MoneyStorage;
+import controlpanel.StorageEngine;
 import controlpanel.Ui;
 import money.Account;
 import money.Expenditure;
@@ -47,7 +47,7 @@ public class DeleteExpenditureCommand extends MoneyCommand {
      * @throws DukeException When the index given is out of bounds of the list
      */
     @Override
-    public void execute(Account account, Ui ui, MoneyStorage storage) throws DukeException {
+    public void execute(Account account, Ui ui, StorageEngine storage) throws DukeException {
         if (serialNo > account.getExpListTotal().size() || serialNo <= 0) {
             throw new DukeException("The serial number of the expenditure is Out Of Bounds!");
         }
@@ -64,7 +64,7 @@ public class DeleteExpenditureCommand extends MoneyCommand {
 
     @Override
     //@@author Chianhaoplanks
-    public void undo(Account account, Ui ui, MoneyStorage storage) throws DukeException {
+    public void undo(Account account, Ui ui, StorageEngine storage) throws DukeException {
         Item deletedEntry = storage.getDeletedEntry();
         if (deletedEntry instanceof  Expenditure) {
             account.getExpListTotal().add(serialNo - 1, (Expenditure)deletedEntry);
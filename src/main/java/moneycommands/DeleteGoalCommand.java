@@ -1,6 +1,6 @@
 package moneycommands;
 
-import controlpanel.MoneyStorage;
+import controlpanel.StorageEngine;
 import controlpanel.Ui;
 import controlpanel.DukeException;
 import money.Account;
@@ -51,7 +51,7 @@ public class DeleteGoalCommand extends MoneyCommand {
      * @throws DukeException When the index given is out of bounds of the list.
      */
     @Override
-    public void execute(Account account, Ui ui, MoneyStorage storage) throws DukeException, ParseException {
+    public void execute(Account account, Ui ui, StorageEngine storage) throws DukeException, ParseException {
         if (serialNo > account.getShortTermGoals().size() || serialNo <= 0) {
             throw new DukeException("The serial number of the task is Out Of Bounds!");
         }
@@ -71,7 +71,7 @@ public class DeleteGoalCommand extends MoneyCommand {
 
     @Override
     //@@author Chianhaoplanks
-    public void undo(Account account, Ui ui, MoneyStorage storage) throws DukeException, ParseException {
+    public void undo(Account account, Ui ui, StorageEngine storage) throws DukeException, ParseException {
         Item deletedEntry = storage.getDeletedEntry();
         if (deletedEntry instanceof Goal) {
             account.getShortTermGoals().add(serialNo - 1, (Goal)deletedEntry);
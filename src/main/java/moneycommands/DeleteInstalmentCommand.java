@@ -1,7 +1,7 @@
 package moneycommands;
 
 import controlpanel.DukeException;
-import controlpanel.MoneyStorage;
+import controlpanel.StorageEngine;
 import controlpanel.Ui;
 import money.Account;
 import money.Instalment;
@@ -48,7 +48,7 @@ public class DeleteInstalmentCommand extends MoneyCommand {
      * @throws DukeException When the index given is out of bounds of the list
      */
     @Override
-    public void execute(Account account, Ui ui, MoneyStorage storage) throws DukeException, ParseException {
+    public void execute(Account account, Ui ui, StorageEngine storage) throws DukeException, ParseException {
         if (serialNo > account.getInstalments().size() || serialNo <= 0) {
             throw new DukeException("The serial number of the Instalments is Out Of Bounds!");
         }
@@ -71,7 +71,7 @@ public class DeleteInstalmentCommand extends MoneyCommand {
 
     @Override
     //@@author Chianhaoplanks
-    public void undo(Account account, Ui ui, MoneyStorage storage) throws DukeException {
+    public void undo(Account account, Ui ui, StorageEngine storage) throws DukeException {
         Item deletedEntry = storage.getDeletedEntry();
         if (deletedEntry instanceof Instalment) {
             account.getInstalments().add(serialNo - 1, (Instalment)deletedEntry);
@@ -1,7 +1,7 @@
 package moneycommands;
 
 import controlpanel.DukeException;
-import controlpanel.MoneyStorage;
+import controlpanel.StorageEngine;
 import controlpanel.Ui;
 import money.Account;
 import money.Item;
@@ -49,7 +49,7 @@ public class DeleteLoanCommand extends MoneyCommand {
      * @throws DukeException When the index given is out of bounds of the list
      */
     @Override
-    public void execute(Account account, Ui ui, MoneyStorage storage) throws DukeException {
+    public void execute(Account account, Ui ui, StorageEngine storage) throws DukeException {
         if (serialNo > account.getLoans().size() || serialNo <= 0) {
             throw new DukeException("The serial number of the loan is Out Of Bounds!");
         }
@@ -66,7 +66,7 @@ public class DeleteLoanCommand extends MoneyCommand {
 
     @Override
     //@@author Chianhaoplanks
-    public void undo(Account account, Ui ui, MoneyStorage storage) throws DukeException {
+    public void undo(Account account, Ui ui, StorageEngine storage) throws DukeException {
         Item deletedEntry = storage.getDeletedEntry();
         if (deletedEntry instanceof Loan) {
             account.getLoans().add(serialNo - 1, (Loan)deletedEntry);
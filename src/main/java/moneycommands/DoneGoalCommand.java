@@ -1,7 +1,7 @@
 package moneycommands;
 
 import controlpanel.DukeException;
-import controlpanel.MoneyStorage;
+import controlpanel.StorageEngine;
 import controlpanel.Ui;
 import money.Account;
 import money.Expenditure;
@@ -36,7 +36,7 @@ public class DoneGoalCommand extends MoneyCommand {
 
 
     @Override
-    public void execute(Account account, Ui ui, MoneyStorage storage) throws ParseException, DukeException {
+    public void execute(Account account, Ui ui, StorageEngine storage) throws ParseException, DukeException {
 
         try {
             String temp = inputString.replaceAll("done goal ", "");
@@ -77,7 +77,7 @@ public class DoneGoalCommand extends MoneyCommand {
     //remove from getExpListTotal, add back to getShortTermGoals()
     @Override
     //@@author Chianhaoplanks
-    public void undo(Account account, Ui ui, MoneyStorage storage) throws DukeException {
+    public void undo(Account account, Ui ui, StorageEngine storage) throws DukeException {
         account.getExpListTotal().remove(account.getExpListTotal().size() - 1);
         String temp = inputString.replaceAll("[^0-9]", "");
         int indexNo = Integer.parseInt(temp);
@@ -1,7 +1,7 @@
 package moneycommands;
 
 import controlpanel.DukeException;
-import controlpanel.MoneyStorage;
+import controlpanel.StorageEngine;
 import controlpanel.Ui;
 import money.Account;
 
@@ -17,13 +17,13 @@ public class ExitMoneyCommand extends MoneyCommand {
     }
 
     @Override
-    public void execute(Account account, Ui ui, MoneyStorage storage) {
+    public void execute(Account account, Ui ui, StorageEngine storage) {
         ui.appendToOutput("     Bye. Hope to see you again soon!\n");
     }
 
     @Override
     //@@author Chianhaoplanks
-    public void undo(Account account, Ui ui, MoneyStorage storage) throws DukeException {
+    public void undo(Account account, Ui ui, StorageEngine storage) throws DukeException {
         throw new DukeException("Command can't be undone!\n");
     }
 }
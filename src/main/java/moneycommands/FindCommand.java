@@ -1,20 +1,27 @@
 package moneycommands;
 
 import controlpanel.DukeException;
-import controlpanel.MoneyStorage;
+import controlpanel.StorageEngine;
 import controlpanel.Ui;
 import money.Account;
-import money.Goal;
-import money.Expenditure;
-import money.Income;
-import money.Instalment;
-import money.Loan;
+import money.Item;
 
 import java.text.ParseException;
-import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
+/**
+ * This command finds the records of every kind whose descriptions or categories contain
+ * each word of the search, through the text indexes of the account.
+ */
 public class FindCommand extends MoneyCommand {
 
+    private static final String[] HEADINGS = {"Goals Found:\n", "Income Items Found:\n",
+        "Expenditure Items Found:\n", "Loan Items Found:\n", "Instalment Items Found:\n"};
+    private static final String[] NONE_FOUND = {"No Goals Match Your Search!\n",
+        "No Income Items Match Your Search!\n", "No Expenditure Items Match Your Search!\n",
+        "No Loans Match Your Search!\n", "No Instalments Match Your Search!\n"};
+
     private String inputString;
     private String find;
 
@@ -29,131 +36,56 @@ public class FindCommand extends MoneyCommand {
     }
 
     /**
-     * method to search for goal.
-     * @param itemList goal list.
+     * Lists the records found, numbered from 1, or a message if there are none.
+     * @param found records found.
      * @param result search results holder.
-     * @param keyword keyword to search.
+     * @param noneFound message for no records found.
      * @return search results.
      */
-
-    public String searchGoal(ArrayList<Goal> itemList, StringBuilder result, String keyword) {
-        result.setLength(0);
-        int findCounter = 0;
-        for (Goal goal: itemList) {
-            if (goal.getDescription().contains(keyword)) {
-                findCounter++;
-                result.append(findCounter).append(".").append(goal.toString()).append("\n");
-            }
-        }
-        if (result.length() <= 0) {
-            result.append("No Goals Match Your Search!\n");
-            return result.toString();
-        } else {
-            return result.toString();
-        }
-
-    }
-
-    /**
-     * method to search for Income.
-     * @param itemList Income list.
-     * @param result search results holder.
-     * @param keyword keyword to search.
-     * @return keyword to search.
-     */
-
-    public String searchIncome(ArrayList<Income> itemList, StringBuilder result, String keyword) {
+    private static String listFound(List<? extends Item> found, StringBuilder result, String noneFound) {
         result.setLength(0);
         int findCounter = 0;
-        for (Income income: itemList) {
-            if (income.getDescription().contains(keyword)) {
-                findCounter++;
-                result.append(findCounter).append(".").append(income.toString()).append("\n");
-            }
+        for (Item item : found) {
+            findCounter++;
+            result.append(findCounter).append(".").append(item.toString()).append("\n");
         }
         if (result.length() <= 0) {
-            result.append("No Income Items Match Your Search!\n");
-            return result.toString();
-        } else {
-            return result.toString();
+            result.append(noneFound);
         }
+        return result.toString();
     }
-    /**
-     * method to search for Expenditure.
-     * @param itemList Expenditure list.
-     * @param result search results holder.
-     * @param keyword keyword to search.
-     * @return keyword to search.
-     */
 
-    public String searchExpenditure(ArrayList<Expenditure> itemList, StringBuilder result, String keyword) {
-        result.setLength(0);
-        int findCounter = 0;
-        for (Expenditure expenditure: itemList) {
-            if (expenditure.getDescription().contains(keyword)) {
-                findCounter++;
-                result.append(findCounter).append(".").append(expenditure.toString()).append("\n");
-            }
-        }
-        if (result.length() <= 0) {
-            result.append("No Expenditure Items Match Your Search!\n");
-            return result.toString();
-        } else {
-            return result.toString();
-        }
-    }
+    //@@author
     /**
-     * method to search for Loans.
-     * @param itemList Loan list.
-     * @param result search results holder.
-     * @param keyword keyword to search.
-     * @return keyword to search.
+     * Finds the records of every kind that match a search, through the text indexes of the account.
+     * @param account Account object containing all financial info of user saved on the programme
+     * @param find words to search for.
+     * @return the goals, income, expenditure, loans and instalments found, in that order.
      */
-
-    public String searchLoan(ArrayList<Loan> itemList, StringBuilder result, String keyword) {
-        result.setLength(0);
-        int findCounter = 0;
-        for (Loan loan: itemList) {
-            if (loan.getDescription().contains(keyword)) {
-                findCounter++;
-                result.append(findCounter).append(".").append(loan.toString()).append("\n");
-            }
-        }
-        if (result.length() <= 0) {
-            result.append("No Loans Match Your Search!\n");
-            return result.toString();
-        } else {
-            return result.toString();
-        }
+    public static List<List<? extends Item>> findAll(Account account, String find) {
+        return Arrays.asList(account.getGoalTextIndex().find(find), account.getIncomeTextIndex().find(find),
+                account.getExpTextIndex().find(find), account.getLoanTextIndex().find(find),
+                account.getInstalmentTextIndex().find(find));
     }
 
     /**
-     * method to search for Instalments.
-     * @param itemList Instalment list.
-     * @param result search results holder.
-     * @param keyword keyword to search.
-     * @return keyword to search.
+     * Formats the records found for the graph container, under a heading for each kind of record.
+     * @param found the goals, income, expenditure, loans and instalments found, in that order.
+     * @return the search results.
      */
-
-    public String searchInstalment(ArrayList<Instalment> itemList, StringBuilder result, String keyword) {
-        result.setLength(0);
-        int findCounter = 0;
-        for (Instalment instalment: itemList) {
-            if (instalment.getDescription().contains(keyword)) {
-                findCounter++;
-                result.append(findCounter).append(".").append(instalment.toString()).append("\n");
-            }
-        }
-        if (result.length() <= 0) {
-            result.append("No Instalments Match Your Search!\n");
-            return result.toString();
-        } else {
-            return result.toString();
+    public static String format(List<List<? extends Item>> found) {
+        StringBuilder output = new StringBuilder();
+        StringBuilder descSearch = new StringBuilder();
+        for (int i = 0; i < HEADINGS.length; i++) {
+            output.append(HEADINGS[i]);
+            output.append(listFound(found.get(i), descSearch, NONE_FOUND[i])).append("\n");
         }
+        return output.toString();
     }
 
+    //@@author therealnickcheong
     @Override
-    public void execute(Account account, Ui ui, MoneyStorage storage) throws DukeException, ParseException {
+    public void execute(Account account, Ui ui, StorageEngine storage) throws DukeException, ParseException {
         if (inputString.split(" ").length == 1) {
             throw new DukeException("The description of a find cannot be empty.");
         } else {
@@ -162,34 +94,14 @@ public class FindCommand extends MoneyCommand {
             } catch (ArrayIndexOutOfBoundsException e) {
                 throw new DukeException("Only Alphanumeric Search Inputs are Supported");
             }
-
-            StringBuilder descSearch = new StringBuilder();
-            String descSearchOutput = searchGoal(account.getShortTermGoals(), descSearch, find);
-            ui.appendToGraphContainer(("Goals Found:\n"));
-            ui.appendToGraphContainer(descSearchOutput + "\n");
-
-            descSearchOutput = searchIncome(account.getIncomeListTotal(), descSearch, find);
-            ui.appendToGraphContainer(("Income Items Found:\n"));
-            ui.appendToGraphContainer(descSearchOutput + "\n");
-
-            descSearchOutput = searchExpenditure(account.getExpListTotal(), descSearch, find);
-            ui.appendToGraphContainer(("Expenditure Items Found:\n"));
-            ui.appendToGraphContainer(descSearchOutput + "\n");
-
-            descSearchOutput = searchLoan(account.getLoans(), descSearch, find);
-            ui.appendToGraphContainer(("Loan Items Found:\n"));
-            ui.appendToGraphContainer(descSearchOutput + "\n");
-
-            descSearchOutput = searchInstalment(account.getInstalments(), descSearch, find);
-            ui.appendToGraphContainer(("Instalment Items Found:\n"));
-            ui.appendToGraphContainer(descSearchOutput + "\n");
+            ui.appendToGraphContainer(format(findAll(account, find)));
         }
 
     }
 
     @Override
     //@@author Chianhaoplanks
-    public void undo(Account account, Ui ui, MoneyStorage storage) throws DukeException {
+    public void undo(Account account, Ui ui, StorageEngine storage) throws DukeException {
         throw new DukeException("Command can't be undone!\n");
     }
 }
@@ -0,0 +1,74 @@
+package moneycommands;
+
+import controlpanel.DukeException;
+import controlpanel.StorageEngine;
+import controlpanel.Ui;
+import money.Account;
+import money.Item;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * This command finds the records of every kind whose descriptions or categories have words close to
+ * the words of the search, so that a misspelt search such as "protien" still finds "protein".
+ * The closest records of each kind are listed first, up to a number of records that can be set with /top.
+ */
+public class FuzzyFindCommand extends MoneyCommand {
+
+    private static final int DEFAULT_TOP = 10;
+
+    private String inputString;
+
+    /**
+     * Constructor of the command which takes the words to search for from the user input.
+     * @param command find~ command inputted from user
+     */
+    public FuzzyFindCommand(String command) {
+        inputString = command.replaceFirst("find~", "").trim();
+    }
+
+    @Override
+    public boolean isExit() {
+        return false;
+    }
+
+    /**
+     * This method executes the fuzzy find command. Lists the records of every kind that are closest
+     * to the words searched for, through the text indexes of the account.
+     * @param account Account object containing all financial info of user saved on the programme
+     * @param ui Handles interaction with the user
+     * @param storage Saves and loads data into/from the local disk
+     * @throws DukeException When the command is invalid
+     */
+    @Override
+    public void execute(Account account, Ui ui, StorageEngine storage) throws DukeException {
+        String find = inputString;
+        int top = DEFAULT_TOP;
+        try {
+            String[] splitStr = inputString.split("/top ", 2);
+            if (splitStr.length == 2) {
+                find = splitStr[0].trim();
+                top = Integer.parseInt(splitStr[1].trim());
+            }
+        } catch (NumberFormatException e) {
+            throw new DukeException("Please enter in the format: find~ <words> /top <number of records>\n");
+        }
+        if (find.isEmpty()) {
+            throw new DukeException("The description of a find cannot be empty.");
+        }
+        if (top <= 0) {
+            throw new DukeException("The number of records to list must be more than zero!\n");
+        }
+        List<List<? extends Item>> found = Arrays.asList(account.getGoalTextIndex().findFuzzy(find, top),
+                account.getIncomeTextIndex().findFuzzy(find, top), account.getExpTextIndex().findFuzzy(find, top),
+                account.getLoanTextIndex().findFuzzy(find, top),
+                account.getInstalmentTextIndex().findFuzzy(find, top));
+        ui.appendToGraphContainer(FindCommand.format(found));
+    }
+
+    @Override
+    public void undo(Account account, Ui ui, StorageEngine storage) throws DukeException {
+        throw new DukeException("Command can't be undone!\n");
+    }
+}
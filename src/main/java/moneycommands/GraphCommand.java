@@ -1,7 +1,7 @@
 package moneycommands;
 
 import controlpanel.DukeException;
-import controlpanel.MoneyStorage;
+import controlpanel.StorageEngine;
 import controlpanel.Parser;
 import controlpanel.Ui;
 import money.Account;
@@ -25,7 +25,7 @@ public class GraphCommand extends MoneyCommand {
     }
 
     @Override
-    public void execute(Account account, Ui ui, MoneyStorage storage) throws DukeException, ParseException {
+    public void execute(Account account, Ui ui, StorageEngine storage) throws DukeException, ParseException {
         if (cmd.equals("change icon")) {
             ui.appendToOutput("Done.\n");
         } else if (cmd.startsWith("graph monthly report") || cmd.startsWith("graph income trend")
@@ -47,7 +47,7 @@ public class GraphCommand extends MoneyCommand {
 
     @Override
     //@@author Chianhaoplanks
-    public void undo(Account account, Ui ui, MoneyStorage storage) throws DukeException {
+    public void undo(Account account, Ui ui, StorageEngine storage) throws DukeException {
         throw new DukeException("Command can't be undone!\n");
     }
 }
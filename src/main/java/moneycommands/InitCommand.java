@@ -1,15 +1,16 @@
 package moneycommands;
 
 import controlpanel.DukeException;
-import controlpanel.MoneyStorage;
+import controlpanel.StorageEngine;
 import controlpanel.Ui;
 import money.Account;
+import money.Money;
 
 public class InitCommand extends MoneyCommand {
 
     private String inputString;
-    private float userSavings;
-    private float avgExp;
+    private Money userSavings;
+    private Money avgExp;
 
     //@@author therealnickcheong
 
@@ -32,11 +33,11 @@ public class InitCommand extends MoneyCommand {
     }
 
     @Override
-    public void execute(Account account, Ui ui, MoneyStorage storage) throws DukeException {
+    public void execute(Account account, Ui ui, StorageEngine storage) throws DukeException {
         try {
-            userSavings = Float.parseFloat(inputString.split(" ")[1]);
-            avgExp = Float.parseFloat(inputString.split(" ")[2]);
-        } catch (ArrayIndexOutOfBoundsException | NumberFormatException e) {
+            userSavings = Money.parse(inputString.split(" ")[1]);
+            avgExp = Money.parse(inputString.split(" ")[2]);
+        } catch (ArrayIndexOutOfBoundsException | NumberFormatException | ArithmeticException e) {
             throw new DukeException("Please enter in the format: "
                     + "init [existing savings] [Avg Monthly Expenditure]\n");
         }
@@ -49,7 +50,7 @@ public class InitCommand extends MoneyCommand {
 
     @Override
     //@@author Chianhaoplanks
-    public void undo(Account account, Ui ui, MoneyStorage storage) throws DukeException {
+    public void undo(Account account, Ui ui, StorageEngine storage) throws DukeException {
         throw new DukeException("Command can't be undone!\n");
     }
 
@@ -1,13 +1,14 @@
 package moneycommands;
 
 import controlpanel.DukeException;
-import controlpanel.MoneyStorage;
+import controlpanel.StorageEngine;
 import controlpanel.Parser;
 import controlpanel.Ui;
 import money.Account;
 import money.BankTracker;
 import money.Expenditure;
 import money.Income;
+import money.Money;
 
 import java.text.ParseException;
 import java.time.LocalDate;
@@ -18,7 +19,7 @@ public class InternalTransferCommand extends MoneyCommand {
 
     private boolean add;
     private String description;
-    private float amt;
+    private Money amt;
     private LocalDate date;
 
     //@@author cctt1014
@@ -38,8 +39,8 @@ public class InternalTransferCommand extends MoneyCommand {
                 inputString = inputString.replaceFirst("withdraw ", "");
             }
 
-            amt = Float.parseFloat(inputString.split(" ")[0]);
-            if (amt < 0) {
+            amt = Money.parse(inputString.split(" ")[0]);
+            if (amt.getCents() < 0) {
                 throw new DukeException("The format for the numbers is wrong, please check and type in again.\n");
             }
             date = Parser.shortcutTime(inputString.split(" /at ")[1]);
@@ -47,7 +48,7 @@ public class InternalTransferCommand extends MoneyCommand {
             description = temp.split(" ", 2)[1];
         } catch (DateTimeParseException e) {
             throw new DukeException("Invalid date! Please enter date in the format: d/m/yyyy\n");
-        } catch (NumberFormatException e) {
+        } catch (NumberFormatException | ArithmeticException e) {
             throw new DukeException("The format for the numbers is wrong, please check and type in again.\n");
         }
 
@@ -63,22 +64,24 @@ public class InternalTransferCommand extends MoneyCommand {
     }
 
     @Override
-    public void execute(Account account, Ui ui, MoneyStorage storage) throws DukeException {
+    public void execute(Account account, Ui ui, StorageEngine storage) throws DukeException {
         BankTracker bankTracker = account.findTrackerByName(description);
         if (add) {
             bankTracker.updateDate(date);
-            bankTracker.addAmt(amt);
-            Income income = new Income(amt, "Deposit to " + bankTracker.getDescription(), date);
+            bankTracker.addCents(amt.getCents());
+            account.getBankTrackerList().touch(bankTracker);
+            Income income = new Income(amt, account.intern("Deposit to " + bankTracker.getDescription()), date);
             account.getIncomeListTotal().add(income);
         } else {
-            if (bankTracker.predictAmt(date) < amt) {
+            if (bankTracker.predictCents(date) < amt.getCents()) {
                 throw new DukeException("Sorry, FG only allow non-zero balance. Here is the account info: \n"
                         + bankTracker.getBankAccountInfo());
             }
             bankTracker.updateDate(date);
-            bankTracker.addAmt(0 - amt);
-            Expenditure expenditure = new Expenditure(amt, "Withdraw from "
-                    + bankTracker.getDescription(), "withdraw from bank", date);
+            bankTracker.addCents(-amt.getCents());
+            account.getBankTrackerList().touch(bankTracker);
+            Expenditure expenditure = new Expenditure(amt, account.intern("Withdraw from "
+                    + bankTracker.getDescription()), account.intern("withdraw from bank"), date);
             account.getExpListTotal().add(expenditure);
         }
         storage.writeToFile(account);
@@ -88,7 +91,7 @@ public class InternalTransferCommand extends MoneyCommand {
 
     @Override
     //@@author Chianhaoplanks
-    public void undo(Account account, Ui ui, MoneyStorage storage) throws DukeException {
+    public void undo(Account account, Ui ui, StorageEngine storage) throws DukeException {
         throw new DukeException("Command can't be undone!\n");
     }
 }
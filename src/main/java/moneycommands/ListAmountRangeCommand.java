@@ -0,0 +1,91 @@
+package moneycommands;
+
+import controlpanel.DukeException;
+import controlpanel.StorageEngine;
+import controlpanel.Ui;
+import money.Account;
+import money.AmountIndex;
+import money.Item;
+import money.Money;
+
+/**
+ * This command lists the expenditures or income within a range of amounts to the user, such as every
+ * expenditure over $500, from the smallest amount up, read from the amount index without scanning the list.
+ */
+public class ListAmountRangeCommand extends MoneyCommand {
+
+    private static final String FORMAT = "Please input in the format: "
+            + "list <expenditure/income> /min <amount> /max <amount>\n";
+
+    private boolean isIncome;
+    private long minCents;
+    private long maxCents;
+
+    /**
+     * Constructor of the list amount range command, which isolates the kind of record and the range,
+     * either end of which may be left out.
+     * @param command List command inputted from user
+     * @throws DukeException When the kind of record or an amount is invalid
+     */
+    public ListAmountRangeCommand(String command) throws DukeException {
+        String inputString = command.replaceFirst("list ", "");
+        if (inputString.startsWith("income ")) {
+            isIncome = true;
+        } else if (!inputString.startsWith("expenditure ")) {
+            throw new DukeException(FORMAT);
+        }
+        minCents = Long.MIN_VALUE;
+        maxCents = Long.MAX_VALUE;
+        try {
+            String[] splitStr = inputString.split("/max ", 2);
+            if (splitStr.length == 2) {
+                maxCents = Money.parseCents(splitStr[1].trim());
+            }
+            String[] furSplit = splitStr[0].split("/min ", 2);
+            if (furSplit.length == 2) {
+                minCents = Money.parseCents(furSplit[1].trim());
+            } else if (splitStr.length == 1) {
+                throw new DukeException(FORMAT);
+            }
+        } catch (NumberFormatException | ArithmeticException e) {
+            throw new DukeException(FORMAT);
+        }
+        if (minCents > maxCents) {
+            throw new DukeException("The smallest amount cannot be more than the largest!\n");
+        }
+    }
+
+    @Override
+    public boolean isExit() {
+        return false;
+    }
+
+    /**
+     * This method executes the list amount range command. Reads the records within the range from
+     * the amount index of the Total Expenditure List or Total Income List and prints them and their
+     * total to the user.
+     * @param account Account object containing all financial info of user saved on the programme
+     * @param ui Handles interaction with the user
+     * @param storage Saves and loads data into/from the local disk
+     */
+    @Override
+    public void execute(Account account, Ui ui, StorageEngine storage) {
+        AmountIndex<? extends Item> amounts = isIncome ? account.getIncomeAmountIndex()
+                : account.getExpAmountIndex();
+        long totalCents = 0;
+        int counter = 1;
+        for (Item i : amounts.between(minCents, maxCents)) {
+            ui.appendToGraphContainer(" " + counter + "." + i.toString() + "\n");
+            totalCents += i.getPriceCents();
+            counter++;
+        }
+        ui.appendToGraphContainer("Total " + (isIncome ? "income" : "expenditure") + " in range: $"
+                + Money.format(totalCents) + "\n");
+        ui.appendToOutput("Got it, list will be printed in the other pane!\n");
+    }
+
+    @Override
+    public void undo(Account account, Ui ui, StorageEngine storage) throws DukeException {
+        throw new DukeException("Command can't be undone!\n");
+    }
+}
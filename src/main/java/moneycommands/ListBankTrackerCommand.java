@@ -1,13 +1,13 @@
 package moneycommands;
 
 import controlpanel.DukeException;
-import controlpanel.MoneyStorage;
+import controlpanel.StorageEngine;
 import controlpanel.Ui;
 import money.Account;
 import money.BankTracker;
 
 
-import java.util.ArrayList;
+import java.util.List;
 
 /**
  * This class responds to "list bank trackers" command to list down all the existing bank account trackers.
@@ -35,8 +35,8 @@ public class ListBankTrackerCommand extends MoneyCommand {
      * @param storage The class used to store the information to the local disk
      */
     @Override
-    public void execute(Account account, Ui ui, MoneyStorage storage) {
-        ArrayList<BankTracker> accountList = account.getBankTrackerList();
+    public void execute(Account account, Ui ui, StorageEngine storage) {
+        List<BankTracker> accountList = account.getBankTrackerList();
         ui.appendToGraphContainer("Here are the bank accounts and their info:\n");
         for (int i = 0; i < accountList.size(); i++) {
             ui.appendToGraphContainer((i + 1) + ". ----------------------------------------\n");
@@ -48,7 +48,7 @@ public class ListBankTrackerCommand extends MoneyCommand {
 
     @Override
     //@@author Chianhaoplanks
-    public void undo(Account account, Ui ui, MoneyStorage storage) throws DukeException {
+    public void undo(Account account, Ui ui, StorageEngine storage) throws DukeException {
         throw new DukeException("Command can't be undone!\n");
     }
 }
@@ -0,0 +1,63 @@
+package moneycommands;
+
+import controlpanel.DukeException;
+import controlpanel.StorageEngine;
+import controlpanel.Ui;
+import money.Account;
+import money.CategoryIndex;
+import money.Expenditure;
+import money.Money;
+
+/**
+ * This command lists all expenditures of one category to the user, with their total.
+ */
+public class ListCategoryCommand extends MoneyCommand {
+
+    private String category;
+
+    /**
+     * Constructor of the list category command, which isolates the category to list.
+     * @param command List command inputted from user
+     * @throws DukeException When no category is given
+     */
+    public ListCategoryCommand(String command) throws DukeException {
+        category = command.replaceFirst("list category", "").trim();
+        if (category.isEmpty()) {
+            throw new DukeException("Please input in the format: list category <category>\n");
+        }
+    }
+
+    @Override
+    public boolean isExit() {
+        return false;
+    }
+
+    /**
+     * This method executes the list category command. Looks up the expenditures of the category
+     * in the category index of the Total Expenditure List, prints them and their total to the user.
+     * @param account Account object containing all financial info of user saved on the programme
+     * @param ui Handles interaction with the user
+     * @param storage Saves and loads data into/from the local disk
+     * @throws DukeException When there are no expenditures in the category
+     */
+    @Override
+    public void execute(Account account, Ui ui, StorageEngine storage) throws DukeException {
+        CategoryIndex<Expenditure> categories = account.getExpCategoryIndex();
+        if (categories.getCount(category) == 0) {
+            throw new DukeException("There are no expenditures in the category " + category + "\n");
+        }
+        int counter = 1;
+        for (Expenditure i : categories.getRecords(category)) {
+            ui.appendToGraphContainer(" " + counter + "." + i.toString() + "\n");
+            counter++;
+        }
+        ui.appendToGraphContainer("Total expenditure for " + category + " : $"
+                + Money.format(categories.getTotalCents(category)) + "\n");
+        ui.appendToOutput("Got it, list will be printed in the other pane!\n");
+    }
+
+    @Override
+    public void undo(Account account, Ui ui, StorageEngine storage) throws DukeException {
+        throw new DukeException("Command can't be undone!\n");
+    }
+}
@@ -1,6 +1,6 @@
 package moneycommands;
 
-import controlpanel.MoneyStorage;
+import controlpanel.StorageEngine;
 import controlpanel.DukeException;
 import controlpanel.Ui;
 import money.Account;
@@ -80,7 +80,7 @@ public class ListGoalsCommand extends MoneyCommand {
      * @param storage Saves and loads data into/from the local disk
      */
     @Override
-    public void execute(Account account, Ui ui, MoneyStorage storage) {
+    public void execute(Account account, Ui ui, StorageEngine storage) {
         float savingsReqPerMonth = 0;
         for (int i = 1; i <= account.getShortTermGoals().size();i++) {
             Goal currGoal = account.getShortTermGoals().get(i - 1);
@@ -109,7 +109,7 @@ public class ListGoalsCommand extends MoneyCommand {
 
     @Override
     //@@author Chianhaoplanks
-    public void undo(Account account, Ui ui, MoneyStorage storage) throws DukeException {
+    public void undo(Account account, Ui ui, StorageEngine storage) throws DukeException {
         throw new DukeException("Command can't be undone!\n");
     }
 }
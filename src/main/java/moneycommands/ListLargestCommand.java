@@ -0,0 +1,75 @@
+package moneycommands;
+
+import controlpanel.DukeException;
+import controlpanel.StorageEngine;
+import controlpanel.Ui;
+import money.Account;
+import money.AmountIndex;
+import money.Item;
+
+/**
+ * This command lists the largest expenditures or income to the user, from the largest down,
+ * read from the end of the amount index without scanning the list.
+ */
+public class ListLargestCommand extends MoneyCommand {
+
+    private static final int DEFAULT_COUNT = 10;
+    private static final String FORMAT = "Please input in the format: list largest <expenditure/income> <number>\n";
+
+    private boolean isIncome;
+    private int count;
+
+    /**
+     * Constructor of the list largest command, which isolates the kind of record and how many to list.
+     * @param command List command inputted from user
+     * @throws DukeException When the kind of record or the number is invalid
+     */
+    public ListLargestCommand(String command) throws DukeException {
+        String[] splitStr = command.replaceFirst("list largest", "").trim().split("\\s+");
+        if (splitStr[0].equals("income")) {
+            isIncome = true;
+        } else if (!splitStr[0].equals("expenditure")) {
+            throw new DukeException(FORMAT);
+        }
+        try {
+            count = splitStr.length > 1 ? Integer.parseInt(splitStr[1]) : DEFAULT_COUNT;
+        } catch (NumberFormatException e) {
+            throw new DukeException(FORMAT);
+        }
+        if (count <= 0) {
+            throw new DukeException("The number of records to list must be more than zero!\n");
+        }
+    }
+
+    @Override
+    public boolean isExit() {
+        return false;
+    }
+
+    /**
+     * This method executes the list largest command. Reads the largest records from the amount index
+     * of the Total Expenditure List or Total Income List and prints them to the user.
+     * @param account Account object containing all financial info of user saved on the programme
+     * @param ui Handles interaction with the user
+     * @param storage Saves and loads data into/from the local disk
+     */
+    @Override
+    public void execute(Account account, Ui ui, StorageEngine storage) {
+        AmountIndex<? extends Item> amounts = isIncome ? account.getIncomeAmountIndex()
+                : account.getExpAmountIndex();
+        int counter = 1;
+        for (Item i : amounts.largest(count)) {
+            ui.appendToGraphContainer(" " + counter + "." + i.toString() + "\n");
+            counter++;
+        }
+        if (counter == 1) {
+            ui.appendToGraphContainer("There is no " + (isIncome ? "income" : "expenditure") + " yet!\n");
+        }
+        ui.appendToOutput("Got it, list will be printed in the other pane!\n");
+    }
+
+    @Override
+    public void undo(Account account, Ui ui, StorageEngine storage) throws DukeException {
+        throw new DukeException("Command can't be undone!\n");
+    }
+}
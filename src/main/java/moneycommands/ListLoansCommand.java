@@ -1,7 +1,7 @@
 package moneycommands;
 
 import controlpanel.DukeException;
-import controlpanel.MoneyStorage;
+import controlpanel.StorageEngine;
 import controlpanel.Ui;
 import money.Account;
 import money.Loan;
@@ -80,7 +80,7 @@ public class ListLoansCommand extends MoneyCommand {
      * @throws DukeException When the command is invalid
      */
     @Override
-    public void execute(Account account, Ui ui, MoneyStorage storage) throws DukeException, ParseException {
+    public void execute(Account account, Ui ui, StorageEngine storage) throws DukeException, ParseException {
 
         Loan.Type searchType;
         switch (inputString) {
@@ -126,6 +126,6 @@ public class ListLoansCommand extends MoneyCommand {
 
     @Override
     //@@author Chianhaoplanks
-    public void undo(Account account, Ui ui, MoneyStorage storage) throws DukeException, ParseException {
+    public void undo(Account account, Ui ui, StorageEngine storage) throws DukeException, ParseException {
     }
 }
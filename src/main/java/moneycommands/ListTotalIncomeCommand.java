@@ -1,7 +1,7 @@
 package moneycommands;
 
 import controlpanel.DukeException;
-import controlpanel.MoneyStorage;
+import controlpanel.StorageEngine;
 import controlpanel.Ui;
 import money.Account;
 import money.Income;
@@ -35,7 +35,7 @@ public class ListTotalIncomeCommand extends MoneyCommand {
      * @param storage Saves and loads data into/from the local disk
      */
     @Override
-    public void execute(Account account, Ui ui, MoneyStorage storage) {
+    public void execute(Account account, Ui ui, StorageEngine storage) {
         int counter = 1;
         for (Income i : account.getIncomeListTotal()) {
             ui.appendToGraphContainer(" " + counter + "." + i.toString() + "\n");
@@ -49,7 +49,7 @@ public class ListTotalIncomeCommand extends MoneyCommand {
 
     @Override
     //@@author Chianhaoplanks
-    public void undo(Account account, Ui ui, MoneyStorage storage) throws DukeException {
+    public void undo(Account account, Ui ui, StorageEngine storage) throws DukeException {
         throw new DukeException("Command can't be undone!\n");
     }
 }
@@ -1,6 +1,6 @@
 package moneycommands;
 
-import controlpanel.MoneyStorage;
+import controlpanel.StorageEngine;
 import controlpanel.DukeException;
 import controlpanel.Ui;
 import money.Account;
@@ -15,8 +15,8 @@ public abstract class MoneyCommand {
 
     public abstract boolean isExit();
 
-    public abstract void execute(Account account, Ui ui, MoneyStorage storage) throws DukeException, ParseException;
+    public abstract void execute(Account account, Ui ui, StorageEngine storage) throws DukeException, ParseException;
 
     //@@author Chianhaoplanks
-    public abstract void undo(Account account, Ui ui, MoneyStorage storage) throws DukeException, ParseException;
+    public abstract void undo(Account account, Ui ui, StorageEngine storage) throws DukeException, ParseException;
 }
@@ -0,0 +1,70 @@
+package moneycommands;
+
+import controlpanel.DukeException;
+import controlpanel.StorageEngine;
+import controlpanel.Ui;
+import money.Account;
+import money.Item;
+import money.Money;
+import money.TransactionQuery;
+
+import java.util.List;
+
+/**
+ * This command lists the income and expenditure that match a query made of filters on their type,
+ * category, amount, date and words, such as "query type:exp cat:food amt>20 on:2019-01..2019-06 text:noodle".
+ * With the word explain, it also shows the index each kind of record was read from and how many
+ * records were read.
+ */
+public class QueryCommand extends MoneyCommand {
+
+    private String inputString;
+
+    /**
+     * Constructor of the command which takes the filters of the query from the user input.
+     * @param command query command inputted from user
+     */
+    public QueryCommand(String command) {
+        inputString = command.replaceFirst("query", "");
+    }
+
+    @Override
+    public boolean isExit() {
+        return false;
+    }
+
+    /**
+     * This method executes the query command. Plans the query for each kind of record, lists the
+     * records found and their total, and shows the plans if asked to.
+     * @param account Account object containing all financial info of user saved on the programme
+     * @param ui Handles interaction with the user
+     * @param storage Saves and loads data into/from the local disk
+     * @throws DukeException When a filter is invalid
+     */
+    @Override
+    public void execute(Account account, Ui ui, StorageEngine storage) throws DukeException {
+        TransactionQuery query = TransactionQuery.parse(inputString);
+        for (TransactionQuery.Plan<? extends Item> plan : query.plan(account)) {
+            List<? extends Item> found = plan.run();
+            ui.appendToGraphContainer(plan.getKind() + " Found:\n");
+            long totalCents = 0;
+            int counter = 1;
+            for (Item item : found) {
+                ui.appendToGraphContainer(" " + counter + "." + item.toString() + "\n");
+                totalCents += item.getPriceCents();
+                counter++;
+            }
+            ui.appendToGraphContainer("Total " + plan.getKind().toLowerCase() + " found: $"
+                    + Money.format(totalCents) + "\n\n");
+            if (query.isExplain()) {
+                ui.appendToOutput(plan.explain());
+            }
+        }
+        ui.appendToOutput("Got it, list will be printed in the other pane!\n");
+    }
+
+    @Override
+    public void undo(Account account, Ui ui, StorageEngine storage) throws DukeException {
+        throw new DukeException("Command can't be undone!\n");
+    }
+}
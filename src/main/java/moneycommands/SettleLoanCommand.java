@@ -1,17 +1,17 @@
 package moneycommands;
 
 import controlpanel.DukeException;
-import controlpanel.MoneyStorage;
+import controlpanel.StorageEngine;
 import controlpanel.Parser;
 import controlpanel.Ui;
 import money.Account;
 import money.Expenditure;
 import money.Income;
 import money.Loan;
+import money.Money;
 
-import java.text.DecimalFormat;
 import java.text.ParseException;
-import java.util.ArrayList;
+import java.util.List;
 
 /**
  * This command settles the debt of an incoming/outgoing loan in the Loans List.
@@ -19,19 +19,15 @@ import java.util.ArrayList;
 public class SettleLoanCommand extends MoneyCommand {
 
     private String inputString;
-    private static float amount;
+    private static long amount;
     private static int serialNo;
     private static Loan.Type type;
-    private static final int SETTLE_ALL_FLAG = -2;
-    private static final int UNDEFINED_TYPE_FLAG = -1;
+    private static boolean isSettleAll;
     private String description;
     private String loanToString;
     private boolean isSettled;
     private String payDirection;
 
-    private DecimalFormat decimalFormat = new DecimalFormat("#.00");
-
-
     //@@author chengweixuan
     /**
      * Constructor of the command which initialises the settle loan command.
@@ -52,80 +48,48 @@ public class SettleLoanCommand extends MoneyCommand {
     }
 
     /**
-     * This method scans a given ArrayList of loans and returns an ArrayList
-     * of all the names of the involved party in the loans.
-     * @param loanList ArrayList of loans to be scanned
-     * @return ArrayList of names of parties
-     */
-    private ArrayList<String> getListOfNames(ArrayList<Loan> loanList) {
-        ArrayList<String> listOfNames = new ArrayList<>();
-        for (Loan l : loanList) {
-            listOfNames.add(l.getDescription());
-        }
-        return listOfNames;
-    }
-
-    /**
-     * Method returns the index of the loan becoming to the person whose name
-     * is specified. If the loan is not found, throws a DukeException.
-     * @param loanList ArrayList of loans to be checked
+     * Method returns the index of the loan of the given type belonging to the person
+     * whose name is specified. If the loan is not found, throws a DukeException.
+     * @param account Account object containing the loans
      * @param name String name of the person
      * @return Integer index of the loan
      * @throws DukeException When loan is not found
      */
-    private int getSerialNo(ArrayList<Loan> loanList, String name) throws DukeException {
+    private int getSerialNo(Account account, String name) throws DukeException {
         if (name.equals("")) {
             throw new DukeException("Other party name is empty!");
         }
-        if (getListOfNames(loanList).contains(name)) {
-            return getListOfNames(loanList).indexOf(name);
-        } else {
+        int serialNo = account.getLoanIndex().indexOf(type, name);
+        if (serialNo < 0) {
             throw new DukeException(name + " does not have an " + type.toString().toLowerCase() + " loan");
         }
-    }
-
-    /**
-     * Returns the serial number of the loan belonging to the person who is specified in
-     * the user input according to the loan type.
-     * @param outgoingLoans ArrayList of outgoing loans to be checked
-     * @param incomingLoans ArrayList of incoming loans to be checked
-     * @param name String name of the person
-     * @return Integer index of the loan
-     * @throws DukeException When loan is not found
-     */
-    private int getTypeSerialNo(ArrayList<Loan> outgoingLoans, ArrayList<Loan> incomingLoans, String name)
-            throws DukeException {
-        if (type == Loan.Type.OUTGOING) {
-            return getSerialNo(outgoingLoans, name);
-        } else if (type == Loan.Type.INCOMING) {
-            return getSerialNo(incomingLoans, name);
-        }
-        return UNDEFINED_TYPE_FLAG;
+        return serialNo;
     }
 
     /**
      * This method settles the debt of a loan.
      * Sets loan to settled if the entire debt is paid.
-     * @param loanList ArrayList of loans containing the loan
+     * @param loanList List of loans containing the loan
      * @param serialNo Integer index of the loan
+     * @return The loan that was settled
      * @throws ParseException If invalid date is parsed
      * @throws DukeException When the amount is greater than the outstanding debt
      */
-    private void setLoanToSettled(ArrayList<Loan> loanList, int serialNo) throws ParseException, DukeException {
-        if (amount > loanList.get(serialNo).getOutstandingLoan()) {
+    private Loan setLoanToSettled(List<Loan> loanList, int serialNo) throws ParseException, DukeException {
+        if (!isSettleAll && amount > loanList.get(serialNo).getOutstandingCents()) {
             throw new DukeException("Whoa! The amount entered is more than debt! "
                     + "Type 'all' to settle the entire debt\n");
         }
-        if (loanList.get(serialNo).getOutstandingLoan() == 0) {
+        if (loanList.get(serialNo).getOutstandingCents() == 0) {
             throw new DukeException("Whoa! The loan has already been settled!\n");
         }
         Loan l = loanList.get(serialNo);
-        amount = (amount == SETTLE_ALL_FLAG) ? l.getOutstandingLoan() : amount;
+        amount = isSettleAll ? l.getOutstandingCents() : amount;
         l.settleLoanDebt(amount);
         description = l.getDescription();
         loanToString = l.toString();
         isSettled = l.getStatus();
-        loanList.set(serialNo, l);
+        return l;
     }
 
     @Override
@@ -138,7 +102,7 @@ public class SettleLoanCommand extends MoneyCommand {
      * to be settled specified by user, checks the incoming/outgoing loans for the
      * incoming/outgoing loan entry to be settled.
      * Searches for the loan specified by the user in either the incoming/outgoing
-     * ArrayList of loans according the name or index, depending on user input, and
+     * list of loans according the name or index, depending on user input, and
      * settles his/her loan with the amount inputted by the user.
      * If the amount repaid settles the entire debt, the loan is set as settled. Else,
      * the amount repaid is deducted from outstanding amount in the loan.
@@ -151,27 +115,24 @@ public class SettleLoanCommand extends MoneyCommand {
      * @throws DukeException When the command is invalid
      */
     @Override
-    public void execute(Account account, Ui ui, MoneyStorage storage) throws DukeException, ParseException {
+    public void execute(Account account, Ui ui, StorageEngine storage) throws DukeException, ParseException {
         try {
             String regex = type == Loan.Type.INCOMING ? " /to " : " /from ";
             String[] splitStr = inputString.split(regex, 2);
 
-            if (splitStr[0].equals("all")) {
-                amount = SETTLE_ALL_FLAG;
-            } else {
-                amount = Float.parseFloat(splitStr[0]);
-            }
+            isSettleAll = splitStr[0].equals("all");
+            amount = isSettleAll ? 0 : Money.parseCents(splitStr[0].trim());
 
-            if (amount <= 0 && amount != SETTLE_ALL_FLAG) {
+            if (amount <= 0 && !isSettleAll) {
                 throw new DukeException("Amount settled must be more than zero!\n");
             }
 
             if (Parser.isNumeric(splitStr[1])) {
                 serialNo = Integer.parseInt(splitStr[1]) - 1;
             } else {
-                serialNo = getTypeSerialNo(account.getOutgoingLoans(), account.getIncomingLoans(), splitStr[1]);
+                serialNo = getSerialNo(account, splitStr[1]);
             }
-        } catch (ArrayIndexOutOfBoundsException | NumberFormatException e) {
+        } catch (ArrayIndexOutOfBoundsException | NumberFormatException | ArithmeticException e) {
             throw new DukeException("Please enter in the format: "
                     + "paid/received <amount> /(to/from) <person/serialNo>\n");
         }
@@ -179,14 +140,15 @@ public class SettleLoanCommand extends MoneyCommand {
         try {
             if (type == Loan.Type.OUTGOING) {
                 payDirection = " from ";
-                setLoanToSettled(account.getOutgoingLoans(), serialNo);
-                Income i = new Income(amount, "From " + description, Parser.shortcutTime("now"));
+                account.getLoans().touch(setLoanToSettled(account.getOutgoingLoans(), serialNo));
+                Income i = new Income(Money.ofCents(amount), account.intern("From " + description),
+                        Parser.shortcutTime("now"));
                 account.getIncomeListTotal().add(i);
             } else if (type == Loan.Type.INCOMING) {
                 payDirection = " to ";
-                setLoanToSettled(account.getIncomingLoans(), serialNo);
-                Expenditure e = new Expenditure(amount, "To " + description, "Loan Repayment",
-                        Parser.shortcutTime("now"));
+                account.getLoans().touch(setLoanToSettled(account.getIncomingLoans(), serialNo));
+                Expenditure e = new Expenditure(Money.ofCents(amount), account.intern("To " + description),
+                        account.intern("Loan Repayment"), Parser.shortcutTime("now"));
                 account.getExpListTotal().add(e);
             }
         } catch (IndexOutOfBoundsException e) {
@@ -194,7 +156,7 @@ public class SettleLoanCommand extends MoneyCommand {
         }
         storage.writeToFile(account);
 
-        ui.appendToOutput(" Got it. An amount of $" + decimalFormat.format(amount) + " has been paid" + payDirection);
+        ui.appendToOutput(" Got it. An amount of $" + Money.format(amount) + " has been paid" + payDirection);
         ui.appendToOutput(description + " for the following loan: \n");
         ui.appendToOutput("     " + loanToString + "\n");
         if (isSettled) {
@@ -204,20 +166,20 @@ public class SettleLoanCommand extends MoneyCommand {
 
     @Override
     //@@author Chianhaoplanks
-    public void undo(Account account, Ui ui, MoneyStorage storage) throws DukeException, ParseException {
+    public void undo(Account account, Ui ui, StorageEngine storage) throws DukeException, ParseException {
         Loan l;
         switch (type) {
         case OUTGOING:
             account.getIncomeListTotal().remove(account.getIncomeListTotal().size() - 1);
             l = account.getOutgoingLoans().get(serialNo);
             l.settleLoanDebt(-amount);
-            account.getOutgoingLoans().set(serialNo, l);
+            account.getLoans().touch(l);
             break;
         case INCOMING:
             account.getExpListTotal().remove(account.getExpListTotal().size() - 1);
             l = account.getIncomingLoans().get(serialNo);
             l.settleLoanDebt(-amount);
-            account.getIncomingLoans().set(serialNo, l);
+            account.getLoans().touch(l);
             break;
         default:
             break;
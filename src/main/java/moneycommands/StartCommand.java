@@ -1,6 +1,6 @@
 package moneycommands;
 
-import controlpanel.MoneyStorage;
+import controlpanel.StorageEngine;
 import controlpanel.Ui;
 import controlpanel.DukeException;
 import money.Account;
@@ -30,7 +30,7 @@ public class StartCommand extends MoneyCommand {
     }
 
     @Override
-    public void execute(Account account, Ui ui, MoneyStorage storage) {
+    public void execute(Account account, Ui ui, StorageEngine storage) {
         //System.out.println("current Goal Savings: $" + account.getGoalSavings());
         ui.appendToOutput(message);
 
@@ -38,7 +38,7 @@ public class StartCommand extends MoneyCommand {
 
     @Override
     //@@author Chianhaoplanks
-    public void undo(Account account, Ui ui, MoneyStorage storage) throws DukeException {
+    public void undo(Account account, Ui ui, StorageEngine storage) throws DukeException {
         throw new DukeException("Command can't be undone!\n");
     }
 }
@@ -0,0 +1,87 @@
+package moneycommands;
+
+import controlpanel.DukeException;
+import controlpanel.GroupCommit;
+import controlpanel.MoneyJournal;
+import controlpanel.MoneySplitFiles;
+import controlpanel.MoneyStorage;
+import controlpanel.StorageEngine;
+import controlpanel.MoneyWriteBehind;
+import controlpanel.Ui;
+import money.Account;
+
+import java.time.format.DateTimeFormatter;
+
+/**
+ * This command reports the state of the storage of the data file,
+ * such as the journal segments and the last compaction.
+ */
+public class StorageStatsCommand extends MoneyCommand {
+
+    /**
+     * Constructor of the stats storage command.
+     */
+    public StorageStatsCommand() {
+    }
+
+    @Override
+    public boolean isExit() {
+        return false;
+    }
+
+    /**
+     * This method executes the stats storage command. Prints the storage mode, the size of
+     * the data file, how often writes were forced to disk, how many changes write-behind has
+     * coalesced, how often split files were appended to or rewritten, the number and size of
+     * journal segments and when the journal was last compacted.
+     * @param account Account object containing all financial info of user saved on the programme
+     * @param ui Handles interaction with the user
+     * @param engine Saves and loads data into/from the local disk
+     */
+    @Override
+    public void execute(Account account, Ui ui, StorageEngine engine) {
+        if (!(engine instanceof MoneyStorage)) {
+            ui.appendToOutput(" Storage mode: in memory, nothing is written to disk\n");
+            return;
+        }
+        MoneyStorage storage = (MoneyStorage) engine;
+        MoneyJournal journal = storage.getJournal();
+        ui.appendToOutput(" Data file size: " + storage.getSnapshotBytes() + " bytes\n");
+        GroupCommit groupCommit = storage.getGroupCommit();
+        ui.appendToOutput(" Durability: " + groupCommit.getDurability().toString().toLowerCase() + " ("
+                + groupCommit.getCommitCount() + " commits, " + groupCommit.getSyncCount() + " fsyncs)\n");
+        MoneyWriteBehind writeBehind = storage.getWriteBehind();
+        if (writeBehind != null) {
+            ui.appendToOutput(" Write-behind: up to " + writeBehind.getMaxDelay() + " ms, "
+                    + writeBehind.getChangeCount() + " changes in " + writeBehind.getWriteCount() + " writes\n");
+        }
+        MoneySplitFiles splitFiles = storage.getSplitFiles();
+        if (splitFiles != null) {
+            ui.appendToOutput(" Storage mode: one file per record type in " + splitFiles.getDirectory() + "\n");
+            ui.appendToOutput(" Section writes this session: " + splitFiles.getAppendCount() + " appends, "
+                    + splitFiles.getRewriteCount() + " rewrites\n");
+            return;
+        }
+        if (journal == null) {
+            ui.appendToOutput(" Storage mode: full rewrite on every change\n");
+            return;
+        }
+        ui.appendToOutput(" Storage mode: journaled\n");
+        ui.appendToOutput(" Snapshot format: " + (journal.getBinarySnapshot() == null ? "text" : "binary") + "\n");
+        ui.appendToOutput(" Journal segments: " + journal.getSegmentCount() + " ("
+                + journal.getJournalBytes() + " bytes)\n");
+        ui.appendToOutput(" Compaction threshold: " + journal.getThreshold() + " bytes\n");
+        ui.appendToOutput(" Compactions this session: " + journal.getCompactionCount() + "\n");
+        if (journal.getLastCompaction() == null) {
+            ui.appendToOutput(" Last compaction: never\n");
+        } else {
+            DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern("d/M/yyyy HH:mm:ss");
+            ui.appendToOutput(" Last compaction: " + journal.getLastCompaction().format(dateTimeFormatter) + "\n");
+        }
+    }
+
+    @Override
+    public void undo(Account account, Ui ui, StorageEngine storage) throws DukeException {
+        throw new DukeException("Command can't be undone!\n");
+    }
+}
@@ -1,15 +1,16 @@
 package moneycommands;
 
-import controlpanel.MoneyStorage;
+import controlpanel.StorageEngine;
 import money.Account;
 import controlpanel.DukeException;
 import controlpanel.Ui;
 import money.Expenditure;
+import money.Money;
 
 import java.text.DateFormatSymbols;
-import java.text.DecimalFormat;
 import java.text.ParseException;
 import java.time.LocalDate;
+import java.time.YearMonth;
 
 /**
  * This command allows users to check the expenditure
@@ -19,8 +20,6 @@ public class ViewPastExpenditureCommand extends MoneyCommand {
     private int month;
     private int year;
 
-    private DecimalFormat decimalFormat = new DecimalFormat("#.00");
-
     //@@author chengweixuan
     /**
      * Constructor of the command which initialises the check expenditure command
@@ -63,9 +62,9 @@ public class ViewPastExpenditureCommand extends MoneyCommand {
 
     /**
      * This method executes the check expenditure command. Takes the input from the user
-     * and checks the Total Expenditure List for expenditures which occur in the month specified
-     * in the user input. Prints the expenditures found and computes the total expenditure for that
-     * month and prints to the user.
+     * and looks up the expenditures which occur in the month specified in the user input
+     * in the date index of the Total Expenditure List. Prints the expenditures found and
+     * reads the total expenditure for that month from the monthly totals and prints it to the user.
      * @param account Account object containing all financial info of user saved on the programme
      * @param ui Handles interaction with the user
      * @param storage Saves and loads data into/from the local disk
@@ -73,30 +72,27 @@ public class ViewPastExpenditureCommand extends MoneyCommand {
      * @throws DukeException When the command is invalid
      */
     @Override
-    public void execute(Account account, Ui ui, MoneyStorage storage) throws DukeException, ParseException {
+    public void execute(Account account, Ui ui, StorageEngine storage) throws DukeException, ParseException {
         if (month < 1 || month > 12) {
             throw new DukeException("Month is invalid! Please pick a month from 1-12");
         }
         if (year < 1000 || year > 9999) {
             throw new DukeException("Only years dated from 1000-9999 are accepted by Financial Ghost :)");
         }
-        float totalMonthExpenditure = 0;
+        long totalMonthExpenditure = account.getExpMonthlyTotals().getMonthCents(YearMonth.of(year, month));
         int counter = 1;
-        for (Expenditure i : account.getExpListTotal()) {
-            if (i.getDateBoughtDate().getMonthValue() == month && i.getDateBoughtDate().getYear() == year) {
-                ui.appendToGraphContainer(" " + counter + "." + i.toString() + "\n");
-                counter++;
-                totalMonthExpenditure += i.getPrice();
-            }
+        for (Expenditure i : account.getExpTimeIndex().inMonth(month, year)) {
+            ui.appendToGraphContainer(" " + counter + "." + i.toString() + "\n");
+            counter++;
         }
         ui.appendToOutput("Got it, list will be printed in the other pane!\n");
         ui.appendToGraphContainer("Total expenditure for " + getMonth(month) + " of " + year + " : $");
-        ui.appendToGraphContainer(decimalFormat.format(totalMonthExpenditure) + "\n");
+        ui.appendToGraphContainer(Money.format(totalMonthExpenditure) + "\n");
     }
 
     @Override
     //@@author Chianhaoplanks
-    public void undo(Account account, Ui ui, MoneyStorage storage) throws DukeException {
+    public void undo(Account account, Ui ui, StorageEngine storage) throws DukeException {
         throw new DukeException("Command can't be undone!\n");
     }
 }
@@ -1,15 +1,16 @@
 package moneycommands;
 
-import controlpanel.MoneyStorage;
+import controlpanel.StorageEngine;
 import money.Account;
 import controlpanel.DukeException;
 import controlpanel.Ui;
 import money.Income;
+import money.Money;
 import java.text.DateFormatSymbols;
 
-import java.text.DecimalFormat;
 import java.text.ParseException;
 import java.time.LocalDate;
+import java.time.YearMonth;
 
 /**
  * This command allows users to check the income
@@ -19,8 +20,6 @@ public class ViewPastIncomeCommand extends MoneyCommand {
     private int month;
     private int year;
 
-    private DecimalFormat decimalFormat = new DecimalFormat("#.00");
-
     //@@author chengweixuan
     /**
      * Constructor of the command which initialises the check income command
@@ -62,9 +61,9 @@ public class ViewPastIncomeCommand extends MoneyCommand {
 
     /**
      * This method executes the check income command. Takes the input from the user
-     * and checks the Total Income List for expenditures which occur in the month specified
-     * in the user input. Prints the income sources found and computes the total income for that
-     * month and prints to the user.
+     * and looks up the income sources which occur in the month specified in the user input
+     * in the date index of the Total Income List. Prints the income sources found and
+     * reads the total income for that month from the monthly totals and prints it to the user.
      * @param account Account object containing all financial info of user saved on the programme
      * @param ui Handles interaction with the user
      * @param storage Saves and loads data into/from the local disk
@@ -72,7 +71,7 @@ public class ViewPastIncomeCommand extends MoneyCommand {
      * @throws DukeException When the command is invalid
      */
     @Override
-    public void execute(Account account, Ui ui, MoneyStorage storage) throws DukeException, ParseException {
+    public void execute(Account account, Ui ui, StorageEngine storage) throws DukeException, ParseException {
         if (month < 1 || month > 12) {
             throw new DukeException("Month is invalid! Please pick a month from 1-12");
         }
@@ -80,23 +79,20 @@ public class ViewPastIncomeCommand extends MoneyCommand {
             throw new DukeException("Only years dated from 1000-9999 are accepted by Financial Ghost :)");
         }
 
-        float totalMonthIncome = 0;
+        long totalMonthIncome = account.getIncomeMonthlyTotals().getMonthCents(YearMonth.of(year, month));
         int counter = 1;
-        for (Income i : account.getIncomeListTotal()) {
-            if (i.getPayday().getMonthValue() == month && i.getPayday().getYear() == year) {
-                ui.appendToGraphContainer(" " + counter + "." + i.toString() + "\n");
-                counter++;
-                totalMonthIncome += i.getPrice();
-            }
+        for (Income i : account.getIncomeTimeIndex().inMonth(month, year)) {
+            ui.appendToGraphContainer(" " + counter + "." + i.toString() + "\n");
+            counter++;
         }
         ui.appendToOutput("Got it, list will be printed in the other pane!\n");
         ui.appendToGraphContainer("Total income for " + getMonth(month) + " of " + year + " : $");
-        ui.appendToGraphContainer(decimalFormat.format(totalMonthIncome) + "\n");
+        ui.appendToGraphContainer(Money.format(totalMonthIncome) + "\n");
     }
 
     @Override
     //@@author Chianhaoplanks
-    public void undo(Account account, Ui ui, MoneyStorage storage) throws DukeException {
+    public void undo(Account account, Ui ui, StorageEngine storage) throws DukeException {
         throw new DukeException("Command can't be undone!\n");
     }
 }
@@ -8,6 +8,7 @@ import money.Income;
 import money.Instalment;
 import money.Loan;
 import moneycommands.FindCommand;
+import moneycommands.FuzzyFindCommand;
 import moneycommands.MoneyCommand;
 import moneycommands.ExitMoneyCommand;
 import org.junit.jupiter.api.Test;
@@ -141,4 +142,47 @@ public class FindTest {
         }
 
     }
+
+    @Test
+    void testFuzzyFind() throws DukeException {
+        account.getShortTermGoals().clear();
+        account.getIncomeListTotal().clear();
+        account.getExpListTotal().clear();
+        account.getInstalments().clear();
+        account.getLoans().clear();
+
+        account.getExpListTotal().add(new Expenditure(5, "protein shake", "gym", testDate));
+        account.getExpListTotal().add(new Expenditure(3, "protin bar", "snack", testDate));
+        account.getExpListTotal().add(new Expenditure(4, "chicken rice", "food", testDate));
+        account.getLoans().add(new Loan(50, "Caleb-san", testDate, Loan.Type.OUTGOING));
+
+        ui.clearGraphContainerString();
+        new FuzzyFindCommand("find~ protien").execute(account, ui, moneyStorage);
+        assertThat(ui.getGraphContainerString(), is("Goals Found:\n" + "No Goals Match Your Search!\n\n"
+                + "Income Items Found:\n" + "No Income Items Match Your Search!\n\n"
+                + "Expenditure Items Found:\n"
+                + "1.[E]$3.00 protin bar(on: 9/10/2015)\n"
+                + "2.[E]$5.00 protein shake(on: 9/10/2015)\n\n"
+                + "Loan Items Found:\n" + "No Loans Match Your Search!\n\n"
+                + "Instalment Items Found:\n" + "No Instalments Match Your Search!\n\n"));
+
+        ui.clearGraphContainerString();
+        new FuzzyFindCommand("find~ calebsan protien /top 1").execute(account, ui, moneyStorage);
+        assertThat(ui.getGraphContainerString().split("Loan Items Found:\n")[1],
+                is("No Loans Match Your Search!\n\n" + "Instalment Items Found:\n"
+                        + "No Instalments Match Your Search!\n\n"));
+        ui.clearGraphContainerString();
+        new FuzzyFindCommand("find~ protien /top 1").execute(account, ui, moneyStorage);
+        assertThat(ui.getGraphContainerString().split("Expenditure Items Found:\n")[1].split("\n\n")[0],
+                is("1.[E]$3.00 protin bar(on: 9/10/2015)"));
+
+        try {
+            new FuzzyFindCommand("find~ protien /top none").execute(account, ui, moneyStorage);
+            fail();
+        } catch (DukeException e) {
+            assertThat(e.getMessage(), is("Please enter in the format: find~ <words> /top <number of records>\n"));
+        }
+        account.getExpListTotal().clear();
+        account.getLoans().clear();
+    }
 }
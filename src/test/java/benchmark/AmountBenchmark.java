@@ -0,0 +1,110 @@
+package benchmark;
+
+import controlpanel.DukeException;
+import money.Account;
+import money.AmountIndex;
+import money.Expenditure;
+import money.Item;
+import money.Money;
+import money.TransactionQuery;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+/**
+ * Measures how long audit queries over a large account take with the amount index of the account,
+ * compared with the scan of every expenditure that they would otherwise need: the expenditures over
+ * an amount, the largest expenditures, and a query that the planner answers from the amount index.
+ * Run with: gradlew amountBenchmark [-Precords=N]
+ */
+public class AmountBenchmark {
+
+    private static final int RUNS = 200;
+
+    /**
+     * Fills an account with expenditures and reports the time per query of both ways.
+     * @param args optional number of expenditures
+     * @throws DukeException if the query of the benchmark does not parse
+     */
+    public static void main(String[] args) throws DukeException {
+        int records = args.length > 0 ? Integer.parseInt(args[0]) : 1000000;
+        Account account = new Account();
+        Random random = new Random(42);
+        LocalDate date = LocalDate.of(2015, 1, 1);
+        for (int i = 0; i < records; i++) {
+            long cents = random.nextInt(10) == 0 ? 10000 + random.nextInt(200000) : 100 + random.nextInt(5000);
+            account.getExpListTotal().add(new Expenditure(Money.ofCents(cents), "item", "food",
+                    date.plusDays(i % 1800)));
+        }
+        AmountIndex<Expenditure> index = account.getExpAmountIndex();
+        long start = System.nanoTime();
+        index.count(0, 0);
+        System.out.printf("%d records, amount index built in %.1f ms%n", records, (System.nanoTime() - start) / 1e6);
+        System.out.printf("%-22s %10s %12s %12s%n", "query", "found", "scan ms", "index ms");
+        List<Expenditure> expenditures = account.getExpListTotal();
+        for (long over : new long[] {50000, 150000, 209000}) {
+            int found = index.count(over, Long.MAX_VALUE);
+            double scan = time(() -> scanOver(expenditures, over).size());
+            double indexed = time(() -> index.between(over, Long.MAX_VALUE).size());
+            System.out.printf("%-22s %10d %12.3f %12.3f%n", "over $" + Money.format(over), found, scan, indexed);
+        }
+        double scan = time(() -> largest(expenditures, 20).size());
+        double indexed = time(() -> index.largest(20).size());
+        System.out.printf("%-22s %10d %12.3f %12.3f%n", "largest 20", 20, scan, indexed);
+
+        TransactionQuery.Plan<? extends Item> plan = TransactionQuery.parse("type:exp amt>2000 on:2016")
+                .plan(account).get(0);
+        double planned = time(() -> plan.run().size());
+        System.out.printf("%-22s %10d %12s %12.3f%n", "query amt>2000 on:2016", plan.run().size(), "", planned);
+        System.out.print(plan.explain());
+    }
+
+    private static List<Expenditure> scanOver(List<Expenditure> expenditures, long minCents) {
+        List<Expenditure> found = new ArrayList<>();
+        for (Expenditure e : expenditures) {
+            if (e.getPriceCents() >= minCents) {
+                found.add(e);
+            }
+        }
+        found.sort(Comparator.comparingLong(Expenditure::getPriceCents));
+        return found;
+    }
+
+    private static List<Expenditure> largest(List<Expenditure> expenditures, int count) {
+        PriorityQueue<Expenditure> heap = new PriorityQueue<>(Comparator.comparingLong(Expenditure::getPriceCents));
+        for (Expenditure e : expenditures) {
+            if (heap.size() < count) {
+                heap.add(e);
+            } else if (e.getPriceCents() > heap.peek().getPriceCents()) {
+                heap.poll();
+                heap.add(e);
+            }
+        }
+        List<Expenditure> found = new ArrayList<>(heap);
+        found.sort(Comparator.comparingLong(Expenditure::getPriceCents).reversed());
+        return found;
+    }
+
+    private static double time(Query query) {
+        int sink = 0;
+        for (int i = 0; i < RUNS / 10; i++) {
+            sink += query.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < RUNS; i++) {
+            sink += query.run();
+        }
+        if (sink < 0) {
+            throw new IllegalStateException();
+        }
+        return (System.nanoTime() - start) / 1e6 / RUNS;
+    }
+
+    private interface Query {
+        int run();
+    }
+}
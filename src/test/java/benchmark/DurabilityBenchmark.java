@@ -0,0 +1,70 @@
+package benchmark;
+
+import controlpanel.GroupCommit;
+import controlpanel.MoneyStorage;
+import controlpanel.Ui;
+import money.Account;
+import moneycommands.AddExpenditureCommand;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+/**
+ * Measures the latency of a command that writes to storage in each durability mode,
+ * both with the journal and with a full rewrite of the data file on every command.
+ * Run with: gradlew durabilityBenchmark [-Pcommands=N]
+ */
+public class DurabilityBenchmark {
+
+    private static final int WARMUP = 50;
+
+    /**
+     * Runs the same commands against a fresh data file in each mode and reports their latency.
+     * @param args optional number of commands measured per mode
+     * @throws Exception if a data file cannot be written
+     */
+    public static void main(String[] args) throws Exception {
+        int commands = args.length > 0 ? Integer.parseInt(args[0]) : 500;
+        System.out.printf("%-8s %-9s %10s %10s %10s %8s%n",
+                "storage", "mode", "mean us", "p50 us", "p99 us", "fsyncs");
+        for (boolean isJournaled : new boolean[] {true, false}) {
+            for (GroupCommit.Durability durability : GroupCommit.Durability.values()) {
+                measure(isJournaled, durability, commands);
+            }
+        }
+    }
+
+    private static void measure(boolean isJournaled, GroupCommit.Durability durability, int commands)
+            throws Exception {
+        File directory = Files.createTempDirectory("durability").toFile();
+        File dataFile = new File(directory, "moneyAccount.txt");
+        dataFile.createNewFile();
+        MoneyStorage storage = new MoneyStorage(dataFile.getPath(), isJournaled);
+        storage.setDurability(durability);
+        Account account = storage.load();
+        Ui ui = new Ui();
+        long[] latencies = new long[commands];
+        for (int i = -WARMUP; i < commands; i++) {
+            AddExpenditureCommand command = new AddExpenditureCommand(
+                    "spent lunch " + i + " /amt 4.50 /cat food /on 1/10/2019");
+            long start = System.nanoTime();
+            command.execute(account, ui, storage);
+            long elapsed = System.nanoTime() - start;
+            if (i >= 0) {
+                latencies[i] = elapsed;
+            }
+            ui.clearOutputString();
+        }
+        storage.close();
+        Arrays.sort(latencies);
+        System.out.printf("%-8s %-9s %10.1f %10.1f %10.1f %8d%n", isJournaled ? "journal" : "rewrite",
+                durability.toString().toLowerCase(), Arrays.stream(latencies).average().orElse(0) / 1000,
+                latencies[commands / 2] / 1000.0, latencies[commands * 99 / 100] / 1000.0,
+                storage.getGroupCommit().getSyncCount());
+        for (File file : directory.listFiles()) {
+            file.delete();
+        }
+        directory.delete();
+    }
+}
@@ -0,0 +1,115 @@
+package benchmark;
+
+import money.Account;
+import money.Expenditure;
+import money.Income;
+import money.Loan;
+import money.Money;
+import money.RecordColumns;
+import money.RecordList;
+import money.StringPool;
+
+import java.time.LocalDate;
+import java.util.function.IntFunction;
+import java.util.function.UnaryOperator;
+
+/**
+ * Measures the heap taken by each kind of record, by keeping many of them reachable and comparing
+ * the used heap before and after. The records share their description, category and date, so only
+ * the record itself is counted. It then compares an expenditure list of objects with one kept in
+ * RecordColumns, with descriptions drawn from 1000 strings, and a list whose records were given
+ * strings of their own, as a parser gives them, with one whose strings went through a StringPool.
+ * Last it measures whole accounts of expenditures on a year of days, with every index built, since
+ * what columns save is only worth having if the indexes of the account do not keep the records anyway.
+ * The serial collector gives the steadiest numbers. Run with: gradlew heapBenchmark [-Precords=N]
+ */
+public class HeapFootprintBenchmark {
+
+    /**
+     * Measures the bytes per Expenditure, Income and Loan and per expenditure in each kind of list
+     * and of account, and prints them.
+     * @param args optional number of records kept per measurement
+     */
+    public static void main(String[] args) {
+        int records = args.length > 0 ? Integer.parseInt(args[0]) : 200000;
+        LocalDate date = LocalDate.of(2019, 10, 1);
+        Money price = Money.parse("4.50");
+        String description = "lunch";
+        String category = "food";
+        System.out.printf("%-12s %14s%n", "record", "bytes/record");
+        measure("Expenditure", records, i -> new Expenditure(price, description, category, date));
+        measure("Income", records, i -> new Income(price, description, date));
+        measure("Loan", records, i -> new Loan(price, description, date, Loan.Type.OUTGOING));
+
+        String[] descriptions = new String[records];
+        for (int i = 0; i < records; i++) {
+            descriptions[i] = "lunch " + (i % 1000);
+        }
+        System.out.printf("%n%-12s %14s%n", "list", "bytes/record");
+        measure("objects", 1, i -> fill(new RecordList<>(), descriptions, price, category, date), records);
+        measure("columns", 1, i -> fill(new RecordList<>(new RecordColumns<>(RecordColumns.EXPENDITURE)),
+                descriptions, price, category, date), records);
+        measure("parsed", 1, i -> parse(descriptions, price, date, UnaryOperator.identity()), records);
+        measure("interned", 1, i -> parse(descriptions, price, date, new StringPool()::intern), records);
+
+        System.out.printf("%n%-12s %14s%n", "account", "bytes/record");
+        measure("objects", 1, i -> account(new Account(false), descriptions, price, category, date), records);
+        measure("columns", 1, i -> account(new Account(true), descriptions, price, category, date), records);
+        if (descriptions[records - 1] == null) {
+            throw new IllegalStateException();
+        }
+    }
+
+    private static RecordList<Expenditure> parse(String[] descriptions, Money price, LocalDate date,
+                                                UnaryOperator<String> intern) {
+        RecordList<Expenditure> list = new RecordList<>();
+        for (int i = 0; i < descriptions.length; i++) {
+            list.add(new Expenditure(price, intern.apply(new String(descriptions[i])),
+                    intern.apply(new String("food")), date));
+        }
+        return list;
+    }
+
+    private static RecordList<Expenditure> fill(RecordList<Expenditure> list, String[] descriptions, Money price,
+                                               String category, LocalDate date) {
+        for (int i = 0; i < descriptions.length; i++) {
+            list.add(new Expenditure(price, descriptions[i], category, date));
+        }
+        return list;
+    }
+
+    private static Account account(Account account, String[] descriptions, Money price, String category,
+                                   LocalDate date) {
+        for (int i = 0; i < descriptions.length; i++) {
+            account.getExpListTotal().add(new Expenditure(price, descriptions[i], category, date.minusDays(i % 365)));
+        }
+        account.getExpTextIndex().count("lunch");
+        account.getExpAmountIndex().count(0, Long.MAX_VALUE);
+        return account;
+    }
+
+    private static void measure(String name, int records, IntFunction<Object> create) {
+        measure(name, records, create, records);
+    }
+
+    private static void measure(String name, int records, IntFunction<Object> create, int perRecords) {
+        Object[] kept = new Object[records];
+        long before = usedHeap();
+        for (int i = 0; i < records; i++) {
+            kept[i] = create.apply(i);
+        }
+        long after = usedHeap();
+        System.out.printf("%-12s %14.1f%n", name, (after - before) / (double) perRecords);
+        if (kept[records - 1] == null) {
+            throw new IllegalStateException();
+        }
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
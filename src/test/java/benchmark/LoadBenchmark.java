@@ -0,0 +1,278 @@
+package benchmark;
+
+import controlpanel.DukeException;
+import controlpanel.MoneyRecordScanner;
+import controlpanel.MoneyStorage;
+import money.Account;
+import money.BankTracker;
+import money.Expenditure;
+import money.Goal;
+import money.Income;
+import money.Instalment;
+import money.Loan;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Measures how many records per second MoneyStorage loads from a text data file of 1M lines,
+ * compared with the String.split parser that the data file used to be read with.
+ * Parsing alone (fields read, no records created) is measured separately from a full load,
+ * since creating the records of the account costs as much as parsing them. Loading large data
+ * files in parallel chunks is compared with loading them on a single thread, and then on pools of
+ * 1, 2, 4 and so on up to as many threads as there are cores, to show that the chunks scale with cores
+ * rather than waiting on each other for the string pool of the account.
+ * Run with: gradlew loadBenchmark [-Plines=N]
+ */
+public class LoadBenchmark {
+
+    private static final int RUNS = 5;
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("d/M/yyyy");
+
+    /**
+     * Generates the data file and reports the throughput of both parsers.
+     * @param args optional number of lines of the data file
+     * @throws Exception if the data file cannot be written or read
+     */
+    public static void main(String[] args) throws Exception {
+        int lines = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        File file = File.createTempFile("moneyAccount", ".txt");
+        file.deleteOnExit();
+        writeDataFile(file, lines);
+        System.out.println("Data file: " + lines + " lines, " + file.length() / (1024 * 1024) + " MB");
+
+        double splitParse = measure("parse, split", lines, () -> parseWithSplit(file));
+        double scannerParse = measure("parse, scanner", lines, () -> parseWithScanner(file));
+        System.out.printf("Parse speedup: %.2fx%n", scannerParse / splitParse);
+        double splitLoad = measure("load, split", lines, () -> loadWithSplit(file).getExpListTotal().size());
+        double scannerLoad = measure("load, scanner", lines, () -> loadWithStorage(file, false));
+        System.out.printf("Load speedup: %.2fx%n", scannerLoad / splitLoad);
+        double parallelLoad = measure("load, parallel", lines, () -> loadWithStorage(file, true));
+        System.out.printf("Parallel speedup on %d threads: %.2fx%n",
+                ForkJoinPool.getCommonPoolParallelism(), parallelLoad / scannerLoad);
+
+        int cores = Runtime.getRuntime().availableProcessors();
+        System.out.println("Scaling over " + cores + " cores:");
+        List<Integer> threadCounts = new ArrayList<>();
+        for (int threads = 1; threads < cores; threads *= 2) {
+            threadCounts.add(threads);
+        }
+        threadCounts.add(cores);
+        for (int threads : threadCounts) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            double load = measure("load, " + threads + " threads", lines, () -> loadOnPool(file, pool));
+            System.out.printf("%-16s %12.2fx%n", "", load / scannerLoad);
+            pool.shutdown();
+        }
+    }
+
+    private static long loadOnPool(File file, ForkJoinPool pool) throws IOException {
+        MoneyStorage storage = new MoneyStorage(file.getPath());
+        storage.setLoadPool(pool);
+        return storage.load().getExpListTotal().size();
+    }
+
+    private static double measure(String name, int lines, Loader loader) throws Exception {
+        double best = 0;
+        for (int run = 0; run < RUNS; run++) {
+            long start = System.nanoTime();
+            long result = loader.load();
+            long elapsed = System.nanoTime() - start;
+            if (result == 0) {
+                throw new IllegalStateException(name + " read nothing");
+            }
+            best = Math.max(best, lines / (elapsed / 1e9));
+        }
+        System.out.printf("%-16s %,12.0f records/s%n", name, best);
+        return best;
+    }
+
+    private static long loadWithStorage(File file, boolean isParallelLoad) throws IOException {
+        MoneyStorage storage = new MoneyStorage(file.getPath());
+        storage.setParallelLoad(isParallelLoad);
+        return storage.load().getExpListTotal().size();
+    }
+
+    private static void writeDataFile(File file, int lines) throws IOException {
+        Random random = new Random(2113);
+        String[] categories = {"food", "transport", "bills", "shopping", "fun"};
+        BufferedWriter writer = new BufferedWriter(new FileWriter(file));
+        writer.write("INIT @ false\n");
+        writer.write("BS @ 1000.0\n");
+        for (int i = 2; i < lines; i++) {
+            LocalDate date = LocalDate.of(2015, 1, 1).plusDays(random.nextInt(5 * 365));
+            String day = date.format(DATE_FORMATTER);
+            float amount = random.nextInt(100000) / 100f;
+            int kind = random.nextInt(100);
+            if (kind < 70) {
+                writer.write("EXP @ " + amount + " @ item " + random.nextInt(5000) + " @ "
+                        + categories[random.nextInt(categories.length)] + " @ " + day + "\n");
+            } else if (kind < 90) {
+                writer.write("INC @ " + amount + " @ salary " + random.nextInt(100) + " @ " + day + "\n");
+            } else if (kind < 94) {
+                writer.write("G @ " + amount + " @ goal " + i + " @ GS @ " + day + " @ MEDIUM\n");
+            } else if (kind < 97) {
+                writer.write("INS @ " + amount + " @ phone " + i + " @ INS @ " + day + " @ 12 @ 0.05\n");
+            } else if (kind < 99) {
+                writer.write("LOA @ " + amount + " @ friend " + random.nextInt(50) + " @ " + day
+                        + " @ OUTGOING @  @ 0 @ " + amount + "\n");
+            } else {
+                writer.write("BAN @ " + amount + " @ bank " + i + " @ " + date + " @ 0.01\n");
+            }
+        }
+        writer.close();
+    }
+
+    /**
+     * Reads every field of every record the way MoneyStorage did before it had a scanner.
+     * @return a checksum of the fields read, so that the work cannot be optimised away
+     */
+    private static long parseWithSplit(File file) throws IOException {
+        long checksum = 0;
+        BufferedReader bufferedReader = new BufferedReader(new FileReader(file));
+        String line;
+        while ((line = bufferedReader.readLine()) != null) {
+            String[] info = line.split(" @ ");
+            switch (info[0]) {
+            case "INC":
+                checksum += Float.floatToIntBits(Float.parseFloat(info[1])) + info[2].length()
+                        + LocalDate.parse(info[3], DATE_FORMATTER).toEpochDay();
+                break;
+            case "EXP":
+            case "G":
+                checksum += Float.floatToIntBits(Float.parseFloat(info[1])) + info[2].length() + info[3].length()
+                        + LocalDate.parse(info[4], DATE_FORMATTER).toEpochDay();
+                break;
+            case "INS":
+                checksum += Float.floatToIntBits(Float.parseFloat(info[1])) + info[2].length() + info[3].length()
+                        + LocalDate.parse(info[4], DATE_FORMATTER).toEpochDay() + Integer.parseInt(info[5])
+                        + Float.floatToIntBits(Float.parseFloat(info[6]));
+                break;
+            case "LOA":
+                checksum += Float.floatToIntBits(Float.parseFloat(info[1])) + info[2].length()
+                        + LocalDate.parse(info[3], DATE_FORMATTER).toEpochDay() + Integer.parseInt(info[6])
+                        + Float.floatToIntBits(Float.parseFloat(info[7]));
+                break;
+            case "BAN":
+                checksum += Float.floatToIntBits(Float.parseFloat(info[1])) + info[2].length()
+                        + LocalDate.parse(info[3]).toEpochDay() + Double.doubleToLongBits(Double.parseDouble(info[4]));
+                break;
+            default:
+                checksum++;
+                break;
+            }
+        }
+        bufferedReader.close();
+        return checksum;
+    }
+
+    /**
+     * Reads every field of every record with the scanner that MoneyStorage loads the data file with.
+     * @return a checksum of the fields read, so that the work cannot be optimised away
+     */
+    private static long parseWithScanner(File file) throws IOException {
+        long checksum = 0;
+        FileReader fileReader = new FileReader(file);
+        MoneyRecordScanner record = new MoneyRecordScanner(fileReader);
+        while (record.nextLine()) {
+            switch (record.readTag()) {
+            case "INC":
+                checksum += Float.floatToIntBits(record.readFloat()) + record.readString().length()
+                        + record.readDate().toEpochDay();
+                break;
+            case "EXP":
+            case "G":
+                checksum += Float.floatToIntBits(record.readFloat()) + record.readString().length()
+                        + record.readString().length() + record.readDate().toEpochDay();
+                break;
+            case "INS":
+                checksum += Float.floatToIntBits(record.readFloat()) + record.readString().length()
+                        + record.readString().length() + record.readDate().toEpochDay() + record.readInt()
+                        + Float.floatToIntBits(record.readFloat());
+                break;
+            case "LOA":
+                checksum += Float.floatToIntBits(record.readFloat()) + record.readString().length()
+                        + record.readDate().toEpochDay();
+                record.readString();
+                record.readString();
+                checksum += record.readInt() + Float.floatToIntBits(record.readFloat());
+                break;
+            case "BAN":
+                checksum += Float.floatToIntBits(record.readFloat()) + record.readString().length()
+                        + record.readIsoDate().toEpochDay() + Double.doubleToLongBits(record.readDouble());
+                break;
+            default:
+                checksum++;
+                break;
+            }
+        }
+        fileReader.close();
+        return checksum;
+    }
+
+    /**
+     * Loads the data file the way MoneyStorage did before it had a scanner: one String[] per line,
+     * one String per field and a parsed LocalDate per date.
+     */
+    private static Account loadWithSplit(File file) throws IOException, DukeException {
+        Account account = new Account();
+        BufferedReader bufferedReader = new BufferedReader(new FileReader(file));
+        String line;
+        while ((line = bufferedReader.readLine()) != null) {
+            String[] info = line.split(" @ ");
+            switch (info[0]) {
+            case "INIT":
+                account.setToInitialize(Boolean.parseBoolean(info[1]));
+                break;
+            case "BS":
+                account.setBaseSavings(Float.parseFloat(info[1]));
+                break;
+            case "INC":
+                account.getIncomeListTotal().add(new Income(Float.parseFloat(info[1]), info[2],
+                        LocalDate.parse(info[3], DATE_FORMATTER)));
+                break;
+            case "EXP":
+                account.getExpListTotal().add(new Expenditure(Float.parseFloat(info[1]), info[2], info[3],
+                        LocalDate.parse(info[4], DATE_FORMATTER)));
+                break;
+            case "G":
+                account.getShortTermGoals().add(new Goal(Float.parseFloat(info[1]), info[2], info[3],
+                        LocalDate.parse(info[4], DATE_FORMATTER), info[5]));
+                break;
+            case "INS":
+                account.getInstalments().add(new Instalment(Float.parseFloat(info[1]), info[2], info[3],
+                        LocalDate.parse(info[4], DATE_FORMATTER), Integer.parseInt(info[5]),
+                        Float.parseFloat(info[6]) * 100));
+                break;
+            case "LOA":
+                Loan l = new Loan(Float.parseFloat(info[1]), info[2], LocalDate.parse(info[3], DATE_FORMATTER),
+                        Loan.Type.ALL);
+                l.updateExistingLoan(info[4], info[5], Integer.parseInt(info[6]), Float.parseFloat(info[7]));
+                account.getLoans().add(l);
+                break;
+            case "BAN":
+                account.getBankTrackerList().add(new BankTracker(info[2], Float.parseFloat(info[1]),
+                        LocalDate.parse(info[3]), Double.parseDouble(info[4])));
+                break;
+            default:
+                throw new DukeException("OOPS!! Your file has been corrupted/ input file is invalid!");
+            }
+        }
+        bufferedReader.close();
+        return account;
+    }
+
+    private interface Loader {
+        long load() throws Exception;
+    }
+}
@@ -0,0 +1,172 @@
+package benchmark;
+
+import money.Account;
+import money.Expenditure;
+import money.Money;
+import money.TextIndex;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Measures how long find# takes to search the expenditures of a large account, with the text index
+ * of the account compared with the String.contains scan of every record that it replaced.
+ * The descriptions are made of a few hundred words, like the descriptions a user types, and then
+ * each also gets a reference number of its own, which makes as many distinct words as records and
+ * has fragments found through the trigrams of the words. Fuzzy searches are then timed against a vocabulary
+ * of made-up words, with the edit distance index compared with working out the distance to every word.
+ * Run with: gradlew searchBenchmark [-Precords=N]
+ */
+public class SearchBenchmark {
+
+    private static final int RUNS = 200;
+    private static final String[] WORDS = {"noodle", "chicken", "rice", "coffee", "bubble", "tea", "taxi", "grab",
+        "movie", "book", "shirt", "shoes", "phone", "bill", "rent", "gym", "protein", "snack", "lunch", "dinner"};
+    private static final String[] QUERIES = {"noodle", "chick", "oodl", "coffee 7", "tea snack", "zzz"};
+    private static final String[] REFERENCE_QUERIES = {"ref123456", "23456", "noodle 99", "f10"};
+    private static final String[] SYLLABLES = {"ka", "lo", "mi", "ne", "pu", "ri", "sa", "to", "ve", "zu", "an",
+        "el", "in", "or", "ch", "st", "ph", "ei"};
+    private static final int FUZZY_WORDS = 100000;
+
+    /**
+     * Fills an account with expenditures and reports the time per query of both searches.
+     * @param args optional number of expenditures
+     */
+    public static void main(String[] args) {
+        int records = args.length > 0 ? Integer.parseInt(args[0]) : 500000;
+        run(fill(records, false), QUERIES);
+        System.out.println();
+        run(fill(records, true), REFERENCE_QUERIES);
+        System.out.println();
+        runFuzzy();
+    }
+
+    private static Account fill(int records, boolean hasReferences) {
+        Account account = new Account();
+        Random random = new Random(42);
+        LocalDate date = LocalDate.of(2019, 1, 1);
+        for (int i = 0; i < records; i++) {
+            String description = account.intern(WORDS[random.nextInt(WORDS.length)] + " "
+                    + WORDS[random.nextInt(WORDS.length)] + " " + random.nextInt(20)
+                    + (hasReferences ? " ref" + i : ""));
+            account.getExpListTotal().add(new Expenditure(Money.ofCents(100 + random.nextInt(5000)), description,
+                    account.intern(WORDS[random.nextInt(4)]), date.plusDays(i % 365)));
+        }
+        return account;
+    }
+
+    private static void run(Account account, String[] queries) {
+        long start = System.nanoTime();
+        int words = account.getExpTextIndex().getWordCount();
+        System.out.printf("%d records, %d words, index built in %.1f ms%n", account.getExpListTotal().size(),
+                words, (System.nanoTime() - start) / 1e6);
+        System.out.printf("%-12s %10s %12s %12s%n", "query", "found", "scan ms", "index ms");
+        for (String query : queries) {
+            int found = account.getExpTextIndex().find(query).size();
+            double scan = time(() -> scan(account.getExpListTotal(), query.split(" ")));
+            double index = time(() -> account.getExpTextIndex().find(query).size());
+            System.out.printf("%-12s %10d %12.3f %12.3f%n", query, found, scan, index);
+        }
+    }
+
+    private static void runFuzzy() {
+        Account account = new Account();
+        Random random = new Random(42);
+        Set<String> vocabulary = new LinkedHashSet<>();
+        while (vocabulary.size() < FUZZY_WORDS) {
+            StringBuilder word = new StringBuilder();
+            for (int s = 2 + random.nextInt(4); s > 0; s--) {
+                word.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+            }
+            vocabulary.add(word.toString());
+        }
+        List<String> words = new ArrayList<>(vocabulary);
+        for (String word : words) {
+            account.getExpListTotal().add(new Expenditure(Money.ofCents(100), account.intern(word), "food",
+                    LocalDate.of(2019, 1, 1)));
+        }
+        TextIndex<Expenditure> index = account.getExpTextIndex();
+        index.getWordCount();
+        long start = System.nanoTime();
+        index.findFuzzy("x", 1);
+        System.out.printf("%d words, index built in %.1f ms%n", words.size(), (System.nanoTime() - start) / 1e6);
+        System.out.printf("%-14s %10s %12s %12s%n", "query", "found", "scan ms", "index ms");
+        for (int q = 0; q < 6; q++) {
+            StringBuilder typo = new StringBuilder(words.get(random.nextInt(words.size())));
+            int at = random.nextInt(typo.length() - 1);
+            char swapped = typo.charAt(at);
+            typo.setCharAt(at, typo.charAt(at + 1));
+            typo.setCharAt(at + 1, swapped);
+            String query = typo.toString();
+            int found = index.findFuzzy(query, Integer.MAX_VALUE).size();
+            double scan = time(() -> scanFuzzy(words, query));
+            double indexed = time(() -> index.findFuzzy(query, 10).size());
+            System.out.printf("%-14s %10d %12.3f %12.3f%n", query, found, scan, indexed);
+        }
+    }
+
+    private static int scanFuzzy(List<String> words, String query) {
+        int found = 0;
+        int[] previous = new int[query.length() + 1];
+        int[] row = new int[query.length() + 1];
+        for (String word : words) {
+            for (int i = 0; i <= query.length(); i++) {
+                previous[i] = i;
+            }
+            for (int j = 1; j <= word.length(); j++) {
+                row[0] = j;
+                for (int i = 1; i <= query.length(); i++) {
+                    int cost = query.charAt(i - 1) == word.charAt(j - 1) ? 0 : 1;
+                    row[i] = Math.min(Math.min(row[i - 1], previous[i]) + 1, previous[i - 1] + cost);
+                }
+                int[] swap = previous;
+                previous = row;
+                row = swap;
+            }
+            if (previous[query.length()] <= 2) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    private static int scan(List<Expenditure> expenditures, String[] terms) {
+        int found = 0;
+        for (Expenditure e : expenditures) {
+            boolean isMatch = true;
+            for (String term : terms) {
+                if (!e.getDescription().contains(term) && !e.getCategory().contains(term)) {
+                    isMatch = false;
+                    break;
+                }
+            }
+            if (isMatch) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    private static double time(Query query) {
+        int sink = 0;
+        for (int i = 0; i < RUNS / 10; i++) {
+            sink += query.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < RUNS; i++) {
+            sink += query.run();
+        }
+        if (sink < 0) {
+            throw new IllegalStateException();
+        }
+        return (System.nanoTime() - start) / 1e6 / RUNS;
+    }
+
+    private interface Query {
+        int run();
+    }
+}
@@ -0,0 +1,82 @@
+package benchmark;
+
+import controlpanel.StorageEngine;
+import controlpanel.Ui;
+import money.Account;
+import moneycommands.AddExpenditureCommand;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+/**
+ * Measures each storage backend on the same workload: the latency of a command that writes
+ * to storage, the time to load the account back and the bytes it takes up on disk.
+ * The in-memory backend shows the cost of the commands themselves.
+ * Run with: gradlew storageBenchmark [-Pcommands=N]
+ */
+public class StorageEngineBenchmark {
+
+    private static final String[] BACKENDS = {"text", "split", "journal", "binary", "memory"};
+    private static final int WARMUP = 50;
+
+    /**
+     * Runs the same commands against a fresh data file with each backend and reports the results.
+     * @param args optional number of commands measured per backend
+     * @throws Exception if a data file cannot be written or read
+     */
+    public static void main(String[] args) throws Exception {
+        int commands = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+        System.out.printf("%-8s %10s %10s %10s %10s %10s%n",
+                "backend", "mean us", "p50 us", "p99 us", "load ms", "bytes");
+        for (String backend : BACKENDS) {
+            measure(backend, commands);
+        }
+    }
+
+    private static void measure(String backend, int commands) throws Exception {
+        File directory = Files.createTempDirectory("storage").toFile();
+        File dataFile = new File(directory, "moneyAccount.txt");
+        dataFile.createNewFile();
+        StorageEngine storage = StorageEngine.open(backend, dataFile.getPath());
+        Account account = storage.load();
+        Ui ui = new Ui();
+        long[] latencies = new long[commands];
+        for (int i = -WARMUP; i < commands; i++) {
+            AddExpenditureCommand command = new AddExpenditureCommand(
+                    "spent lunch " + i + " /amt 4.50 /cat food /on 1/10/2019");
+            long start = System.nanoTime();
+            command.execute(account, ui, storage);
+            long elapsed = System.nanoTime() - start;
+            if (i >= 0) {
+                latencies[i] = elapsed;
+            }
+            ui.clearOutputString();
+        }
+        storage.close();
+        long bytes = storage.getStoredBytes();
+
+        long start = System.nanoTime();
+        Account loaded = StorageEngine.open(backend, dataFile.getPath()).load();
+        double loadMillis = (System.nanoTime() - start) / 1e6;
+        if (!backend.equals("memory") && loaded.getExpListTotal().size() != commands + WARMUP) {
+            throw new IllegalStateException(backend + " loaded " + loaded.getExpListTotal().size() + " records");
+        }
+
+        Arrays.sort(latencies);
+        System.out.printf("%-8s %10.1f %10.1f %10.1f %10.1f %10d%n", backend,
+                Arrays.stream(latencies).average().orElse(0) / 1000, latencies[commands / 2] / 1000.0,
+                latencies[commands * 99 / 100] / 1000.0, loadMillis, bytes);
+        deleteRecursively(directory);
+    }
+
+    private static void deleteRecursively(File file) {
+        File[] children = file.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                deleteRecursively(child);
+            }
+        }
+        file.delete();
+    }
+}
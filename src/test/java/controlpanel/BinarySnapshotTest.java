@@ -0,0 +1,72 @@
+package controlpanel;
+
+import money.Account;
+import money.BankTracker;
+import money.Expenditure;
+import money.Goal;
+import money.Income;
+import money.Instalment;
+import money.Loan;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class BinarySnapshotTest {
+    private BinarySnapshot snapshot;
+    private File file;
+
+    BinarySnapshotTest() {
+        Path currentDir = Paths.get("data/account-test.bin");
+        file = currentDir.toAbsolutePath().toFile();
+        snapshot = new BinarySnapshot(file.getPath());
+    }
+
+    @Test
+    void testRoundTrip() throws IOException, DukeException {
+        Account account = new Account();
+        account.setToInitialize(false);
+        account.setBaseSavings(1000.5f);
+        account.getIncomeListTotal().add(new Income(2500, "TA Pay", LocalDate.of(2019, 9, 1)));
+        account.getExpListTotal().add(new Expenditure(12.3f, "chicken rice", "food", LocalDate.of(2019, 9, 2)));
+        account.getShortTermGoals().add(new Goal(3000, "bike", "GOAL", LocalDate.of(2020, 1, 1), "HIGH"));
+        account.getInstalments().add(new Instalment(1000, "laptop", "INS",
+                LocalDate.of(2019, 8, 1), 12, 5));
+        Loan loan = new Loan(200, "Ben", LocalDate.of(2019, 9, 3), Loan.Type.OUTGOING);
+        loan.updateExistingLoan("OUTGOING", "", 0, 150);
+        account.getLoans().add(loan);
+        account.getBankTrackerList().add(new BankTracker("OCBC", 500, LocalDate.of(2019, 9, 4), 0.02));
+        snapshot.write(file, 7, account);
+
+        Account loaded = new Account();
+        assertEquals(7, snapshot.readFirstSegment());
+        assertEquals(7, snapshot.load(loaded));
+        assertEquals(false, loaded.isToInitialize());
+        assertEquals(1000.5f, loaded.getBaseSavings());
+        assertEquals("[I] TA Pay(salary: $2500.00) (Paid On: 1/9/2019)",
+                loaded.getIncomeListTotal().get(0).toString());
+        assertEquals(account.getExpListTotal().get(0).toString(), loaded.getExpListTotal().get(0).toString());
+        assertEquals(account.getShortTermGoals().get(0).toString(), loaded.getShortTermGoals().get(0).toString());
+        assertEquals(account.getInstalments().get(0).toString(), loaded.getInstalments().get(0).toString());
+        assertEquals(150f, loaded.getLoans().get(0).getOutstandingLoan());
+        assertEquals(Loan.Type.OUTGOING, loaded.getLoans().get(0).getType());
+        assertEquals(account.getBankTrackerList().get(0).getBankAccountInfo(),
+                loaded.getBankTrackerList().get(0).getBankAccountInfo());
+        file.delete();
+    }
+
+    @Test
+    void testNotASnapshot() throws IOException {
+        File text = Paths.get("data/account-test.bin.txt").toAbsolutePath().toFile();
+        Files.write(text.toPath(), "INIT @ 0\n".getBytes());
+        assertThrows(IOException.class, () -> new BinarySnapshot(text.getPath()).readFirstSegment());
+        text.delete();
+    }
+}
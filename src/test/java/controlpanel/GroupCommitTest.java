@@ -0,0 +1,72 @@
+package controlpanel;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class GroupCommitTest {
+    private File file;
+
+    GroupCommitTest() {
+        file = Paths.get("data/group-commit-test.txt").toAbsolutePath().toFile();
+    }
+
+    private int commitLines(GroupCommit groupCommit) throws IOException {
+        FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        for (int i = 0; i < 100; i++) {
+            channel.write(ByteBuffer.wrap(("line " + i + "\n").getBytes()));
+            groupCommit.commit(channel);
+        }
+        groupCommit.sync();
+        groupCommit.close(channel);
+        int lines = Files.readAllLines(file.toPath()).size();
+        file.delete();
+        return lines;
+    }
+
+    @Test
+    void testParseDurability() throws DukeException {
+        assertEquals(GroupCommit.Durability.STRICT, GroupCommit.parseDurability("Strict"));
+        assertEquals(GroupCommit.Durability.NONE, GroupCommit.parseDurability("none"));
+        DukeException thrown = assertThrows(DukeException.class, () -> GroupCommit.parseDurability("batchd"));
+        assertEquals("There is no durability mode called batchd, try none, batched or strict", thrown.getMessage());
+    }
+
+    @Test
+    void testStrictForcesEveryCommit() throws IOException {
+        GroupCommit groupCommit = new GroupCommit(GroupCommit.Durability.STRICT);
+        assertEquals(100, commitLines(groupCommit));
+        assertEquals(100, groupCommit.getSyncCount());
+    }
+
+    @Test
+    void testBatchedGroupsCommits() throws IOException {
+        GroupCommit groupCommit = new GroupCommit(GroupCommit.Durability.BATCHED);
+        groupCommit.setWindow(1000);
+        assertEquals(100, commitLines(groupCommit));
+        assertEquals(100, groupCommit.getCommitCount());
+        assertTrue(groupCommit.getSyncCount() <= 2);
+    }
+
+    @Test
+    void testReplace() throws IOException {
+        File tempFile = new File(file.getPath() + ".tmp");
+        Files.write(file.toPath(), "old\n".getBytes());
+        Files.write(tempFile.toPath(), "new\n".getBytes());
+        new GroupCommit(GroupCommit.Durability.STRICT).replace(tempFile, file);
+        assertEquals("new", Files.readAllLines(file.toPath()).get(0));
+        assertEquals(false, tempFile.exists());
+        file.delete();
+    }
+}
@@ -0,0 +1,90 @@
+package controlpanel;
+
+import money.Account;
+import money.Expenditure;
+import money.Income;
+import moneycommands.FindCommand;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class LiveSearchTest {
+    private final List<String> queries = new ArrayList<>();
+    private final List<String> results = new ArrayList<>();
+
+    private Account fill() {
+        Account account = new Account();
+        for (int i = 0; i < 200; i++) {
+            account.getExpListTotal().add(new Expenditure(3, (i % 2 == 0 ? "noodle " : "nothing ") + i,
+                    i % 3 == 0 ? "food" : "fun", LocalDate.of(2019, 1, 1)));
+        }
+        account.getIncomeListTotal().add(new Income(100, "noon shift", LocalDate.of(2019, 1, 1)));
+        return account;
+    }
+
+    private synchronized void found(String query, String result) {
+        queries.add(query);
+        results.add(result);
+        notifyAll();
+    }
+
+    private synchronized void awaitResults(int count) throws InterruptedException {
+        long end = System.currentTimeMillis() + 5000;
+        while (results.size() < count && System.currentTimeMillis() < end) {
+            wait(end - System.currentTimeMillis());
+        }
+    }
+
+    @Test
+    void testBurstSearchesLastQuery() throws InterruptedException {
+        Account account = fill();
+        LiveSearch search = new LiveSearch(account, 200, this::found);
+        for (String query : new String[] {"n", "no", "noo", "nood", "noodle 1"}) {
+            search.submit(query);
+        }
+        awaitResults(1);
+        Thread.sleep(300);
+        assertEquals(1, search.getSearchCount());
+        assertEquals("[noodle 1]", queries.toString());
+        assertEquals(FindCommand.format(FindCommand.findAll(account, "noodle 1")), results.get(0));
+    }
+
+    @Test
+    void testExtendedQueryIsRefined() throws InterruptedException {
+        Account account = fill();
+        LiveSearch search = new LiveSearch(account, 0, this::found);
+        search.submit("no");
+        awaitResults(1);
+        search.submit("noo");
+        awaitResults(2);
+        search.submit("noodle 4");
+        awaitResults(3);
+        assertEquals(1, search.getSearchCount());
+        assertEquals(2, search.getRefineCount());
+        assertEquals(FindCommand.format(FindCommand.findAll(account, "noo")), results.get(1));
+        assertEquals(FindCommand.format(FindCommand.findAll(account, "noodle 4")), results.get(2));
+
+        synchronized (account) {
+            account.getExpListTotal().add(new Expenditure(3, "noodle 4000", "food", LocalDate.of(2019, 1, 1)));
+        }
+        search.submit("noodle 40");
+        awaitResults(4);
+        assertEquals(2, search.getSearchCount());
+        assertEquals(FindCommand.format(FindCommand.findAll(account, "noodle 40")), results.get(3));
+    }
+
+    @Test
+    void testBlankQueryCancelsSearch() throws InterruptedException {
+        Account account = fill();
+        LiveSearch search = new LiveSearch(account, 100, this::found);
+        search.submit("noodle");
+        search.submit("");
+        Thread.sleep(300);
+        assertEquals(0, search.getSearchCount());
+        assertEquals(0, results.size());
+    }
+}
@@ -0,0 +1,89 @@
+package controlpanel;
+
+import money.Account;
+import money.Expenditure;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MoneyJournalTest {
+    private static final String NOODLE = "ADD @ 0 @ EXP @ 3.0 @ noodle @ food @ 2/1/2019\n";
+    private static final String RICE = "ADD @ 1 @ EXP @ 4.0 @ rice @ food @ 3/1/2019\n";
+
+    private File file;
+
+    MoneyJournalTest() {
+        file = Paths.get("data/account-journal-test.txt").toAbsolutePath().toFile();
+    }
+
+    private File segment(String suffix) {
+        return new File(file.getPath() + ".journal." + suffix);
+    }
+
+    private void write(File target, String text) throws IOException {
+        Files.write(target.toPath(), text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void deleteFiles() {
+        for (File leftover : file.getParentFile().listFiles()) {
+            if (leftover.getName().startsWith(file.getName())) {
+                leftover.delete();
+            }
+        }
+    }
+
+    @Test
+    void testRecordCutOffAtEndIsDropped() throws IOException {
+        deleteFiles();
+        write(file, "INIT @ false\nBS @ 100.0\n");
+        write(segment("0"), NOODLE + "ADD @ 1 @ EXP @ 4.0 @ ri");
+        MoneyStorage storage = new MoneyStorage(file.getPath(), true);
+        Account account = storage.load();
+        assertEquals(1, account.getExpListTotal().size());
+        assertEquals(NOODLE, new String(Files.readAllBytes(segment("0").toPath()), StandardCharsets.UTF_8));
+
+        account.getExpListTotal().add(new Expenditure(5, "tea", "food", LocalDate.of(2019, 1, 4)));
+        storage.writeToFile(account);
+        storage.flush();
+        assertTrue(segment("1").exists());
+        Account reloaded = new MoneyStorage(file.getPath(), true).load();
+        assertEquals(2, reloaded.getExpListTotal().size());
+        assertEquals("tea", reloaded.getExpListTotal().get(1).getDescription());
+        deleteFiles();
+    }
+
+    @Test
+    void testDamagedSegmentIsKeptAside() throws IOException {
+        deleteFiles();
+        write(file, "INIT @ false\nBS @ 100.0\n");
+        write(segment("0"), NOODLE + "XYZ @ garbage\n" + RICE);
+        write(segment("1"), "ADD @ 2 @ EXP @ 6.0 @ coffee @ food @ 5/1/2019\n");
+        MoneyStorage storage = new MoneyStorage(file.getPath(), true);
+        Account account = storage.load();
+        assertEquals(1, account.getExpListTotal().size());
+        assertEquals(NOODLE, new String(Files.readAllBytes(segment("0").toPath()), StandardCharsets.UTF_8));
+        assertFalse(segment("1").exists());
+        assertTrue(segment("0.damaged").exists());
+        assertTrue(segment("1.damaged").exists());
+
+        account.getExpListTotal().add(new Expenditure(5, "tea", "food", LocalDate.of(2019, 1, 4)));
+        storage.writeToFile(account);
+        storage.flush();
+        assertTrue(segment("2").exists());
+        assertEquals(NOODLE + "XYZ @ garbage\n" + RICE,
+                new String(Files.readAllBytes(segment("0.damaged").toPath()), StandardCharsets.UTF_8));
+        Account reloaded = new MoneyStorage(file.getPath(), true).load();
+        assertEquals(2, reloaded.getExpListTotal().size());
+        assertEquals("tea", reloaded.getExpListTotal().get(1).getDescription());
+        deleteFiles();
+    }
+}
@@ -0,0 +1,58 @@
+package controlpanel;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class MoneyRecordScannerTest {
+
+    @Test
+    void testReadFields() throws IOException {
+        MoneyRecordScanner record = new MoneyRecordScanner(
+                new StringReader("LOA @ 20.5 @ Ben  @ 3/9/2019 @ OUTGOING @  @ 0 @ 1.0E7\r\n"
+                        + "BAN @ 500.0 @ OCBC @ 2019-09-04 @ 0.02"));
+        assertEquals(true, record.nextLine());
+        assertEquals("LOA", record.readTag());
+        assertEquals(20.5f, record.readFloat());
+        assertEquals("Ben ", record.readString());
+        assertEquals(LocalDate.of(2019, 9, 3), record.readDate());
+        assertEquals("OUTGOING", record.readString());
+        assertEquals("", record.readString());
+        assertEquals(0, record.readInt());
+        assertEquals(1.0E7f, record.readFloat());
+        assertEquals(true, record.nextLine());
+        assertEquals("BAN", record.readTag());
+        assertEquals(500f, record.readFloat());
+        assertEquals("OCBC", record.readString());
+        assertEquals(LocalDate.of(2019, 9, 4), record.readIsoDate());
+        assertEquals(0.02, record.readDouble());
+        assertEquals(false, record.nextLine());
+    }
+
+    @Test
+    void testReadMoney() {
+        MoneyRecordScanner record = new MoneyRecordScanner("INC @ 1234 @ 4.35 @ 33.333332 @ 1.0E7 @ -5 @ -0.5");
+        assertEquals("INC", record.readTag());
+        assertEquals(1234L, record.readMoney());
+        assertEquals(435L, record.readMoney());
+        assertEquals(3333L, record.readMoney());
+        assertEquals(1000000000L, record.readMoney());
+        assertEquals(-5L, record.readMoney());
+        assertEquals(-50L, record.readMoney());
+    }
+
+    @Test
+    void testInvalidFields() {
+        MoneyRecordScanner record = new MoneyRecordScanner("EXP @ 1.2.3 @ 1/13/2019");
+        record.readTag();
+        assertThrows(NumberFormatException.class, record::readFloat);
+        assertThrows(DateTimeParseException.class, record::readDate);
+        assertThrows(ArrayIndexOutOfBoundsException.class, record::readString);
+    }
+}
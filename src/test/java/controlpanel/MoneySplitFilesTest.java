@@ -0,0 +1,68 @@
+package controlpanel;
+
+import money.Account;
+import money.Expenditure;
+import money.Income;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MoneySplitFilesTest {
+    private File file;
+
+    MoneySplitFilesTest() {
+        file = Paths.get("data/account-split-test.txt").toAbsolutePath().toFile();
+    }
+
+    private MoneyStorage splitStorage() {
+        MoneyStorage storage = new MoneyStorage(file.getPath());
+        storage.setSplitFiles(true);
+        return storage;
+    }
+
+    private void deleteFiles(MoneySplitFiles splitFiles) {
+        for (File section : splitFiles.getDirectory().listFiles()) {
+            section.delete();
+        }
+        splitFiles.getDirectory().delete();
+        file.delete();
+    }
+
+    @Test
+    void testOnlyChangedSectionsAreWritten() throws IOException {
+        Files.write(file.toPath(), ("INIT @ false\nBS @ 100.0\nINC @ 500.0 @ salary @ 1/1/2019\n"
+                + "EXP @ 3.0 @ noodle @ food @ 2/1/2019\n").getBytes());
+        MoneyStorage storage = splitStorage();
+        Account account = storage.load();
+        storage.writeToFile(account);
+        MoneySplitFiles splitFiles = storage.getSplitFiles();
+        assertTrue(splitFiles.exists());
+        int rewrites = splitFiles.getRewriteCount();
+
+        account.getExpListTotal().add(new Expenditure(4, "rice", "food", LocalDate.of(2019, 1, 3)));
+        storage.writeToFile(account);
+        assertEquals(1, splitFiles.getAppendCount());
+        assertEquals(rewrites, splitFiles.getRewriteCount());
+
+        account.getIncomeListTotal().set(0, new Income(600, "salary", LocalDate.of(2019, 1, 1)));
+        storage.writeToFile(account);
+        assertEquals(rewrites + 1, splitFiles.getRewriteCount());
+        storage.writeToFile(account);
+        assertEquals(rewrites + 1, splitFiles.getRewriteCount());
+        assertEquals(1, splitFiles.getAppendCount());
+
+        Account loaded = splitStorage().load();
+        assertEquals(2, loaded.getExpListTotal().size());
+        assertEquals("rice", loaded.getExpListTotal().get(1).getDescription());
+        assertEquals(600, loaded.getIncomeListTotal().get(0).getPrice());
+        assertEquals(100, loaded.getBaseSavings());
+        deleteFiles(splitFiles);
+    }
+}
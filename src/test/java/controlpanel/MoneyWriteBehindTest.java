@@ -0,0 +1,84 @@
+package controlpanel;
+
+import money.Account;
+import money.Expenditure;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MoneyWriteBehindTest {
+    private File file;
+    private MoneyStorage storage;
+
+    MoneyWriteBehindTest() {
+        file = Paths.get("data/account-write-behind-test.txt").toAbsolutePath().toFile();
+        storage = new MoneyStorage(file.getPath());
+    }
+
+    @Test
+    void testBurstIsCoalesced() throws IOException {
+        storage.setWriteBehind(10000);
+        Account account = new Account();
+        for (int i = 0; i < 500; i++) {
+            synchronized (account) {
+                account.getExpListTotal().add(new Expenditure(3, "noodle" + i, "food", LocalDate.of(2019, 1, 1)));
+                storage.writeToFile(account);
+            }
+        }
+        MoneyWriteBehind writeBehind = storage.getWriteBehind();
+        storage.close();
+        assertEquals(500, writeBehind.getChangeCount());
+        assertTrue(writeBehind.getWriteCount() <= 5);
+        assertEquals(500, new MoneyStorage(file.getPath()).load().getExpListTotal().size());
+        file.delete();
+    }
+
+    @Test
+    void testMaxDelay() throws InterruptedException, IOException {
+        storage.setWriteBehind(50);
+        Account account = new Account();
+        account.getExpListTotal().add(new Expenditure(3, "noodle", "food", LocalDate.of(2019, 1, 1)));
+        storage.writeToFile(account);
+        for (int i = 0; i < 100 && storage.getWriteBehind().getWriteCount() == 0; i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(1, storage.getWriteBehind().getWriteCount());
+        assertEquals(1, new MoneyStorage(file.getPath()).load().getExpListTotal().size());
+        storage.close();
+        file.delete();
+    }
+
+    @Test
+    void testCloseStopsWriter() throws IOException {
+        int writers = countWriterThreads();
+        storage.setWriteBehind(10000);
+        assertEquals(writers + 1, countWriterThreads());
+        storage.setWriteBehind(10000);
+        assertEquals(writers + 1, countWriterThreads());
+        Account account = new Account();
+        account.getExpListTotal().add(new Expenditure(3, "noodle", "food", LocalDate.of(2019, 1, 1)));
+        storage.writeToFile(account);
+        storage.close();
+        assertEquals(writers, countWriterThreads());
+        assertNull(storage.getWriteBehind());
+        assertEquals(1, new MoneyStorage(file.getPath()).load().getExpListTotal().size());
+        file.delete();
+    }
+
+    private int countWriterThreads() {
+        int count = 0;
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            if (thread.getName().equals("money-writer") && thread.isAlive()) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
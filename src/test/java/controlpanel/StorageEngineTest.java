@@ -0,0 +1,104 @@
+package controlpanel;
+
+import money.Account;
+import money.Expenditure;
+import money.Income;
+import money.Money;
+import moneycommands.AddExpenditureCommand;
+import moneycommands.DeleteExpenditureCommand;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.text.ParseException;
+import java.time.LocalDate;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class StorageEngineTest {
+
+    @Test
+    void testOpenBackends() throws DukeException {
+        assertTrue(StorageEngine.open("text", "data/account-test.txt") instanceof MoneyStorage);
+        assertTrue(((MoneyStorage) StorageEngine.open("journal", "data/account-test.txt")).isJournaled());
+        assertTrue(((MoneyStorage) StorageEngine.open("split", "data/account-test.txt")).getSplitFiles() != null);
+        assertTrue(StorageEngine.open("Memory", "data/account-test.txt") instanceof InMemoryStorage);
+        DukeException thrown = assertThrows(DukeException.class, () ->
+                StorageEngine.open("cloud", "data/account-test.txt"));
+        assertEquals("There is no storage backend called cloud, try text, split, journal, binary or memory",
+                thrown.getMessage());
+    }
+
+    @Test
+    void testInMemoryStorage() throws IOException, DukeException, ParseException {
+        StorageEngine storage = new InMemoryStorage();
+        Account account = storage.load();
+        Ui ui = new Ui();
+        new AddExpenditureCommand("spent noodle /amt 3 /cat food /on 1/1/2019").execute(account, ui, storage);
+        DeleteExpenditureCommand delete = new DeleteExpenditureCommand("delete expenditure 1");
+        delete.execute(account, ui, storage);
+        assertEquals(0, account.getExpListTotal().size());
+        delete.undo(account, ui, storage);
+        assertEquals(1, account.getExpListTotal().size());
+        assertEquals(3, ((InMemoryStorage) storage).getWriteCount());
+        assertEquals(0, storage.getStoredBytes());
+    }
+
+    @Test
+    void testDataFileIsUtf8() throws IOException {
+        File file = new File("data/account-utf8-test.txt");
+        file.delete();
+        MoneyStorage storage = new MoneyStorage(file.getPath());
+        Account account = storage.load();
+        account.getExpListTotal().add(new Expenditure(3, "caf\u00e9 \u2615", "\u98df\u7269", LocalDate.of(2019, 1, 1)));
+        storage.writeToFile(account);
+        storage.flush();
+        String text = new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+        assertTrue(text.contains("caf\u00e9 \u2615 @ \u98df\u7269"));
+        Expenditure loaded = new MoneyStorage(file.getPath()).load().getExpListTotal().get(0);
+        assertEquals("caf\u00e9 \u2615", loaded.getDescription());
+        assertEquals("\u98df\u7269", loaded.getCategory());
+        file.delete();
+    }
+
+    @Test
+    void testParallelLoadMatchesSequentialLoad() throws IOException {
+        File file = new File("data/account-parallel-test.txt");
+        file.delete();
+        MoneyStorage storage = new MoneyStorage(file.getPath());
+        Account account = storage.load();
+        LocalDate date = LocalDate.of(2019, 1, 1);
+        for (int i = 0; i < 30000; i++) {
+            account.getExpListTotal().add(new Expenditure(Money.ofCents(100 + i), "lunch " + i,
+                    "food " + (i % 7), date.plusDays(i % 400)));
+            if (i % 10 == 0) {
+                account.getIncomeListTotal().add(new Income(Money.ofCents(5000 + i), "pay " + i, date));
+            }
+        }
+        storage.writeToFile(account);
+        storage.flush();
+        assertTrue(file.length() >= 1 << 20);
+
+        MoneyStorage sequential = new MoneyStorage(file.getPath());
+        sequential.setParallelLoad(false);
+        Account expected = sequential.load();
+        MoneyStorage parallel = new MoneyStorage(file.getPath());
+        ForkJoinPool pool = new ForkJoinPool(4);
+        parallel.setLoadPool(pool);
+        Account loaded = parallel.load();
+        pool.shutdown();
+        assertEquals(expected.getExpListTotal().toString(), loaded.getExpListTotal().toString());
+        assertEquals(expected.getIncomeListTotal().toString(), loaded.getIncomeListTotal().toString());
+        assertEquals(expected.getTotalExpCents(), loaded.getTotalExpCents());
+        assertEquals(expected.getExpTimeIndex().size(), loaded.getExpTimeIndex().size());
+        assertEquals(expected.getExpCategoryIndex().getRecords("food 3").toString(),
+                loaded.getExpCategoryIndex().getRecords("food 3").toString());
+        loaded.verifyTotals();
+        file.delete();
+    }
+}
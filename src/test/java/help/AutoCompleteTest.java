@@ -18,6 +18,9 @@ public class AutoCompleteTest {
         "list all expenditure",
         "list month income",
         "list month expenditure",
+        "list category [category]",
+        "list largest [expenditure/income] [number]",
+        "list [expenditure/income] /min [amount] /max [amount]",
         "check income [month] [year]",
         "check expenditure [month] [year]",
         "goal [desc] /amt [cost] /by [d/M/yyyy] /priority [priority level]",
@@ -56,7 +59,10 @@ public class AutoCompleteTest {
         "graph expenditure trend line_graph",
         "graph expenditure trend pie_chart",
         "graph finance status /until [date]",
+        "find~ [words] /top [number of records]",
+        "query [explain] type:[exp/inc] cat:[category] amt>[amount] on:[yyyy-mm-dd]..[yyyy-mm-dd] text:[word]",
         "change icon",
+        "stats storage",
         "undo",
         "bye"
     };
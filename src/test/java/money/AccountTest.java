@@ -0,0 +1,45 @@
+package money;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class AccountTest {
+
+    @Test
+    void testRunningTotals() {
+        Account account = new Account();
+        LocalDate date = LocalDate.of(2019, 10, 1);
+        account.getIncomeListTotal().add(new Income(Money.parse("1000.10"), "salary", date));
+        account.getExpListTotal().add(new Expenditure(Money.parse("4.50"), "lunch", "food", date));
+        account.getExpListTotal().add(new Expenditure(Money.parse("0.20"), "candy", "food", date));
+        assertEquals(100010, account.getTotalIncomeCents());
+        assertEquals(470, account.getTotalExpCents());
+
+        account.getExpListTotal().remove(0);
+        account.getExpListTotal().set(0, new Expenditure(Money.parse("2.05"), "tea", "food", date));
+        assertEquals(205, account.getTotalExpCents());
+
+        Account copy = new Account(account);
+        copy.getIncomeListTotal().clear();
+        assertEquals(0, copy.getTotalIncomeCents());
+        assertEquals(0, account.getTotalIncomeCents());
+        account.verifyTotals();
+    }
+
+    @Test
+    void testVerifyTotals() {
+        Account account = new Account();
+        Account.setVerifyingTotals(true);
+        try {
+            account.getExpListTotal().add(new Expenditure(Money.parse("3"), "noodle", "food",
+                    LocalDate.of(2019, 1, 1)));
+            assertEquals(300, account.getTotalExpCents());
+            account.verifyTotals();
+        } finally {
+            Account.setVerifyingTotals(false);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package money;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static money.RecordAssertions.assertRecords;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class AmountIndexTest {
+    private LocalDate testDate = LocalDate.of(2019, 10, 9);
+
+    private static List<Expenditure> between(List<Expenditure> expenditures, long minCents, long maxCents) {
+        List<Expenditure> found = new ArrayList<>();
+        for (Expenditure e : expenditures) {
+            if (e.getPriceCents() >= minCents && e.getPriceCents() <= maxCents) {
+                found.add(e);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Records read back from columns are new objects on every read, so lists of records are
+     * compared by how the records print.
+     */
+    @Test
+    void testRangesFollowList() {
+        Account account = new Account();
+        RecordList<Expenditure> expenditures = account.getExpListTotal();
+        Expenditure noodle = new Expenditure(Money.parse("3.50"), "noodle", "food", testDate);
+        Expenditure laptop = new Expenditure(Money.parse("1500"), "laptop", "work", testDate);
+        Expenditure rice = new Expenditure(Money.parse("3.50"), "rice", "food", testDate);
+        Expenditure rent = new Expenditure(Money.parse("800"), "rent", "home", testDate);
+        expenditures.addAll(Arrays.asList(noodle, laptop, rice, rent));
+        AmountIndex<Expenditure> index = account.getExpAmountIndex();
+
+        assertRecords(Arrays.asList(rent, laptop), index.between(50000, Long.MAX_VALUE));
+        assertRecords(Arrays.asList(laptop, rent), index.betweenInListOrder(50000, Long.MAX_VALUE));
+        assertRecords(Arrays.asList(noodle, rice), index.between(350, 350));
+        assertEquals(3, index.count(0, 80000));
+        assertEquals(0, index.count(351, 79999));
+        assertRecords(Arrays.asList(laptop, rent, rice), index.largest(3));
+        assertEquals(Collections.emptyList(), index.largest(0));
+
+        Expenditure car = new Expenditure(Money.parse("20000"), "car", "transport", testDate);
+        expenditures.add(car);
+        assertRecords(Arrays.asList(car, laptop), index.largest(2));
+        expenditures.remove(1);
+        assertRecords(Arrays.asList(car, rent, rice, noodle), index.largest(10));
+        expenditures.set(0, new Expenditure(Money.parse("1"), "tea", "food", testDate));
+        assertEquals(expenditures.get(0).toString(), index.between(0, 100).get(0).toString());
+        expenditures.clear();
+        assertEquals(Collections.emptyList(), index.largest(10));
+    }
+
+    @Test
+    void testMergesAppendedRecords() {
+        Account account = new Account();
+        RecordList<Expenditure> expenditures = account.getExpListTotal();
+        AmountIndex<Expenditure> index = account.getExpAmountIndex();
+        Random random = new Random(5);
+        for (int round = 0; round < 20; round++) {
+            for (int i = random.nextInt(200); i > 0; i--) {
+                long cents = round == 7 && i == 1 ? Long.MAX_VALUE / 2 : random.nextInt(10000) - 100;
+                expenditures.add(new Expenditure(Money.ofCents(cents), "item", "food", testDate));
+            }
+            if (round % 5 == 4) {
+                expenditures.remove(random.nextInt(expenditures.size()));
+            }
+            long min = random.nextInt(10000) - 100;
+            long max = min + random.nextInt(3000);
+            assertRecords(between(expenditures, min, max), index.betweenInListOrder(min, max));
+            List<Expenditure> sorted = between(expenditures, min, max);
+            sorted.sort(Comparator.comparingLong(Expenditure::getPriceCents));
+            assertRecords(sorted, index.between(min, max));
+            assertEquals(sorted.size(), index.count(min, max));
+
+            List<Expenditure> largest = new ArrayList<>(expenditures);
+            Collections.reverse(largest);
+            largest.sort(Comparator.comparingLong(Expenditure::getPriceCents).reversed());
+            assertRecords(largest.subList(0, Math.min(15, largest.size())), index.largest(15));
+        }
+    }
+}
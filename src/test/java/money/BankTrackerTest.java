@@ -90,4 +90,22 @@ public class BankTrackerTest {
         Assertions.assertThrows(DukeException.class, () -> sample1.predictAmt(sampleDate2));
     }
 
+    @Test
+    void findTrackerByName_indexFollowsList_success() throws DukeException {
+        Account newAccount = new Account();
+        BankTracker first = new BankTracker("DBS", 100, sampleDate, 0.01);
+        BankTracker second = new BankTracker("DBS", 200, sampleDate, 0.01);
+        newAccount.getBankTrackerList().add(first);
+        newAccount.getBankTrackerList().add(second);
+        newAccount.getBankTrackerList().add(sample1);
+        Assertions.assertSame(first, newAccount.findTrackerByName("DBS"));
+        newAccount.getBankTrackerList().remove(0);
+        Assertions.assertSame(second, newAccount.findTrackerByName("DBS"));
+        Assertions.assertThrows(DukeException.class, () -> newAccount.findTrackerByName("ocbc"));
+
+        newAccount.getBankTrackerIndex().setIgnoringCase(true);
+        Assertions.assertSame(sample1, newAccount.findTrackerByName("ocbc"));
+        newAccount.getBankTrackerList().remove(sample1);
+        Assertions.assertThrows(DukeException.class, () -> newAccount.findTrackerByName("OCBC"));
+    }
 }
@@ -0,0 +1,81 @@
+package money;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class EditDistanceIndexTest {
+
+    @Test
+    void testSearchFindsDistances() {
+        EditDistanceIndex index = new EditDistanceIndex();
+        index.add(0, "protein");
+        index.add(1, "protin");
+        index.add(2, "sitting");
+        index.add(3, "protein");
+        List<String> found = new ArrayList<>();
+        index.search("protien", 2, (id, distance) -> found.add(id + ":" + distance));
+        assertEquals(Arrays.asList("0:2", "3:2", "1:1"), found);
+        found.clear();
+        index.search("kitten", 3, (id, distance) -> found.add(id + ":" + distance));
+        assertEquals(Arrays.asList("2:3"), found);
+        assertEquals(4, index.size());
+        index.clear();
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void testSearchFindsEveryWordWithinDistance() {
+        EditDistanceIndex index = new EditDistanceIndex();
+        Random random = new Random(3);
+        List<String> words = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            StringBuilder word = new StringBuilder();
+            int length = 1 + random.nextInt(9);
+            for (int c = 0; c < length; c++) {
+                word.append((char) ('a' + random.nextInt(6)));
+            }
+            words.add(word.toString());
+            index.add(i, word.toString());
+        }
+
+        for (String query : new String[] {"abcd", "fffeee", "a", "abcdefabc", "", words.get(0)}) {
+            for (int maxDistance = 0; maxDistance <= 2; maxDistance++) {
+                List<String> expected = new ArrayList<>();
+                for (int i = 0; i < words.size(); i++) {
+                    int distance = distance(query, words.get(i));
+                    if (distance <= maxDistance) {
+                        expected.add(i + ":" + distance);
+                    }
+                }
+                List<String> found = new ArrayList<>();
+                index.search(query, maxDistance, (id, distance) -> found.add(id + ":" + distance));
+                Collections.sort(expected);
+                Collections.sort(found);
+                assertEquals(expected, found);
+            }
+        }
+    }
+
+    private static int distance(String a, String b) {
+        int[][] table = new int[a.length() + 1][b.length() + 1];
+        for (int i = 0; i <= a.length(); i++) {
+            for (int j = 0; j <= b.length(); j++) {
+                if (i == 0 || j == 0) {
+                    table[i][j] = i + j;
+                } else {
+                    int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                    table[i][j] = Math.min(Math.min(table[i - 1][j], table[i][j - 1]) + 1,
+                            table[i - 1][j - 1] + cost);
+                }
+            }
+        }
+        return table[a.length()][b.length()];
+    }
+}
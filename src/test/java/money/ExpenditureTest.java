@@ -14,6 +14,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.hamcrest.CoreMatchers.is;
@@ -47,6 +48,15 @@ public class ExpenditureTest {
                 ui.getOutputString().split(" Now")[0]);
     }
 
+    @Test
+    void testAddLargeExpenditureToTheCent() throws ParseException, DukeException {
+        account.getExpListTotal().clear();
+        new AddExpenditureCommand("spent car /amt 1234567.89 /cat transport /on 9/10/1997")
+                .execute(account, ui, storage);
+        assertEquals(123456789, account.getExpListTotal().get(0).getPriceCents());
+        assertEquals(123456789, account.getTotalExpCents());
+    }
+
     @Test
     void testListAllExpenditure() throws ParseException, DukeException {
         account.getExpListTotal().clear();
@@ -147,4 +157,12 @@ public class ExpenditureTest {
         MoneyCommand exitCommand = new ExitMoneyCommand();
         exitCommand.execute(account, ui, storage);
     }
+
+    @Test
+    void testFormatDate() {
+        for (LocalDate date : Arrays.asList(testDate, LocalDate.of(2019, 1, 31), LocalDate.of(999, 12, 1),
+                LocalDate.of(10000, 2, 3))) {
+            assertEquals(date.format(dateTimeFormatter), new Expenditure(1, "item", "cat", date).getBoughtDate());
+        }
+    }
 }
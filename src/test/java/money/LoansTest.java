@@ -17,8 +17,11 @@ import java.nio.file.Paths;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -53,6 +56,17 @@ class LoansTest {
                 + account.getOutgoingLoans().size() + " outgoing loans\n", ui.getOutputString());
     }
 
+    @Test
+    void testAddLargeLoanToTheCent() throws ParseException, DukeException {
+        account.getLoans().clear();
+        new AddLoanCommand("lent Bob /amt 1234567.89 /on 9/10/1997").execute(account, ui, storage);
+        assertEquals(123456789, account.getLoans().get(0).getOutstandingCents());
+        DukeException thrown = assertThrows(DukeException.class, () ->
+                new AddLoanCommand("lent Tom /amt 1e400 /on 9/10/1997").execute(account, ui, storage));
+        assertEquals("Please enter in the format: lent/borrowed <person> /amt <amount> /on <date>\n",
+                thrown.getMessage());
+    }
+
     @Test
     void testAddIncomingLoan() throws ParseException, DukeException {
         String addInput = "borrowed my daddy /amt 1000 /on 9/10/1997";
@@ -167,6 +181,24 @@ class LoansTest {
                 + "The incoming loan has been settled\n", ui.getOutputString());
     }
 
+    @Test
+    void testSettleLargeLoanToTheCent() throws ParseException, DukeException {
+        account.getLoans().clear();
+        Loan loan = new Loan(Money.parse("1234567.89"), "my daddy", testDate, Loan.Type.INCOMING);
+        account.getLoans().add(loan);
+        new SettleLoanCommand("paid 0.01 /to my daddy").execute(account, ui, storage);
+        assertEquals(123456788, loan.getOutstandingCents());
+        MoneyCommand settleAllCommand = new SettleLoanCommand("paid all /to my daddy");
+        settleAllCommand.execute(account, ui, storage);
+        assertEquals(0, loan.getOutstandingCents());
+        assertEquals(true, loan.getStatus());
+        List<Expenditure> repayments = account.getExpListTotal();
+        assertEquals(123456788, repayments.get(repayments.size() - 1).getPriceCents());
+        settleAllCommand.undo(account, ui, storage);
+        assertEquals(123456788, loan.getOutstandingCents());
+        assertEquals(false, loan.getStatus());
+    }
+
     @Test
     void testDeleteLoans() throws ParseException, DukeException {
         account.getLoans().clear();
@@ -412,4 +444,25 @@ class LoansTest {
         MoneyCommand exitCommand = new ExitMoneyCommand();
         exitCommand.execute(account, ui, storage);
     }
+
+    @Test
+    void testLoanIndexFollowsLoansList() {
+        account.getLoans().clear();
+        Loan alice = new Loan(50, "Alice", testDate, Loan.Type.INCOMING);
+        Loan bob = new Loan(20, "Bob", testDate, Loan.Type.OUTGOING);
+        Loan carol = new Loan(30, "Carol", testDate, Loan.Type.INCOMING);
+        account.getLoans().add(alice);
+        List<Loan> incomingLoans = account.getIncomingLoans();
+        account.getLoans().add(bob);
+        account.getLoans().add(carol);
+        assertEquals(Arrays.asList(alice, carol), incomingLoans);
+        assertEquals(1, account.getLoanIndex().indexOf(Loan.Type.INCOMING, "Carol"));
+        assertEquals(0, account.getLoanIndex().indexOf(Loan.Type.OUTGOING, "Bob"));
+        assertEquals(-1, account.getLoanIndex().indexOf(Loan.Type.OUTGOING, "Carol"));
+
+        account.getLoans().remove(0);
+        assertEquals(Arrays.asList(carol), incomingLoans);
+        assertEquals(0, account.getLoanIndex().indexOf(Loan.Type.INCOMING, "Carol"));
+        assertEquals(-1, account.getLoanIndex().indexOf(Loan.Type.INCOMING, "Alice"));
+    }
 }
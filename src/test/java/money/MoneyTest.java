@@ -0,0 +1,42 @@
+package money;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class MoneyTest {
+
+    @Test
+    void testParse() {
+        assertEquals(1250L, Money.parse("12.5").getCents());
+        assertEquals(1200L, Money.parse("12").getCents());
+        assertEquals(1235L, Money.parse("12.345").getCents());
+        assertEquals(-5L, Money.parse("-.05").getCents());
+        assertEquals(1234567890123L, Money.parse("12345678901.23").getCents());
+        assertEquals(100000000L, Money.parse("1.0E6").getCents());
+        assertThrows(NumberFormatException.class, () -> Money.parse("12.3a"));
+        assertThrows(NumberFormatException.class, () -> Money.parse("-"));
+    }
+
+    @Test
+    void testFormat() {
+        assertEquals("1234.50", Money.format(123450));
+        assertEquals(".05", Money.format(5));
+        assertEquals(".00", Money.format(0));
+        assertEquals("-.50", Money.format(-50));
+        assertEquals("-12.00", Money.ofCents(-1200).toString());
+    }
+
+    @Test
+    void testTotalsAreExact() {
+        Account account = new Account();
+        for (int i = 0; i < 100000; i++) {
+            account.getExpListTotal().add(new Expenditure(0.1f, "sweet", "food", LocalDate.of(2019, 1, 1)));
+        }
+        assertEquals(1000000L, account.getTotalExpCents());
+        assertEquals(10000f, account.getTotalExp());
+    }
+}
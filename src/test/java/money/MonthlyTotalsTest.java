@@ -0,0 +1,55 @@
+package money;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+public class MonthlyTotalsTest {
+
+    private Expenditure spend(String amount, String category, int month, int year) {
+        return new Expenditure(Money.parse(amount), "item", category, LocalDate.of(year, month, 15));
+    }
+
+    @Test
+    void testRangeTotals() {
+        Account account = new Account();
+        RecordList<Expenditure> expenditures = account.getExpListTotal();
+        expenditures.add(spend("10.50", "food", 6, 2019));
+        expenditures.add(spend("4", "food", 3, 2017));
+        expenditures.add(spend("100", "rent", 3, 2017));
+        expenditures.add(spend("7.25", "food", 12, 2019));
+
+        MonthlyTotals<Expenditure> totals = account.getExpMonthlyTotals();
+        assertEquals(11450, totals.getTotalCents(YearMonth.of(2017, 3), YearMonth.of(2019, 6)));
+        assertEquals(12175, totals.getTotalCents(YearMonth.of(2000, 1), YearMonth.of(2030, 1)));
+        assertEquals(1450, totals.getTotalCents("food", YearMonth.of(2017, 3), YearMonth.of(2019, 6)));
+        assertEquals(0, totals.getTotalCents("travel", YearMonth.of(2017, 3), YearMonth.of(2019, 6)));
+        assertEquals(0, totals.getMonthCents(YearMonth.of(2018, 1)));
+        assertEquals(0, totals.getTotalCents(YearMonth.of(2019, 6), YearMonth.of(2017, 3)));
+        assertArrayEquals(new long[] {1050, 0, 0}, totals.getMonthlyCents(YearMonth.of(2019, 6),
+                YearMonth.of(2019, 8)));
+    }
+
+    @Test
+    void testFollowsChangesToTheList() {
+        Account account = new Account();
+        RecordList<Expenditure> expenditures = account.getExpListTotal();
+        expenditures.add(spend("5", "food", 1, 2019));
+        expenditures.add(spend("20", "rent", 2, 2019));
+        MonthlyTotals<Expenditure> totals = account.getExpMonthlyTotals();
+        assertEquals(2500, totals.getTotalCents(YearMonth.of(2019, 1), YearMonth.of(2019, 2)));
+
+        expenditures.remove(1);
+        assertFalse(totals.getCategories().contains("rent"));
+        expenditures.add(spend("3", "food", 12, 2018));
+        assertEquals(800, totals.getTotalCents(YearMonth.of(2018, 1), YearMonth.of(2019, 12)));
+        assertEquals(300, totals.getMonthCents(YearMonth.of(2018, 12)));
+        expenditures.set(0, spend("1", "food", 1, 2019));
+        assertEquals(400, totals.getTotalCents("food", YearMonth.of(2018, 1), YearMonth.of(2019, 12)));
+    }
+}
@@ -0,0 +1,49 @@
+package money;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares lists of records field by field, so that a failure names the record and the field that differ.
+ */
+final class RecordAssertions {
+
+    private RecordAssertions() {
+    }
+
+    /**
+     * Checks that two lists hold records of the same kind, amount, description, category and date,
+     * in the same order.
+     * @param expected The records that should have been found
+     * @param actual The records found
+     */
+    static void assertRecords(List<? extends Item> expected, List<? extends Item> actual) {
+        assertEquals(expected.size(), actual.size(), "number of records in " + actual);
+        for (int i = 0; i < expected.size(); i++) {
+            Item want = expected.get(i);
+            Item got = actual.get(i);
+            String where = "record " + i + " " + got;
+            assertEquals(want.getClass(), got.getClass(), where + ", kind");
+            assertEquals(want.getPriceCents(), got.getPriceCents(), where + ", cents");
+            assertEquals(want.getDescription(), got.getDescription(), where + ", description");
+            assertEquals(categoryOf(want), categoryOf(got), where + ", category");
+            assertEquals(dateOf(want), dateOf(got), where + ", date");
+        }
+    }
+
+    private static String categoryOf(Item record) {
+        return record instanceof Expenditure ? ((Expenditure) record).getCategory() : null;
+    }
+
+    private static Object dateOf(Item record) {
+        if (record instanceof Expenditure) {
+            return ((Expenditure) record).getDateBoughtDate();
+        } else if (record instanceof Income) {
+            return ((Income) record).getPayday();
+        } else if (record instanceof Loan) {
+            return ((Loan) record).getStartDate();
+        }
+        return null;
+    }
+}
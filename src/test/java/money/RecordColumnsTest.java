@@ -0,0 +1,55 @@
+package money;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Arrays;
+
+import static money.RecordAssertions.assertRecords;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class RecordColumnsTest {
+    private LocalDate testDate = LocalDate.of(2019, 10, 9);
+
+    /**
+     * Records read back from columns are new objects on every read, so lists of records are
+     * compared by how the records print.
+     */
+    @Test
+    void testRecordsReadBackAsNewObjects() {
+        Account account = new Account(true);
+        RecordList<Expenditure> expenditures = account.getExpListTotal();
+        Expenditure noodle = new Expenditure(Money.parse("3.50"), "noodle", "food", testDate);
+        Expenditure movie = new Expenditure(Money.parse("12"), "movie", "fun", testDate.plusDays(1));
+        Expenditure rice = new Expenditure(Money.parse("4"), "rice", "food", testDate.minusDays(40));
+        expenditures.addAll(Arrays.asList(noodle, movie, rice));
+
+        assertNotSame(noodle, expenditures.get(0));
+        assertEquals("[E]$3.50 noodle(on: 9/10/2019)", expenditures.get(0).toString());
+        RecordColumns<Expenditure> columns = expenditures.getColumns();
+        assertEquals(columns.getCategoryId(0), columns.getCategoryId(2));
+        assertEquals(columns.getStringId("food"), columns.getCategoryId(0));
+        assertEquals(1950, columns.sumCents());
+        assertEquals(1550, columns.sumCents(testDate, testDate.plusDays(1)));
+
+        expenditures.remove(0);
+        assertRecords(Arrays.asList(movie, rice), expenditures);
+        assertRecords(Arrays.asList(movie), account.getExpTimeIndex().inMonth(10, 2019));
+        assertEquals(400, account.getExpMonthlyTotals().getMonthCents(YearMonth.of(2019, 8)));
+        assertEquals(1, account.getExpCategoryIndex().getCount("food"));
+        assertEquals(1600, account.getTotalExpCents());
+        account.verifyTotals();
+    }
+
+    @Test
+    void testOnlyPlainRecordsFit() throws Exception {
+        Account account = new Account(true);
+        Goal goal = new Goal(Money.parse("100"), "car", "GS", testDate, "HIGH");
+        assertThrows(IllegalArgumentException.class, () -> account.getExpListTotal().add(goal));
+        assertEquals(0, account.getExpListTotal().size());
+        assertEquals(0, account.getTotalExpCents());
+    }
+}
@@ -0,0 +1,75 @@
+package money;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RecordListTest {
+
+    private RecordList<String> persistedList() {
+        RecordList<String> records = new RecordList<>();
+        records.add("a");
+        records.add("b");
+        records.add("c");
+        records.markClean();
+        return records;
+    }
+
+    @Test
+    void testAppendsAreAppendOnly() {
+        RecordList<String> records = persistedList();
+        assertFalse(records.isDirty());
+        records.add("d");
+        assertTrue(records.isDirty());
+        assertTrue(records.isAppendOnly());
+        assertEquals(3, records.getPersistedSize());
+        assertEquals(3, records.getDirtyFrom());
+    }
+
+    @Test
+    void testRemoveMarksDirtyFromIndex() {
+        RecordList<String> records = persistedList();
+        records.remove(1);
+        assertTrue(records.isDirty());
+        assertFalse(records.isAppendOnly());
+        assertEquals(1, records.getDirtyFrom());
+        records.markClean();
+        assertFalse(records.isDirty());
+        assertEquals(2, records.getPersistedSize());
+    }
+
+    @Test
+    void testTouchAndSort() {
+        RecordList<String> records = persistedList();
+        records.touch("c");
+        assertEquals(2, records.getDirtyFrom());
+        records.markClean();
+        records.sort(String::compareTo);
+        assertEquals(0, records.getDirtyFrom());
+    }
+
+    @Test
+    void testListenersSeeEveryChange() {
+        RecordList<String> records = persistedList();
+        StringBuilder events = new StringBuilder();
+        records.addListener(new RecordList.Listener<String>() {
+            @Override
+            public void added(int index, String record) {
+                events.append('+').append(record).append(index);
+            }
+
+            @Override
+            public void removed(int index, String record) {
+                events.append('-').append(record).append(index);
+            }
+        });
+        records.add("d");
+        records.set(0, "e");
+        records.remove(1);
+        records.subList(1, 3).clear();
+        assertEquals("+d3-a0+e0-b1-d2-c1", events.toString());
+        assertEquals(1, records.size());
+    }
+}
@@ -0,0 +1,97 @@
+package money;
+
+import controlpanel.DukeException;
+import controlpanel.InMemoryStorage;
+import controlpanel.MoneyStorage;
+import controlpanel.Ui;
+import moneycommands.AddExpenditureCommand;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.text.ParseException;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class StringPoolTest {
+
+    @Test
+    void testPoolIsBounded() {
+        StringPool pool = new StringPool(2);
+        String food = pool.intern(new String("food"));
+        assertSame(food, pool.intern(new String("food")));
+        assertEquals(0, pool.getId("food"));
+        assertEquals(1, pool.add("fun"));
+        String travel = new String("travel");
+        assertSame(travel, pool.intern(travel));
+        assertNotSame(travel, pool.intern(new String("travel")));
+        assertEquals(StringPool.NO_ID, pool.getId("travel"));
+        assertEquals(StringPool.NO_ID, pool.add(null));
+        assertEquals(2, pool.size());
+        assertEquals("fun", pool.get(1));
+    }
+
+    @Test
+    void testThreadsShareStrings() throws InterruptedException {
+        StringPool pool = new StringPool();
+        String[][] interned = new String[4][1000];
+        Thread[] threads = new Thread[interned.length];
+        for (int t = 0; t < threads.length; t++) {
+            String[] mine = interned[t];
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < mine.length; i++) {
+                    mine[i] = pool.intern(new String("item " + (i % 300)));
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(300, pool.size());
+        for (int i = 0; i < 1000; i++) {
+            for (int t = 1; t < interned.length; t++) {
+                assertSame(interned[0][i], interned[t][i]);
+            }
+            assertSame(interned[0][i], pool.get(pool.getId("item " + (i % 300))));
+        }
+    }
+
+    @Test
+    void testCommandsShareStrings() throws DukeException, ParseException {
+        Account account = new Account();
+        Ui ui = new Ui();
+        InMemoryStorage storage = new InMemoryStorage();
+        new AddExpenditureCommand("spent noodle /amt 3 /cat food /on 1/1/2019").execute(account, ui, storage);
+        new AddExpenditureCommand("spent noodle /amt 4 /cat food /on 2/1/2019").execute(account, ui, storage);
+        Expenditure first = account.getExpListTotal().get(0);
+        Expenditure second = account.getExpListTotal().get(1);
+        assertSame(first.getDescription(), second.getDescription());
+        assertSame(first.getCategory(), second.getCategory());
+        assertSame(account.getStringPool(), new Account(account).getStringPool());
+    }
+
+    @Test
+    void testLoadSharesStrings() throws IOException {
+        File file = File.createTempFile("pool", ".txt");
+        try {
+            Files.write(file.toPath(), Arrays.asList("INC @ 1000 @ From Caleb-san @ 1/10/2019",
+                    "INC @ 2000 @ From Caleb-san @ 2/10/2019",
+                    "EXP @ 450 @ lunch @ food @ 1/10/2019",
+                    "EXP @ 500 @ dinner @ food @ 1/10/2019"), StandardCharsets.UTF_8);
+            Account account = new MoneyStorage(file.getPath()).load();
+            assertSame(account.getIncomeListTotal().get(0).getDescription(),
+                    account.getIncomeListTotal().get(1).getDescription());
+            assertSame(account.getExpListTotal().get(0).getCategory(),
+                    account.getExpListTotal().get(1).getCategory());
+            assertSame(account.getExpListTotal().get(0).getCategory(), account.intern(new String("food")));
+        } finally {
+            file.delete();
+        }
+    }
+}
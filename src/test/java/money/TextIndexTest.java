@@ -0,0 +1,146 @@
+package money;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Random;
+
+import static money.RecordAssertions.assertRecords;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class TextIndexTest {
+    private LocalDate testDate = LocalDate.of(2019, 10, 9);
+
+    /**
+     * Records read back from columns are new objects on every read, so lists of records are
+     * compared by how the records print.
+     */
+    @Test
+    void testFindFollowsList() {
+        Account account = new Account();
+        RecordList<Expenditure> expenditures = account.getExpListTotal();
+        Expenditure noodle = new Expenditure(Money.parse("3.50"), "chicken noodle", "food", testDate);
+        Expenditure movie = new Expenditure(Money.parse("12"), "movie night", "fun", testDate);
+        Expenditure rice = new Expenditure(Money.parse("4"), "chicken rice", "food", testDate);
+        expenditures.addAll(Arrays.asList(noodle, movie, rice));
+        TextIndex<Expenditure> index = account.getExpTextIndex();
+
+        assertRecords(Arrays.asList(noodle, rice), index.find("chicken"));
+        assertRecords(Arrays.asList(noodle, rice), index.findPrefix("chick"));
+        assertRecords(Arrays.asList(noodle), index.find("chicken  food oodl"));
+        assertEquals(Collections.emptyList(), index.findPrefix("oodl"));
+        assertRecords(Arrays.asList(movie), index.find("fun"));
+        assertEquals(Collections.emptyList(), index.find(" "));
+
+        expenditures.remove(2);
+        assertRecords(Arrays.asList(noodle), index.find("chicken"));
+        Expenditure tea = new Expenditure(Money.parse("2"), "bubble tea", "food", testDate);
+        expenditures.add(0, tea);
+        assertRecords(Arrays.asList(tea, noodle), index.find("food"));
+        expenditures.add(rice);
+        assertRecords(Arrays.asList(noodle, rice), index.find("chicken"));
+        expenditures.remove(3);
+        assertEquals(Collections.emptyList(), index.find("ice"));
+        assertEquals(8, index.getWordCount());
+        expenditures.clear();
+        assertEquals(0, index.getWordCount());
+    }
+
+    @Test
+    void testBuiltIndexFollowsList() {
+        Account account = new Account();
+        RecordList<Expenditure> expenditures = account.getExpListTotal();
+        Expenditure noodle = new Expenditure(Money.parse("3.50"), "chicken noodle", "food", testDate);
+        expenditures.add(noodle);
+        account.buildTextIndexes();
+        Expenditure rice = new Expenditure(Money.parse("4"), "chicken rice", "food", testDate);
+        expenditures.add(0, rice);
+        expenditures.remove(1);
+
+        assertRecords(Arrays.asList(rice), account.getExpTextIndex().find("chicken"));
+        assertRecords(Arrays.asList(), account.getExpTextIndex().find("noodle"));
+    }
+
+    @Test
+    void testShortTermsAfterLongOnes() {
+        Account account = new Account();
+        RecordList<Income> incomes = account.getIncomeListTotal();
+        for (int i = 0; i < 30; i++) {
+            incomes.add(new Income(Money.parse("10"), "From Caleb-san ref" + i, testDate));
+        }
+        Income other = new Income(Money.parse("10"), "Deposit to OCBC ref7", testDate);
+        incomes.add(other);
+
+        assertRecords(Arrays.asList(incomes.get(7), other), account.getIncomeTextIndex().find("f7"));
+        assertRecords(Arrays.asList(incomes.get(7), incomes.get(17), incomes.get(27)),
+                account.getIncomeTextIndex().find("7 -san"));
+        assertRecords(Arrays.asList(other), account.getIncomeTextIndex().find("CBC 7"));
+        assertEquals(Collections.emptyList(), account.getIncomeTextIndex().find("OCBC 8"));
+    }
+
+    @Test
+    void testLoansAndGoalsAreIndexed() throws Exception {
+        Account account = new Account();
+        Loan loan = new Loan(Money.parse("50"), "Caleb-san", testDate, Loan.Type.OUTGOING);
+        account.getLoans().add(loan);
+        Goal goal = new Goal(Money.parse("100"), "new watch", "GS", testDate, "HIGH");
+        account.getShortTermGoals().add(goal);
+
+        assertRecords(Arrays.asList(loan), account.getLoanTextIndex().find("-san"));
+        assertRecords(Arrays.asList(goal), account.getGoalTextIndex().find("GS watch"));
+        assertRecords(Arrays.asList(goal), new Account(account).getGoalTextIndex().findPrefix("ne"));
+    }
+
+    @Test
+    void testFuzzyFindRanksByDistanceThenLatest() {
+        Account account = new Account();
+        RecordList<Expenditure> expenditures = account.getExpListTotal();
+        Expenditure shake = new Expenditure(Money.parse("5"), "protein shake", "gym", testDate);
+        Expenditure bar = new Expenditure(Money.parse("2"), "Protein bar", "snack", testDate);
+        Expenditure powder = new Expenditure(Money.parse("30"), "protin powder", "gym", testDate);
+        Expenditure lunch = new Expenditure(Money.parse("6"), "lunch with Caleb-san", "food", testDate);
+        expenditures.addAll(Arrays.asList(shake, bar, powder, lunch));
+        TextIndex<Expenditure> index = account.getExpTextIndex();
+
+        assertRecords(Arrays.asList(powder, bar, shake), index.findFuzzy("protien", 10));
+        assertRecords(Arrays.asList(powder, bar), index.findFuzzy("protien", 2));
+        assertRecords(Arrays.asList(powder, shake), index.findFuzzy("protien gim", 10));
+        assertRecords(Arrays.asList(lunch), index.findFuzzy("Calebsan", 10));
+        assertEquals(Collections.emptyList(), index.findFuzzy("prot", 10));
+        assertEquals(Collections.emptyList(), index.findFuzzy(" ", 10));
+
+        Expenditure tub = new Expenditure(Money.parse("30"), "protien tub", "gym", testDate);
+        expenditures.add(tub);
+        assertRecords(Arrays.asList(tub, powder, bar, shake), index.findFuzzy("protien", 10));
+        expenditures.remove(1);
+        assertRecords(Arrays.asList(tub, powder, shake), index.findFuzzy("protien", 10));
+    }
+
+    @Test
+    void testFollowsChangesInsideTheList() {
+        Account account = new Account();
+        RecordList<Expenditure> expenditures = account.getExpListTotal();
+        TextIndex<Expenditure> index = account.getExpTextIndex();
+        String[] words = {"chicken", "rice", "noodle", "tea", "movie", "taxi"};
+        String[] queries = {"chicken", "ice", "noodle tea", "ta", "movie food"};
+        Random random = new Random(3);
+        for (int round = 0; round < 300; round++) {
+            String description = words[random.nextInt(words.length)] + " " + words[random.nextInt(words.length)];
+            Expenditure record = new Expenditure(Money.parse("1"), description,
+                    round % 2 == 0 ? "food" : "fun", testDate);
+            int choice = random.nextInt(4);
+            if (choice == 0 && !expenditures.isEmpty()) {
+                expenditures.remove(random.nextInt(expenditures.size()));
+            } else if (choice == 1 && !expenditures.isEmpty()) {
+                expenditures.set(random.nextInt(expenditures.size()), record);
+            } else {
+                expenditures.add(random.nextInt(expenditures.size() + 1), record);
+            }
+            String query = queries[random.nextInt(queries.length)];
+            assertRecords(index.findIn(expenditures, query), index.find(query));
+            assertEquals(index.findIn(expenditures, query).size(), index.count(query));
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package money;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import static money.RecordAssertions.assertRecords;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TimeIndexTest {
+
+    private Expenditure spend(String description, int day, int month, int year) {
+        return new Expenditure(Money.parse("1"), description, "food", LocalDate.of(year, month, day));
+    }
+
+    /**
+     * Records read back from columns are new objects on every read, so lists of records are
+     * compared by how the records print.
+     */
+    @Test
+    void testMonthAndRangeQueries() {
+        Account account = new Account();
+        RecordList<Expenditure> expenditures = account.getExpListTotal();
+        Expenditure late = spend("late", 30, 9, 2019);
+        Expenditure early = spend("early", 1, 9, 2019);
+        Expenditure october = spend("october", 1, 10, 2019);
+        Expenditure lastYear = spend("last year", 31, 12, 2018);
+        expenditures.addAll(Arrays.asList(late, early, october, lastYear));
+
+        TimeIndex<Expenditure> index = account.getExpTimeIndex();
+        assertRecords(Arrays.asList(early, late), index.inMonth(9, 2019));
+        assertRecords(Arrays.asList(early, late, october), index.inYear(2019));
+        assertRecords(Arrays.asList(lastYear, early), index.between(LocalDate.of(2018, 12, 31),
+                LocalDate.of(2019, 9, 29)));
+        assertEquals(2, index.countBetween(LocalDate.of(2019, 9, 30), LocalDate.of(2019, 10, 1)));
+        assertTrue(index.between(LocalDate.of(2019, 10, 2), LocalDate.of(2019, 10, 1)).isEmpty());
+        assertEquals(LocalDate.of(2018, 12, 31), index.getFirstDay());
+        assertEquals(LocalDate.of(2019, 10, 1), index.getLastDay());
+    }
+
+    @Test
+    void testFollowsChangesToTheList() {
+        Account account = new Account();
+        RecordList<Expenditure> expenditures = account.getExpListTotal();
+        Expenditure first = spend("first", 5, 9, 2019);
+        Expenditure second = spend("second", 5, 9, 2019);
+        expenditures.add(first);
+        expenditures.add(second);
+        expenditures.remove(0);
+        assertRecords(Arrays.asList(second), account.getExpTimeIndex().inMonth(9, 2019));
+
+        Expenditure replacement = spend("replacement", 1, 8, 2019);
+        expenditures.set(0, replacement);
+        assertTrue(account.getExpTimeIndex().inMonth(9, 2019).isEmpty());
+        assertRecords(Arrays.asList(replacement), new Account(account).getExpTimeIndex().inMonth(8, 2019));
+        expenditures.clear();
+        assertEquals(0, account.getExpTimeIndex().size());
+        assertEquals(null, account.getExpTimeIndex().getFirstDay());
+    }
+
+    @Test
+    void testTellsIdenticalRecordsApart() {
+        for (boolean isColumnar : new boolean[] {false, true}) {
+            Account account = new Account(isColumnar);
+            RecordList<Expenditure> expenditures = account.getExpListTotal();
+            expenditures.add(spend("tea", 5, 9, 2019));
+            expenditures.add(spend("tea", 5, 9, 2019));
+            expenditures.add(spend("rice", 5, 9, 2019));
+            Expenditure twin = expenditures.remove(1);
+            assertEquals(2, account.getExpTimeIndex().size());
+            assertEquals("[[E]$1.00 tea(on: 5/9/2019), [E]$1.00 rice(on: 5/9/2019)]",
+                    account.getExpTimeIndex().inMonth(9, 2019).toString());
+            assertEquals(2, account.getExpCategoryIndex().getCount("food"));
+
+            expenditures.add(1, twin);
+            expenditures.add(0, spend("coffee", 5, 9, 2019));
+            assertRecords(expenditures, account.getExpTimeIndex().inMonth(9, 2019));
+            assertRecords(expenditures, account.getExpCategoryIndex().getRecords("food"));
+            assertEquals(400, account.getTotalExpCents());
+            account.verifyTotals();
+        }
+    }
+}
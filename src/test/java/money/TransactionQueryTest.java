@@ -0,0 +1,157 @@
+package money;
+
+import controlpanel.DukeException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static money.RecordAssertions.assertRecords;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class TransactionQueryTest {
+    private static final String[] WORDS = {"noodle", "chicken", "rice", "coffee", "taxi", "movie", "shirt"};
+    private static final String[] CATEGORIES = {"food", "transport", "fun", "clothes"};
+
+    private Account fill() {
+        Account account = new Account();
+        Random random = new Random(11);
+        for (int i = 0; i < 2000; i++) {
+            LocalDate date = LocalDate.of(2018, 1, 1).plusDays(random.nextInt(730));
+            String description = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)];
+            account.getExpListTotal().add(new Expenditure(Money.ofCents(100 + random.nextInt(5000)), description,
+                    CATEGORIES[random.nextInt(CATEGORIES.length)], date));
+            if (i % 10 == 0) {
+                account.getIncomeListTotal().add(new Income(Money.ofCents(100000 + random.nextInt(50000)),
+                        i % 20 == 0 ? "TA pay" : "coffee shop pay", date));
+            }
+        }
+        return account;
+    }
+
+    private static List<Expenditure> scan(Account account, String category, long minCents, long maxCents,
+                                          LocalDate from, LocalDate to, String words) {
+        List<Expenditure> found = new ArrayList<>();
+        for (Expenditure e : account.getExpListTotal()) {
+            if ((category == null || e.getCategory().equals(category))
+                    && e.getPriceCents() >= minCents && e.getPriceCents() <= maxCents
+                    && !e.getDateBoughtDate().isBefore(from) && !e.getDateBoughtDate().isAfter(to)
+                    && hasWords(e, words)) {
+                found.add(e);
+            }
+        }
+        found.sort(Comparator.comparing(Expenditure::getDateBoughtDate));
+        return found;
+    }
+
+    private static boolean hasWords(Expenditure expenditure, String words) {
+        if (words == null) {
+            return true;
+        }
+        for (String word : words.split(" ")) {
+            if (!expenditure.getDescription().contains(word) && !expenditure.getCategory().contains(word)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Records read back from columns are new objects on every read, so lists of records are
+     * compared by how the records print.
+     */
+    @SuppressWarnings("unchecked")
+    private static List<Expenditure> runExpenditure(Account account, String filters) throws DukeException {
+        List<TransactionQuery.Plan<? extends Item>> plans = TransactionQuery.parse(filters).plan(account);
+        assertEquals(1, plans.size());
+        return (List<Expenditure>) plans.get(0).run();
+    }
+
+    @Test
+    void testEveryPlanFindsWhatAScanFinds() throws DukeException {
+        Account account = fill();
+        LocalDate first = LocalDate.of(2018, 1, 1);
+        LocalDate last = LocalDate.of(2019, 12, 31);
+        assertRecords(scan(account, "food", 2001, Long.MAX_VALUE, LocalDate.of(2019, 1, 1),
+                LocalDate.of(2019, 6, 30), "noodle"),
+                runExpenditure(account, "type:exp cat:food amt>20 on:2019-01..2019-06 text:noodle"));
+        assertRecords(scan(account, null, 0, Long.MAX_VALUE, LocalDate.of(2018, 3, 5), LocalDate.of(2018, 3, 5),
+                null), runExpenditure(account, "type:exp on:2018-03-05"));
+        assertRecords(scan(account, "fun", 1000, 1999, first, last, null),
+                runExpenditure(account, "type:exp cat:fun amt>=10 amt<20"));
+        assertRecords(scan(account, null, 0, Long.MAX_VALUE, LocalDate.of(2019, 1, 1), last, "coffee"),
+                runExpenditure(account, "type:exp text:coffee on:2019.."));
+        assertRecords(scan(account, null, 0, Long.MAX_VALUE, first, LocalDate.of(2018, 12, 31), "chick rice"),
+                runExpenditure(account, "type:exp text:chick text:rice on:..2018"));
+        assertRecords(scan(account, null, 4999, 4999, first, last, null),
+                runExpenditure(account, "type:exp amt=49.99"));
+        assertEquals(2000, runExpenditure(account, "type:exp").size());
+    }
+
+    @Test
+    void testPlanReadsMostSelectiveIndex() throws DukeException {
+        Account account = fill();
+        TransactionQuery.Plan<? extends Item> plan = TransactionQuery.parse("type:exp cat:food on:2019-03-01")
+                .plan(account).get(0);
+        assertTrue(plan.explain().startsWith("Expenditure plan: date index, then check category\n"));
+        plan.run();
+        assertEquals(account.getExpTimeIndex().countBetween(LocalDate.of(2019, 3, 1), LocalDate.of(2019, 3, 1)),
+                plan.getRowsScanned());
+
+        plan = TransactionQuery.parse("type:exp cat:fun on:2018..2019 amt<30").plan(account).get(0);
+        assertTrue(plan.explain().startsWith("Expenditure plan: category index, then check date, amount\n"));
+        plan.run();
+        assertEquals(account.getExpCategoryIndex().getCount("fun"), plan.getRowsScanned());
+
+        plan = TransactionQuery.parse("type:exp cat:food text:coffee text:taxi").plan(account).get(0);
+        assertTrue(plan.explain().startsWith("Expenditure plan: text index, then check category\n"));
+
+        plan = TransactionQuery.parse("type:inc text:pay").plan(account).get(0);
+        assertThat(plan.explain(), is("Income plan: text index\n"
+                + "  estimated rows: text index 200; full scan 200\n"
+                + "  rows scanned: 0, rows matched: 0\n"));
+        plan.run();
+        assertThat(plan.explain().split("\n")[2], is("  rows scanned: 200, rows matched: 200"));
+
+        plan = TransactionQuery.parse("type:exp amt>=49 on:2019 explain").plan(account).get(0);
+        assertThat(plan.explain().split("\n")[0], is("Expenditure plan: amount index, then check date"));
+        plan.run();
+        assertEquals(account.getExpAmountIndex().count(4900, Long.MAX_VALUE), plan.getRowsScanned());
+    }
+
+    @Test
+    void testIncomeSourcesAndTypes() throws DukeException {
+        Account account = fill();
+        List<TransactionQuery.Plan<? extends Item>> plans = TransactionQuery.parse("cat:TA pay amt>1000")
+                .plan(account);
+        assertEquals(2, plans.size());
+        assertEquals(0, plans.get(0).run().size());
+        assertEquals(100, plans.get(1).run().size());
+        assertTrue(plans.get(1).explain().startsWith("Income plan: category index, then check amount\n"));
+        plans = TransactionQuery.parse("type:inc text:coffee").plan(account);
+        assertEquals("Income", plans.get(0).getKind());
+        assertEquals(100, plans.get(0).run().size());
+        plans = TransactionQuery.parse("type:inc type:exp text:coffee").plan(account);
+        assertEquals(2, plans.size());
+    }
+
+    @Test
+    void testInvalidFilters() {
+        String[] invalid = {"type:loan", "amt>abc", "amt~3", "on:2019-13", "on:yesterday", "colour:red", "cat:"};
+        for (String filters : invalid) {
+            try {
+                TransactionQuery.parse(filters);
+                fail(filters);
+            } catch (DukeException e) {
+                assertTrue(e.getMessage().contains("Please enter in the format: query"));
+            }
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package money;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TrigramIndexTest {
+
+    @Test
+    void testCandidatesHaveEveryTrigram() {
+        TrigramIndex index = new TrigramIndex();
+        index.add(0, "noodle");
+        index.add(1, "poodle");
+        index.add(2, "Caleb-san");
+        index.add(5, "odlenoo");
+        index.add(5, "noodle");
+
+        assertArrayEquals(new int[] {0, 1, 5}, index.candidates("odle"));
+        assertArrayEquals(new int[] {0, 5}, index.candidates("noodle"));
+        assertArrayEquals(new int[] {2}, index.candidates("-san"));
+        assertArrayEquals(new int[0], index.candidates("xyz"));
+        assertEquals(14, index.getTrigramCount());
+        index.clear();
+        assertArrayEquals(new int[0], index.candidates("odle"));
+    }
+
+    @Test
+    void testPostingsAcrossBlocks() {
+        TrigramIndex index = new TrigramIndex();
+        Random random = new Random(7);
+        List<String> strings = new ArrayList<>();
+        List<Integer> ids = new ArrayList<>();
+        int id = 0;
+        for (int i = 0; i < 5000; i++) {
+            String text = "ref" + random.nextInt(300) + (random.nextBoolean() ? "abc" : "xyz");
+            strings.add(text);
+            ids.add(id);
+            index.add(id, text);
+            id += 1 + (i % 97 == 0 ? 100000 : random.nextInt(3));
+        }
+        assertTrue(index.getPostingBytes() < 5000L * 8 * Integer.BYTES / 2);
+
+        for (String fragment : new String[] {"abc", "f12", "ref2", "17x", "9abc", "ref299xyz"}) {
+            List<Integer> expected = new ArrayList<>();
+            for (int i = 0; i < strings.size(); i++) {
+                if (hasTrigramsOf(strings.get(i), fragment)) {
+                    expected.add(ids.get(i));
+                }
+            }
+            assertArrayEquals(expected.stream().mapToInt(Integer::intValue).toArray(), index.candidates(fragment));
+        }
+    }
+
+    private static boolean hasTrigramsOf(String text, String fragment) {
+        for (int i = 0; i + TrigramIndex.GRAM <= fragment.length(); i++) {
+            if (!text.contains(fragment.substring(i, i + TrigramIndex.GRAM))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
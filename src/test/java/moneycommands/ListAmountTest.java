@@ -0,0 +1,77 @@
+package moneycommands;
+
+import controlpanel.DukeException;
+import controlpanel.InMemoryStorage;
+import controlpanel.Parser;
+import controlpanel.Ui;
+import money.Account;
+import money.Expenditure;
+import money.Income;
+import org.junit.jupiter.api.Test;
+
+import java.text.ParseException;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ListAmountTest {
+    private Ui ui = new Ui();
+    private Account account = new Account();
+    private InMemoryStorage storage = new InMemoryStorage();
+    private LocalDate testDate = LocalDate.of(2019, 10, 9);
+
+    ListAmountTest() {
+        account.getExpListTotal().add(new Expenditure(3, "noodle", "food", testDate));
+        account.getExpListTotal().add(new Expenditure(1500, "laptop", "work", testDate));
+        account.getExpListTotal().add(new Expenditure(800, "rent", "home", testDate));
+        account.getExpListTotal().add(new Expenditure(500, "phone", "work", testDate));
+        account.getIncomeListTotal().add(new Income(2000, "TA Pay", testDate));
+    }
+
+    @Test
+    void testListLargest() throws DukeException, ParseException {
+        MoneyCommand listLargest = Parser.moneyParse("list largest expenditure 2", false);
+        assertTrue(listLargest instanceof ListLargestCommand);
+        listLargest.execute(account, ui, storage);
+        assertEquals(" 1.[E]$1500.00 laptop(on: 9/10/2019)\n"
+                + " 2.[E]$800.00 rent(on: 9/10/2019)\n", ui.getGraphContainerString());
+        assertEquals("Got it, list will be printed in the other pane!\n", ui.getOutputString());
+
+        ui.clearGraphContainerString();
+        Parser.moneyParse("list largest income", false).execute(account, ui, storage);
+        assertEquals(" 1.[I] TA Pay(salary: $2000.00) (Paid On: 9/10/2019)\n", ui.getGraphContainerString());
+    }
+
+    @Test
+    void testListAmountRange() throws DukeException, ParseException {
+        MoneyCommand listRange = Parser.moneyParse("list expenditure /min 500", false);
+        assertTrue(listRange instanceof ListAmountRangeCommand);
+        listRange.execute(account, ui, storage);
+        assertEquals(" 1.[E]$500.00 phone(on: 9/10/2019)\n"
+                + " 2.[E]$800.00 rent(on: 9/10/2019)\n"
+                + " 3.[E]$1500.00 laptop(on: 9/10/2019)\n"
+                + "Total expenditure in range: $2800.00\n", ui.getGraphContainerString());
+
+        ui.clearGraphContainerString();
+        Parser.moneyParse("list expenditure /min 3 /max 799.99", false).execute(account, ui, storage);
+        assertEquals(" 1.[E]$3.00 noodle(on: 9/10/2019)\n"
+                + " 2.[E]$500.00 phone(on: 9/10/2019)\n"
+                + "Total expenditure in range: $503.00\n", ui.getGraphContainerString());
+    }
+
+    @Test
+    void testListAmountErrors() {
+        DukeException thrown = assertThrows(DukeException.class, () ->
+                new ListLargestCommand("list largest loans 3"));
+        assertEquals("Please input in the format: list largest <expenditure/income> <number>\n", thrown.getMessage());
+        thrown = assertThrows(DukeException.class, () -> new ListLargestCommand("list largest income 0"));
+        assertEquals("The number of records to list must be more than zero!\n", thrown.getMessage());
+        thrown = assertThrows(DukeException.class, () -> new ListAmountRangeCommand("list income /min lots"));
+        assertEquals("Please input in the format: list <expenditure/income> /min <amount> /max <amount>\n",
+                thrown.getMessage());
+        thrown = assertThrows(DukeException.class, () -> new ListAmountRangeCommand("list income /min 5 /max 4"));
+        assertEquals("The smallest amount cannot be more than the largest!\n", thrown.getMessage());
+    }
+}
@@ -0,0 +1,71 @@
+package moneycommands;
+
+import controlpanel.DukeException;
+import controlpanel.InMemoryStorage;
+import controlpanel.Parser;
+import controlpanel.Ui;
+import money.Account;
+import money.Expenditure;
+import org.junit.jupiter.api.Test;
+
+import java.text.ParseException;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ListCategoryTest {
+    private Ui ui = new Ui();
+    private Account account = new Account();
+    private InMemoryStorage storage = new InMemoryStorage();
+    private LocalDate testDate = LocalDate.of(2019, 10, 9);
+
+    @Test
+    void testListCategory() throws DukeException, ParseException {
+        Expenditure noodle = new Expenditure(3, "noodle", "food", testDate);
+        account.getExpListTotal().add(noodle);
+        account.getExpListTotal().add(new Expenditure(20, "movie", "fun", testDate));
+        account.getExpListTotal().add(new Expenditure(4.5f, "rice", "food", testDate));
+        account.getExpListTotal().remove(0);
+
+        MoneyCommand listCategory = Parser.moneyParse("list category food", false);
+        assertTrue(listCategory instanceof ListCategoryCommand);
+        listCategory.execute(account, ui, storage);
+        assertEquals(" 1.[E]$4.50 rice(on: 9/10/2019)\n"
+                + "Total expenditure for food : $4.50\n", ui.getGraphContainerString());
+        assertEquals("Got it, list will be printed in the other pane!\n", ui.getOutputString());
+        assertEquals(Arrays.asList("food", "fun"), account.getExpCategoryIndex().getCategories());
+        assertEquals(1, account.getExpCategoryIndex().getCount("food"));
+    }
+
+    @Test
+    void testUndoDeleteKeepsListOrder() throws DukeException, ParseException {
+        account.getExpListTotal().add(new Expenditure(3, "noodle", "food", testDate));
+        account.getExpListTotal().add(new Expenditure(20, "movie", "fun", testDate));
+        account.getExpListTotal().add(new Expenditure(4.5f, "rice", "food", testDate));
+        account.getExpListTotal().add(new Expenditure(2, "tea", "food", testDate));
+        DeleteExpenditureCommand delete = new DeleteExpenditureCommand("delete expenditure 1");
+        delete.execute(account, ui, storage);
+        delete.undo(account, ui, storage);
+        new DeleteExpenditureCommand("delete expenditure 2").execute(account, ui, storage);
+
+        ui.clearGraphContainerString();
+        new ListCategoryCommand("list category food").execute(account, ui, storage);
+        assertEquals(" 1.[E]$3.00 noodle(on: 9/10/2019)\n"
+                + " 2.[E]$4.50 rice(on: 9/10/2019)\n"
+                + " 3.[E]$2.00 tea(on: 9/10/2019)\n"
+                + "Total expenditure for food : $9.50\n", ui.getGraphContainerString());
+        assertEquals(0, account.getExpCategoryIndex().getCount("fun"));
+    }
+
+    @Test
+    void testListCategoryErrors() {
+        DukeException thrown = assertThrows(DukeException.class, () -> new ListCategoryCommand("list category "));
+        assertEquals("Please input in the format: list category <category>\n", thrown.getMessage());
+        thrown = assertThrows(DukeException.class, () ->
+                new ListCategoryCommand("list category travel").execute(account, ui, storage));
+        assertEquals("There are no expenditures in the category travel\n", thrown.getMessage());
+    }
+}